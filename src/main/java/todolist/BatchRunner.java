@@ -0,0 +1,199 @@
+package todolist;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+import todolist.commons.core.Config;
+import todolist.commons.core.LogsCenter;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.commons.util.ConfigUtil;
+import todolist.logic.Logic;
+import todolist.logic.LogicManager;
+import todolist.logic.commands.UndoableCommand;
+import todolist.logic.commands.exceptions.CommandException;
+import todolist.model.Model;
+import todolist.model.ModelManager;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.UserPrefs;
+import todolist.storage.Storage;
+import todolist.storage.StorageManager;
+
+/**
+ * Runs the commands of a script, one per line, against the to-do list without starting the UI.
+ * The commands are run in one model batch, so that the to-do list is written once, after the last of them.
+ * Blank lines, and lines starting with {@code #}, are skipped.
+ *
+ * Usage: {@code BatchRunner [--config <config file>] [<command file> | -]}, which reads the commands from
+ * standard input if no command file, or {@code -}, is given.
+ */
+public class BatchRunner {
+
+    private static final String COMMENT_PREFIX = "#";
+    private static final String CONFIG_OPTION = "--config";
+    private static final String STANDARD_INPUT = "-";
+    private static final String MESSAGE_USAGE = "Usage: BatchRunner [" + CONFIG_OPTION + " <config file>] "
+            + "[<command file> | " + STANDARD_INPUT + "]";
+
+    private final Logic logic;
+    private final Model model;
+
+    public BatchRunner(Logic logic, Model model) {
+        this.logic = logic;
+        this.model = model;
+    }
+
+    /**
+     * Runs every command read from {@code commands} in one batch, carrying on past the commands that fail.
+     */
+    public Result run(BufferedReader commands) throws IOException {
+        List<Failure> failures = new ArrayList<>();
+        int commandCount = 0;
+        int lineNumber = 0;
+        long startNanos = System.nanoTime();
+        model.beginBatch();
+        try {
+            String line;
+            while ((line = commands.readLine()) != null) {
+                lineNumber++;
+                String commandText = line.trim();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+                commandCount++;
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | RuntimeException e) {
+                    failures.add(new Failure(lineNumber, commandText, e.getMessage()));
+                }
+            }
+        } finally {
+            model.endBatch();
+        }
+        return new Result(commandCount, failures, System.nanoTime() - startNanos);
+    }
+
+    /**
+     * The outcome of running a script.
+     */
+    public static class Result {
+        private final int commandCount;
+        private final List<Failure> failures;
+        private final long elapsedNanos;
+
+        Result(int commandCount, List<Failure> failures, long elapsedNanos) {
+            this.commandCount = commandCount;
+            this.failures = Collections.unmodifiableList(failures);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getCommandCount() {
+            return commandCount;
+        }
+
+        public List<Failure> getFailures() {
+            return failures;
+        }
+
+        public long getElapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        }
+
+        /**
+         * Returns the number of commands run per second.
+         */
+        public double getThroughput() {
+            return elapsedNanos == 0 ? 0 : commandCount * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Ran %d commands (%d failed) in %d ms, %.1f commands/s",
+                    commandCount, failures.size(), getElapsedMillis(), getThroughput());
+        }
+    }
+
+    /**
+     * A command of a script that failed, and why.
+     */
+    public static class Failure {
+        public final int lineNumber;
+        public final String commandText;
+        public final String message;
+
+        Failure(int lineNumber, String commandText, String message) {
+            this.lineNumber = lineNumber;
+            this.commandText = commandText;
+            this.message = message;
+        }
+
+        @Override
+        public String toString() {
+            return "Line " + lineNumber + ": " + commandText + "\n    " + message;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String configFilePath = Config.DEFAULT_CONFIG_FILE;
+        String commandFilePath = STANDARD_INPUT;
+        for (int i = 0; i < args.length; i++) {
+            if (CONFIG_OPTION.equals(args[i]) && i + 1 < args.length) {
+                configFilePath = args[++i];
+            } else if (!args[i].startsWith("--")) {
+                commandFilePath = args[i];
+            } else {
+                System.err.println(MESSAGE_USAGE);
+                System.exit(2);
+            }
+        }
+
+        Config config = ConfigUtil.readConfig(configFilePath).orElse(new Config());
+        // Only warnings are logged, so that logging every command does not slow down large scripts
+        config.setLogLevel(Level.WARNING);
+        LogsCenter.init(config);
+
+        Storage storage = new StorageManager(Config.getToDoListFilePath(), Config.getUserPrefsFilePath(), config);
+        Optional<ReadOnlyToDoList> todoListOptional;
+        try {
+            todoListOptional = storage.readToDoList();
+        } catch (DataConversionException e) {
+            // The data file is left as it is rather than written over with the results of the script
+            System.err.println("Data file " + storage.getToDoListFilePath() + " is not in the correct format");
+            System.exit(2);
+            return;
+        }
+        UserPrefs userPrefs = storage.readUserPrefs().orElse(new UserPrefs());
+        Model model = new ModelManager(todoListOptional.orElseGet(ToDoList::new), userPrefs);
+        UndoableCommand.setUndoHistorySize(config.getUndoHistorySize());
+
+        Result result;
+        try (BufferedReader commands = openCommands(commandFilePath)) {
+            result = new BatchRunner(new LogicManager(model, storage), model).run(commands);
+        }
+        storage.flush();
+
+        for (Failure failure : result.getFailures()) {
+            System.err.println(failure);
+        }
+        System.out.println(result);
+        System.exit(result.getFailures().isEmpty() ? 0 : 1);
+    }
+
+    private static BufferedReader openCommands(String commandFilePath) throws IOException {
+        if (STANDARD_INPUT.equals(commandFilePath)) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(Paths.get(commandFilePath), StandardCharsets.UTF_8);
+    }
+
+}
@@ -20,6 +20,8 @@ import todolist.commons.util.ConfigUtil;
 import todolist.commons.util.StringUtil;
 import todolist.logic.Logic;
 import todolist.logic.LogicManager;
+import todolist.logic.commands.UndoableCommand;
+import todolist.model.DeadlineScheduler;
 import todolist.model.Model;
 import todolist.model.ModelManager;
 import todolist.model.ReadOnlyToDoList;
@@ -43,6 +45,7 @@ public class MainApp extends Application {
     protected Logic logic;
     protected Storage storage;
     protected Model model;
+    protected DeadlineScheduler deadlineScheduler;
     protected Config config;
     protected UserPrefs userPrefs;
 
@@ -53,7 +56,7 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(getApplicationParameter("config"));
-        storage = new StorageManager(Config.getToDoListFilePath(), Config.getUserPrefsFilePath());
+        storage = new StorageManager(Config.getToDoListFilePath(), Config.getUserPrefsFilePath(), config);
 
         userPrefs = initPrefs(config);
 
@@ -62,6 +65,10 @@ public class MainApp extends Application {
         model = initModelManager(storage, userPrefs);
 
         logic = new LogicManager(model, storage);
+        UndoableCommand.setUndoHistorySize(config.getUndoHistorySize());
+
+        deadlineScheduler = new DeadlineScheduler(model, Platform::runLater);
+        deadlineScheduler.start();
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -90,7 +97,8 @@ public class MainApp extends Application {
             initialData = new ToDoList();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        // Changes made on other threads are made on the JavaFX thread, which the task lists are shown on
+        return new ModelManager(initialData, userPrefs, Platform::runLater);
     }
 
     private void initLogging(Config config) {
@@ -158,7 +166,11 @@ public class MainApp extends Application {
     }
 
     private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+        // Stops the app on the JavaFX thread
+        EventsCenter.getInstance().registerHandler(this, EventsCenter.Lane.UI);
+        if (config.isAsyncEventDispatch()) {
+            EventsCenter.getInstance().startAsyncDispatch(Platform::runLater);
+        }
     }
 
     @Override
@@ -171,6 +183,10 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping To-do List ] =============================");
         ui.stop();
+        deadlineScheduler.stop();
+        // Lets the storage lane take the changes still waiting on it before they are saved
+        EventsCenter.getInstance().stopAsyncDispatch();
+        storage.flush();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -18,8 +18,19 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.Lane.GENERAL);
+    }
+
+    /**
+     * Uses default {@link EventsCenter}, whose events are to be handled on {@code lane}
+     */
+    public ComponentManager(EventsCenter.Lane lane) {
+        this(EventsCenter.getInstance(), lane);
+    }
+
+    public ComponentManager(EventsCenter eventsCenter, EventsCenter.Lane lane) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, lane);
     }
 
     protected void raise(BaseEvent event) {
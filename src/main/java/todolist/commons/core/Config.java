@@ -12,6 +12,13 @@ public class Config {
     public static final String DEFAULT_TODOLIST_FILENAME = "/todolist.xml";
     public static final String DEFAULT_TODOLIST_FILEPATH = "data/todolist.xml";
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final String STORAGE_FORMAT_XML = "xml";
+    public static final String STORAGE_FORMAT_JOURNAL = "journal";
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+    public static final String STORAGE_FORMAT_MAPPED = "mapped";
+    public static final long DEFAULT_SAVE_WINDOW_MILLIS = 200;
+    public static final long DEFAULT_SAVE_MAX_LATENCY_MILLIS = 1000;
+    public static final int DEFAULT_UNDO_HISTORY_SIZE = 1000;
 
     // Config values customizable through config file
     private String appTitle = "To-Do List App";
@@ -20,6 +27,11 @@ public class Config {
 
     private static String todoListFilePath = DEFAULT_TODOLIST_FILEPATH;
     private String todoListName = "MyToDoList";
+    private String storageFormat = STORAGE_FORMAT_XML;
+    private long saveWindowMillis = DEFAULT_SAVE_WINDOW_MILLIS;
+    private long saveMaxLatencyMillis = DEFAULT_SAVE_MAX_LATENCY_MILLIS;
+    private int undoHistorySize = DEFAULT_UNDO_HISTORY_SIZE;
+    private boolean asyncEventDispatch = true;
 
     public String getAppTitle() {
         return appTitle;
@@ -61,6 +73,60 @@ public class Config {
         this.todoListName = todoListName;
     }
 
+    public String getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(String storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns how long, in milliseconds, the to-do list file is left unwritten after a change
+     * so that further changes can be saved in the same write. 0 saves every change immediately.
+     */
+    public long getSaveWindowMillis() {
+        return saveWindowMillis;
+    }
+
+    public void setSaveWindowMillis(long saveWindowMillis) {
+        this.saveWindowMillis = saveWindowMillis;
+    }
+
+    /**
+     * Returns the longest time, in milliseconds, that a change may wait to be saved
+     * while further changes keep arriving.
+     */
+    public long getSaveMaxLatencyMillis() {
+        return saveMaxLatencyMillis;
+    }
+
+    public void setSaveMaxLatencyMillis(long saveMaxLatencyMillis) {
+        this.saveMaxLatencyMillis = saveMaxLatencyMillis;
+    }
+
+    /**
+     * Returns the number of commands that can be undone, counting back from the last one.
+     */
+    public int getUndoHistorySize() {
+        return undoHistorySize;
+    }
+
+    public void setUndoHistorySize(int undoHistorySize) {
+        this.undoHistorySize = undoHistorySize;
+    }
+
+    /**
+     * Returns true if events are to be handled on the threads of their handlers,
+     * rather than on the thread that raised them.
+     */
+    public boolean isAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
 
     @Override
     public boolean equals(Object other) {
@@ -77,12 +143,18 @@ public class Config {
                 && Objects.equals(logLevel, o.logLevel)
 //              && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
 //              && Objects.equals(todoListFilePath, o.todoListFilePath)
-                && Objects.equals(todoListName, o.todoListName);
+                && Objects.equals(todoListName, o.todoListName)
+                && Objects.equals(storageFormat, o.storageFormat)
+                && saveWindowMillis == o.saveWindowMillis
+                && saveMaxLatencyMillis == o.saveMaxLatencyMillis
+                && undoHistorySize == o.undoHistorySize
+                && asyncEventDispatch == o.asyncEventDispatch;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath, todoListFilePath, todoListName);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, todoListFilePath, todoListName, storageFormat,
+                saveWindowMillis, saveMaxLatencyMillis, undoHistorySize, asyncEventDispatch);
     }
 
     @Override
@@ -93,6 +165,11 @@ public class Config {
         sb.append("\nPreference file Location : " + userPrefsFilePath);
         sb.append("\nLocal data file location : " + todoListFilePath);
         sb.append("\nToDoList name : " + todoListName);
+        sb.append("\nStorage format : " + storageFormat);
+        sb.append("\nSave window (ms) : " + saveWindowMillis);
+        sb.append("\nSave max latency (ms) : " + saveMaxLatencyMillis);
+        sb.append("\nUndo history size : " + undoHistorySize);
+        sb.append("\nAsync event dispatch : " + asyncEventDispatch);
         return sb.toString();
     }
 
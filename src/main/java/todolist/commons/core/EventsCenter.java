@@ -1,17 +1,46 @@
 package todolist.commons.core;
 
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
 
 import todolist.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Each handler is registered on a {@link Lane}. Events are dispatched synchronously, on the thread that posts them,
+ * until {@link #startAsyncDispatch(Consumer)} is called. From then on each lane delivers events on its own thread:
+ * handlers on the {@link Lane#UI} lane on the JavaFX thread, handlers on the {@link Lane#STORAGE} lane on a single
+ * background thread, and all other handlers on another, so that posting an event never waits for its handlers.
+ * Every lane delivers events one at a time in the order they were posted, so each handler receives them in that order.
+ * An event is only handed to the lanes that have a handler for it.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
+
+    /** How long stopping the asynchronous dispatch waits for the events already posted to be handled. */
+    private static final long STOP_TIMEOUT_SECONDS = 10;
+
+    /** The threads that the handlers of events may be called on, once events are dispatched asynchronously. */
+    public enum Lane { UI, STORAGE, GENERAL }
+
     private final EventBus eventBus;
+    private final Map<Lane, LaneDispatcher> lanes = new EnumMap<>(Lane.class);
+    private volatile boolean isAsync = false;
     private static EventsCenter instance;
 
     public static EventsCenter getInstance() {
@@ -22,25 +51,215 @@ public class EventsCenter {
     }
 
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.stopAsyncDispatch();
+        }
         instance = null;
     }
 
     private EventsCenter() {
         eventBus = new EventBus();
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new LaneDispatcher(lane));
+        }
     }
 
+    /**
+     * Registers {@code handler} on the {@link Lane#GENERAL} lane.
+     */
     public EventsCenter registerHandler(Object handler) {
+        return registerHandler(handler, Lane.GENERAL);
+    }
+
+    /**
+     * Registers {@code handler}, whose handler methods are to be called on {@code lane}
+     * once events are dispatched asynchronously.
+     */
+    public EventsCenter registerHandler(Object handler, Lane lane) {
         eventBus.register(handler);
+        lanes.get(lane).register(handler);
         return this;
     }
 
+    /**
+     * Makes events be dispatched on the thread of the lane of each handler, rather than on the thread posting them.
+     * @param uiExecutor runs the tasks given to it on the JavaFX thread, in the order given.
+     */
+    public synchronized void startAsyncDispatch(Consumer<Runnable> uiExecutor) {
+        if (isAsync) {
+            return;
+        }
+        lanes.get(Lane.UI).start(uiExecutor);
+        lanes.get(Lane.STORAGE).start(newLaneExecutor("Storage events"));
+        lanes.get(Lane.GENERAL).start(newLaneExecutor("Events"));
+        isAsync = true;
+    }
+
+    /**
+     * Makes events be dispatched synchronously again. Events already posted are still delivered: this waits
+     * until the storage and general lanes have handled them, so that none is lost if the app exits next.
+     * Events posted to the UI lane are delivered on the JavaFX thread later.
+     */
+    public synchronized void stopAsyncDispatch() {
+        if (!isAsync) {
+            return;
+        }
+        isAsync = false;
+        for (LaneDispatcher lane : lanes.values()) {
+            lane.stop();
+        }
+        for (LaneDispatcher lane : lanes.values()) {
+            lane.awaitStopped();
+        }
+    }
+
+    public boolean isAsync() {
+        return isAsync;
+    }
+
+    /**
+     * Returns the number of events posted to {@code lane} that its handlers have not finished handling.
+     */
+    public int getQueueDepth(Lane lane) {
+        return lanes.get(lane).queueDepth.get();
+    }
+
+    /**
+     * Returns the largest number of events that were waiting on {@code lane} at once.
+     */
+    public int getMaxQueueDepth(Lane lane) {
+        return lanes.get(lane).maxQueueDepth.get();
+    }
+
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        // Formatted only if it is logged, as the events of large to-do lists can be slow to describe
+        logger.info(() -> "------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        if (!isAsync) {
+            eventBus.post(event);
+            return this;
+        }
+        for (LaneDispatcher lane : lanes.values()) {
+            lane.post(event);
+        }
         return this;
     }
 
+    private static ExecutorService newLaneExecutor(String threadName) {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Delivers events to the handlers of one lane, one event at a time.
+     */
+    private static class LaneDispatcher {
+        private final Lane lane;
+        private final EventBus eventBus;
+        private final AtomicInteger queueDepth = new AtomicInteger();
+        private final AtomicInteger maxQueueDepth = new AtomicInteger();
+        /** The types of event that the handlers of this lane subscribe to. */
+        private final Set<Class<?>> subscribedTypes = new CopyOnWriteArraySet<>();
+        /** Whether this lane has a handler for each type of event posted so far. */
+        private final Map<Class<?>, Boolean> isHandledByType = new ConcurrentHashMap<>();
+        private volatile Consumer<Runnable> executor;
+        private ExecutorService ownedExecutor;
+        private ExecutorService stoppingExecutor;
+        private volatile Thread laneThread;
+
+        LaneDispatcher(Lane lane) {
+            this.lane = lane;
+            this.eventBus = new EventBus(lane.name());
+        }
+
+        void register(Object handler) {
+            for (Class<?> type = handler.getClass(); type != null; type = type.getSuperclass()) {
+                for (Method method : type.getDeclaredMethods()) {
+                    if (method.isAnnotationPresent(Subscribe.class) && method.getParameterCount() == 1) {
+                        subscribedTypes.add(method.getParameterTypes()[0]);
+                    }
+                }
+            }
+            isHandledByType.clear();
+            eventBus.register(handler);
+        }
+
+        private boolean isHandled(Class<?> eventType) {
+            return isHandledByType.computeIfAbsent(eventType,
+                type -> subscribedTypes.stream().anyMatch(subscribed -> subscribed.isAssignableFrom(type)));
+        }
+
+        void start(Consumer<Runnable> executor) {
+            this.executor = executor;
+        }
+
+        void start(ExecutorService executor) {
+            this.ownedExecutor = executor;
+            executor.execute(() -> laneThread = Thread.currentThread());
+            this.executor = executor::execute;
+        }
+
+        void stop() {
+            if (ownedExecutor != null) {
+                ownedExecutor.shutdown();
+                stoppingExecutor = ownedExecutor;
+                ownedExecutor = null;
+            }
+            executor = null;
+        }
+
+        /**
+         * Waits for the events already given to the thread of this lane to be handled, unless it is called
+         * on that thread, where it would wait for itself.
+         */
+        void awaitStopped() {
+            ExecutorService stopping = stoppingExecutor;
+            stoppingExecutor = null;
+            if (stopping == null || Thread.currentThread() == laneThread) {
+                return;
+            }
+            try {
+                if (!stopping.awaitTermination(STOP_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    logger.warning(lane + " lane still has " + queueDepth.get() + " events waiting after "
+                            + STOP_TIMEOUT_SECONDS + " seconds");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warning("Interrupted while waiting for the " + lane + " lane to stop");
+            }
+        }
+
+        void post(BaseEvent event) {
+            if (!isHandled(event.getClass())) {
+                return;
+            }
+            Consumer<Runnable> laneExecutor = executor;
+            if (laneExecutor == null) { // stopped since the event was posted
+                eventBus.post(event);
+                return;
+            }
+            int depth = queueDepth.incrementAndGet();
+            maxQueueDepth.accumulateAndGet(depth, Math::max);
+            try {
+                laneExecutor.accept(() -> {
+                    try {
+                        eventBus.post(event);
+                    } finally {
+                        queueDepth.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                queueDepth.decrementAndGet();
+                eventBus.post(event);
+                return;
+            }
+            logger.fine(() -> "------[Event Queued] " + lane + " lane, " + depth + " events waiting");
+        }
+    }
+
 }
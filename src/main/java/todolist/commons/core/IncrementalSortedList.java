@@ -0,0 +1,160 @@
+package todolist.commons.core;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A sorted view of the elements of an observed list that satisfy a predicate, which only moves the elements
+ * that are added to, removed from or updated in the source list.
+ *
+ * Sorting all the elements again whenever an element of the source is updated would make an element
+ * edited in place cost as much as sorting the whole list. The view is held in a {@link RankedTree}, where
+ * an element is found from itself, even after it has changed, and moved to its new place in O(log n) steps.
+ *
+ * The comparator must tell apart any two elements of the source list, and must not depend on their positions
+ * in the source list, so that each element has one place in the view. No element may be in the source twice.
+ */
+public class IncrementalSortedList<E> extends ObservedList<E> {
+
+    private final ObservedList<? extends E> source;
+    private final RankedTree<E> sorted;
+    private Predicate<? super E> predicate;
+
+    public IncrementalSortedList(ObservedList<? extends E> source, Comparator<? super E> comparator) {
+        assert source != null && comparator != null;
+        this.source = source;
+        this.sorted = new RankedTree<>(comparator);
+        sortAll();
+        source.addObserver(new SourceObserver());
+    }
+
+    public ObservedList<? extends E> getSource() {
+        return source;
+    }
+
+    /**
+     * Shows only the elements that satisfy {@code predicate}, or every element if it is null,
+     * as one change replacing all the elements of the view.
+     */
+    public void setPredicate(Predicate<? super E> predicate) {
+        this.predicate = predicate;
+        List<E> oldElements = sorted.toList();
+        sortAll();
+        fireReset(oldElements);
+    }
+
+    private boolean isShown(E element) {
+        return predicate == null || predicate.test(element);
+    }
+
+    /**
+     * Sorts all the elements of the source list that are to be shown again.
+     */
+    private void sortAll() {
+        List<E> elements = new ArrayList<>();
+        for (E element : source) {
+            if (isShown(element)) {
+                elements.add(element);
+            }
+        }
+        sorted.setAll(elements);
+    }
+
+    /**
+     * Shows, hides or moves {@code element}, which may have changed since it was placed,
+     * as it is now to be shown or not. It is reported as updated if its place is the same.
+     */
+    private void refresh(E element) {
+        boolean isShownNow = isShown(element);
+        if (!sorted.contains(element)) {
+            if (isShownNow) {
+                addSorted(element);
+            }
+            return;
+        }
+        if (!isShownNow) {
+            removeSorted(element);
+            return;
+        }
+
+        int oldIndex = sorted.remove(element);
+        int newIndex = sorted.placeOf(element);
+        if (newIndex == oldIndex) {
+            sorted.add(element);
+            fireUpdated(newIndex);
+            return;
+        }
+        // Reported as removed and added back, with the view as it is after each of those changes
+        fireRemoved(oldIndex, element);
+        sorted.add(element);
+        fireAdded(newIndex, element);
+    }
+
+    private void addSorted(E element) {
+        fireAdded(sorted.add(element), element);
+    }
+
+    private void removeSorted(E element) {
+        fireRemoved(sorted.remove(element), element);
+    }
+
+    @Override
+    public E get(int index) {
+        return sorted.get(index);
+    }
+
+    @Override
+    public int size() {
+        return sorted.size();
+    }
+
+    /**
+     * Returns the index in the view of the element at {@code index} in the source list,
+     * or -1 if it is not shown, in O(log n) steps.
+     */
+    public int getViewIndex(int index) {
+        E element = source.get(index);
+        return sorted.contains(element) ? sorted.indexOf(element) : -1;
+    }
+
+    /**
+     * Keeps the view in step with the source list.
+     */
+    private class SourceObserver implements ListObserver<E> {
+
+        @Override
+        public void added(int index, E element) {
+            if (isShown(element)) {
+                addSorted(element);
+            }
+        }
+
+        @Override
+        public void removed(int index, E element) {
+            if (sorted.contains(element)) {
+                removeSorted(element);
+            }
+        }
+
+        @Override
+        public void replaced(int index, E oldElement) {
+            removed(index, oldElement);
+            added(index, source.get(index));
+        }
+
+        @Override
+        public void updated(int index) {
+            refresh(source.get(index));
+        }
+
+        @Override
+        public void reset(List<? extends E> oldElements) {
+            List<E> oldSorted = sorted.toList();
+            sortAll();
+            fireReset(oldSorted);
+        }
+    }
+
+}
@@ -0,0 +1,36 @@
+package todolist.commons.core;
+
+import java.util.List;
+
+/**
+ * Is told of each change made to an {@link ObservedList}, one element at a time.
+ * Each method is called after the change is made, so the list is as it is after the change.
+ */
+public interface ListObserver<E> {
+
+    /**
+     * {@code element} was added at {@code index}.
+     */
+    void added(int index, E element);
+
+    /**
+     * {@code element} was removed from {@code index}.
+     */
+    void removed(int index, E element);
+
+    /**
+     * The element at {@code index} replaced {@code oldElement}.
+     */
+    void replaced(int index, E oldElement);
+
+    /**
+     * The element at {@code index} was changed in place.
+     */
+    void updated(int index);
+
+    /**
+     * All the elements of the list were replaced at once; {@code oldElements} were the elements before.
+     */
+    void reset(List<? extends E> oldElements);
+
+}
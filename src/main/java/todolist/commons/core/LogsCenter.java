@@ -28,12 +28,17 @@ public class LogsCenter {
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The level is set on the console and file handlers, which all loggers share, so it applies
+     * to loggers obtained before this initialization as well.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        if (consoleHandler != null) {
+            consoleHandler.setLevel(currentLogLevel);
+        }
+        if (fileHandler != null) {
+            fileHandler.setLevel(currentLogLevel);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
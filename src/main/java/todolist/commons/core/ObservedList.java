@@ -0,0 +1,60 @@
+package todolist.commons.core;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A list that tells its {@link ListObserver}s of every change made to it, without depending on JavaFX,
+ * so that the model can be kept, filtered and sorted in plain Java, and only the UI adapts it for display.
+ *
+ * It cannot be changed through the {@link List} methods; only the subclass that holds its elements changes it.
+ */
+public abstract class ObservedList<E> extends AbstractList<E> implements RandomAccess {
+
+    private final List<ListObserver<? super E>> observers = new CopyOnWriteArrayList<>();
+
+    public void addObserver(ListObserver<? super E> observer) {
+        assert observer != null;
+        observers.add(observer);
+    }
+
+    public void removeObserver(ListObserver<? super E> observer) {
+        observers.remove(observer);
+    }
+
+    protected void fireAdded(int index, E element) {
+        modCount++;
+        for (ListObserver<? super E> observer : observers) {
+            observer.added(index, element);
+        }
+    }
+
+    protected void fireRemoved(int index, E element) {
+        modCount++;
+        for (ListObserver<? super E> observer : observers) {
+            observer.removed(index, element);
+        }
+    }
+
+    protected void fireReplaced(int index, E oldElement) {
+        for (ListObserver<? super E> observer : observers) {
+            observer.replaced(index, oldElement);
+        }
+    }
+
+    protected void fireUpdated(int index) {
+        for (ListObserver<? super E> observer : observers) {
+            observer.updated(index);
+        }
+    }
+
+    protected void fireReset(List<? extends E> oldElements) {
+        modCount++;
+        for (ListObserver<? super E> observer : observers) {
+            observer.reset(oldElements);
+        }
+    }
+
+}
@@ -0,0 +1,237 @@
+package todolist.commons.core;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * A list that cannot change, whose elements are held in a balanced tree ordered by position.
+ *
+ * Adding, replacing or removing an element gives a new list in O(log n), which shares all but the O(log n)
+ * nodes on the path to that element with this list, so that both can be kept and read at the same time.
+ * As no list ever changes, any thread can read any list without locking, as long as its elements do not change.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in their order, built in O(n).
+     */
+    public static <E> PersistentList<E> of(Collection<? extends E> elements) {
+        List<E> copy = new ArrayList<>(elements);
+        return new PersistentList<>(build(copy, 0, copy.size()));
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    /**
+     * Returns a list with {@code element} added at {@code index}.
+     */
+    public PersistentList<E> plus(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} added at the end.
+     */
+    public PersistentList<E> plus(E element) {
+        return plus(size(), element);
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> with(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(replace(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<E> minus(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns an iterator over the elements in order, which visits all of them in O(n) rather than O(n log n).
+     */
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<E>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmost(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeftmost(node.right);
+                return node.element;
+            }
+
+            private void pushLeftmost(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    //=========== Tree operations, each copying only the nodes on the path it takes =============
+
+    private static <E> Node<E> build(List<E> elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        return new Node<>(build(elements, from, middle), elements.get(middle), build(elements, middle + 1, to));
+    }
+
+    private static <E> Node<E> insert(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.element, node.right);
+        }
+        return balance(node.left, node.element, insert(node.right, index - leftSize - 1, element));
+    }
+
+    private static <E> Node<E> replace(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(replace(node.left, index, element), node.element, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.element, replace(node.right, index - leftSize - 1, element));
+        }
+        return new Node<>(node.left, element, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(remove(node.left, index), node.element, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.element, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        // Replaced by the first element after it, which is taken out of the right subtree
+        Node<E> first = node.right;
+        while (first.left != null) {
+            first = first.left;
+        }
+        return balance(node.left, first.element, remove(node.right, 0));
+    }
+
+    /**
+     * Returns a node of {@code left}, {@code element} and {@code right}, rotated to keep the tree balanced.
+     * The heights of {@code left} and {@code right} may differ by at most 2, as after one element is added or removed.
+     */
+    private static <E> Node<E> balance(Node<E> left, E element, Node<E> right) {
+        int leftHeight = heightOf(left);
+        int rightHeight = heightOf(right);
+        if (leftHeight > rightHeight + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.left, left.element, new Node<>(left.right, element, right));
+            }
+            return new Node<>(new Node<>(left.left, left.element, left.right.left), left.right.element,
+                    new Node<>(left.right.right, element, right));
+        } else if (rightHeight > leftHeight + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(new Node<>(left, element, right.left), right.element, right.right);
+            }
+            return new Node<>(new Node<>(left, element, right.left.left), right.left.element,
+                    new Node<>(right.left.right, right.element, right.right));
+        }
+        return new Node<>(left, element, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * A node of the tree, which never changes once made.
+     */
+    private static final class Node<E> {
+
+        private final Node<E> left;
+        private final E element;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<E> left, E element, Node<E> right) {
+            this.left = left;
+            this.element = element;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+}
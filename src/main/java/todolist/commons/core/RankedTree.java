@@ -0,0 +1,271 @@
+package todolist.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Elements held in a tree in the order of a comparator, where each element knows its node,
+ * so that the index of an element, and adding or removing one, takes O(log n) steps.
+ *
+ * Each node knows the number of nodes under it, and its parent, so that the index of an element is found
+ * by walking up from its node, without comparing it to others. An element can thus be found and removed
+ * after it has changed in a way that moves it in the order of the comparator.
+ *
+ * The tree is kept balanced by building again the highest subtree, on the path of each change,
+ * whose larger side holds more than three quarters of its nodes, which takes O(log n) amortized steps.
+ * No element may be in the tree twice.
+ */
+class RankedTree<E> {
+
+    private final Comparator<? super E> comparator;
+    private final Map<E, Node<E>> nodes = new IdentityHashMap<>();
+    private Node<E> root;
+
+    RankedTree(Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    E get(int index) {
+        assert index >= 0 && index < size();
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns the index of {@code element}, which must be in the tree.
+     */
+    int indexOf(E element) {
+        Node<E> node = nodes.get(element);
+        assert node != null;
+        int index = sizeOf(node.left);
+        for (; node.parent != null; node = node.parent) {
+            if (node == node.parent.right) {
+                index += sizeOf(node.parent.left) + 1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index at which {@code element}, which is not in the tree, would be added.
+     */
+    int placeOf(E element) {
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int comparison = comparator.compare(element, node.element);
+            assert comparison != 0 : "The comparator must tell apart any two elements";
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Adds {@code element}, which is not in the tree, at its place.
+     * @return the index it was added at
+     */
+    int add(E element) {
+        Node<E> added = new Node<>(element);
+        nodes.put(element, added);
+        if (root == null) {
+            root = added;
+            return 0;
+        }
+        Node<E> parent = root;
+        while (true) {
+            boolean isLeft = comparator.compare(element, parent.element) < 0;
+            Node<E> child = isLeft ? parent.left : parent.right;
+            if (child == null) {
+                if (isLeft) {
+                    parent.left = added;
+                } else {
+                    parent.right = added;
+                }
+                added.parent = parent;
+                break;
+            }
+            parent = child;
+        }
+        resizeAndBalanceFrom(parent);
+        return indexOf(element);
+    }
+
+    /**
+     * Removes {@code element}, which must be in the tree, wherever it now belongs in the order of the comparator.
+     * @return the index it was removed from
+     */
+    int remove(E element) {
+        int index = indexOf(element);
+        Node<E> removed = nodes.remove(element);
+        Node<E> changedFrom;
+        if (removed.left == null || removed.right == null) {
+            changedFrom = removed.parent;
+            replaceChild(removed, removed.left != null ? removed.left : removed.right);
+        } else {
+            // The next node, which has no left child, is taken out and put in the place of the removed one
+            Node<E> next = removed.right;
+            while (next.left != null) {
+                next = next.left;
+            }
+            changedFrom = next.parent == removed ? next : next.parent;
+            if (next.parent != removed) {
+                replaceChild(next, next.right);
+                next.right = removed.right;
+                next.right.parent = next;
+            }
+            next.left = removed.left;
+            next.left.parent = next;
+            replaceChild(removed, next);
+        }
+        resizeAndBalanceFrom(changedFrom);
+        return index;
+    }
+
+    /**
+     * Replaces all the elements of the tree with {@code elements}, building a balanced tree in O(n log n).
+     */
+    void setAll(Collection<? extends E> elements) {
+        List<Node<E>> sorted = new ArrayList<>();
+        nodes.clear();
+        for (E element : elements) {
+            Node<E> node = new Node<>(element);
+            sorted.add(node);
+            nodes.put(element, node);
+        }
+        sorted.sort((a, b) -> comparator.compare(a.element, b.element));
+        root = build(sorted, 0, sorted.size(), null);
+    }
+
+    /**
+     * Returns the elements of the tree in order.
+     */
+    List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        for (Node<E> node : inOrder(root, new ArrayList<>())) {
+            elements.add(node.element);
+        }
+        return elements;
+    }
+
+    /**
+     * Puts {@code replacement}, which may be null, in the place of {@code node} under its parent.
+     */
+    private void replaceChild(Node<E> node, Node<E> replacement) {
+        if (replacement != null) {
+            replacement.parent = node.parent;
+        }
+        if (node.parent == null) {
+            root = replacement;
+        } else if (node.parent.left == node) {
+            node.parent.left = replacement;
+        } else {
+            node.parent.right = replacement;
+        }
+    }
+
+    /**
+     * Counts again the nodes under {@code node} and each node above it, which may be null,
+     * and then builds again the highest of them that is out of balance.
+     */
+    private void resizeAndBalanceFrom(Node<E> node) {
+        Node<E> unbalanced = null;
+        for (; node != null; node = node.parent) {
+            node.size = 1 + sizeOf(node.left) + sizeOf(node.right);
+            if (Math.max(sizeOf(node.left), sizeOf(node.right)) * 4 > node.size * 3) {
+                unbalanced = node;
+            }
+        }
+        if (unbalanced != null) {
+            Node<E> parent = unbalanced.parent;
+            boolean isLeft = parent != null && parent.left == unbalanced;
+            List<Node<E>> subtree = inOrder(unbalanced, new ArrayList<>());
+            Node<E> balanced = build(subtree, 0, subtree.size(), parent);
+            if (parent == null) {
+                root = balanced;
+            } else if (isLeft) {
+                parent.left = balanced;
+            } else {
+                parent.right = balanced;
+            }
+        }
+    }
+
+    /**
+     * Links the nodes from {@code from} to {@code to} of {@code sorted} into a balanced subtree under {@code parent}.
+     */
+    private static <E> Node<E> build(List<Node<E>> sorted, int from, int to, Node<E> parent) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        Node<E> node = sorted.get(mid);
+        node.parent = parent;
+        node.left = build(sorted, from, mid, node);
+        node.right = build(sorted, mid + 1, to, node);
+        node.size = to - from;
+        return node;
+    }
+
+    /**
+     * Adds the nodes of the subtree under {@code node} to {@code nodes} in order, without recursion,
+     * as a subtree may be deep before it is balanced again.
+     */
+    private static <E> List<Node<E>> inOrder(Node<E> node, List<Node<E>> nodes) {
+        List<Node<E>> path = new ArrayList<>();
+        while (node != null || !path.isEmpty()) {
+            if (node != null) {
+                path.add(node);
+                node = node.left;
+            } else {
+                node = path.remove(path.size() - 1);
+                nodes.add(node);
+                node = node.right;
+            }
+        }
+        return nodes;
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static class Node<E> {
+        private final E element;
+        private Node<E> left;
+        private Node<E> right;
+        private Node<E> parent;
+        private int size = 1;
+
+        Node(E element) {
+            this.element = element;
+        }
+    }
+
+}
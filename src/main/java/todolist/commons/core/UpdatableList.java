@@ -0,0 +1,81 @@
+package todolist.commons.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * An array list whose owner changes it, and can tell its observers that an element was changed in place.
+ *
+ * The owner gives the index of an element changed in place, so telling the observers takes no search.
+ * The list is changed through its own methods, rather than those of {@link List}, so that a holder
+ * of it as an {@link ObservedList} cannot change it.
+ */
+public class UpdatableList<E> extends ObservedList<E> {
+
+    private final List<E> elements = new ArrayList<>();
+
+    /**
+     * Adds {@code element} at {@code index}, moving the elements from there onwards one place down.
+     */
+    public void insert(int index, E element) {
+        elements.add(index, element);
+        fireAdded(index, element);
+    }
+
+    /**
+     * Adds {@code element} at the end of the list.
+     */
+    public void append(E element) {
+        insert(elements.size(), element);
+    }
+
+    /**
+     * Replaces the element at {@code index} with {@code element}.
+     * @return the element replaced
+     */
+    public E replace(int index, E element) {
+        E oldElement = elements.set(index, element);
+        fireReplaced(index, oldElement);
+        return oldElement;
+    }
+
+    /**
+     * Removes the element at {@code index}.
+     * @return the element removed
+     */
+    public E delete(int index) {
+        E element = elements.remove(index);
+        fireRemoved(index, element);
+        return element;
+    }
+
+    /**
+     * Replaces all the elements of the list in one change, without removing them one by one.
+     */
+    public void setAll(Collection<? extends E> col) {
+        List<E> oldElements = new ArrayList<>(elements);
+        elements.clear();
+        elements.addAll(col);
+        fireReset(oldElements);
+    }
+
+    /**
+     * Tells the observers of the list that the element at {@code index} was changed in place.
+     */
+    public void updated(int index) {
+        assert index >= 0 && index < size();
+        fireUpdated(index);
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+}
@@ -0,0 +1,127 @@
+package todolist.commons.events.model;
+
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+
+/**
+ * A single task-level change made to the ToDoList.
+ * The tasks held are copies taken when the change was made, so later changes to the model do not affect them.
+ */
+public class TaskChange {
+
+    public enum Kind { ADDED, REMOVED, UPDATED, COMPLETED }
+
+    public final Kind kind;
+
+    /** The task before the change, or null if the task was added. */
+    public final ReadOnlyTask before;
+
+    /** The task after the change, or null if the task was removed. */
+    public final ReadOnlyTask after;
+
+    /**
+     * The position in the to-do list of the task that was added, removed, updated or completed,
+     * which identifies the task to subscribers that mirror the list, or -1 if it is not known.
+     */
+    public final int position;
+
+    private TaskChange(Kind kind, ReadOnlyTask before, ReadOnlyTask after, int position) {
+        this.kind = kind;
+        this.before = before == null ? null : new Task(before);
+        this.after = after == null ? null : new Task(after);
+        this.position = position;
+    }
+
+    public static TaskChange added(ReadOnlyTask addedTask) {
+        return added(addedTask, -1);
+    }
+
+    public static TaskChange added(ReadOnlyTask addedTask, int position) {
+        assert addedTask != null;
+        return new TaskChange(Kind.ADDED, null, addedTask, position);
+    }
+
+    public static TaskChange removed(ReadOnlyTask removedTask) {
+        return removed(removedTask, -1);
+    }
+
+    public static TaskChange removed(ReadOnlyTask removedTask, int position) {
+        assert removedTask != null;
+        return new TaskChange(Kind.REMOVED, removedTask, null, position);
+    }
+
+    public static TaskChange updated(ReadOnlyTask taskBefore, ReadOnlyTask taskAfter) {
+        return updated(taskBefore, taskAfter, -1);
+    }
+
+    public static TaskChange updated(ReadOnlyTask taskBefore, ReadOnlyTask taskAfter, int position) {
+        assert taskBefore != null && taskAfter != null;
+        return new TaskChange(Kind.UPDATED, taskBefore, taskAfter, position);
+    }
+
+    public static TaskChange completed(ReadOnlyTask completedTask) {
+        return completed(completedTask, -1);
+    }
+
+    /**
+     * @param completedTask the task with its new completion status.
+     */
+    public static TaskChange completed(ReadOnlyTask completedTask, int position) {
+        assert completedTask != null;
+        return new TaskChange(Kind.COMPLETED, null, completedTask, position);
+    }
+
+    /**
+     * Returns the change in the number of tasks in the to-do list made by this change.
+     */
+    public int getTaskCountChange() {
+        switch (kind) {
+        case ADDED:
+            return 1;
+        case REMOVED:
+            return -1;
+        default:
+            return 0;
+        }
+    }
+
+    /**
+     * Returns the change in the number of completed tasks in the to-do list made by this change.
+     */
+    public int getCompletedCountChange() {
+        switch (kind) {
+        case ADDED:
+            return after.isTaskCompleted() ? 1 : 0;
+        case REMOVED:
+            return before.isTaskCompleted() ? -1 : 0;
+        case UPDATED:
+            return (after.isTaskCompleted() ? 1 : 0) - (before.isTaskCompleted() ? 1 : 0);
+        default:
+            return after.isTaskCompleted() ? 1 : -1;
+        }
+    }
+
+    /**
+     * Returns the change that reverts this change, when made to the to-do list as it is after this change.
+     */
+    public TaskChange inverse() {
+        switch (kind) {
+        case ADDED:
+            return removed(after, position);
+        case REMOVED:
+            return added(before, position);
+        case UPDATED:
+            return updated(after, before, position);
+        default:
+            Task reopened = new Task(after);
+            reopened.toggleComplete();
+            return completed(reopened, position);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return kind + " " + (after != null ? after.getTitleFormattedString() : before.getTitleFormattedString());
+    }
+
+}
@@ -1,5 +1,9 @@
 package todolist.commons.events.model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import todolist.commons.events.BaseEvent;
 import todolist.model.ReadOnlyToDoList;
 
@@ -8,12 +12,72 @@ public class ToDoListChangedEvent extends BaseEvent {
 
     public final ReadOnlyToDoList data;
 
+    /** The task-level changes that were made, or null if the whole ToDoList should be treated as changed. */
+    public final List<TaskChange> changes;
+
     public ToDoListChangedEvent(ReadOnlyToDoList data) {
         this.data = data;
+        this.changes = null;
+    }
+
+    public ToDoListChangedEvent(ReadOnlyToDoList data, List<TaskChange> changes) {
+        assert changes != null;
+        this.data = data;
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+    }
+
+    /**
+     * Returns true if this event lists every change that was made,
+     * so that subscribers may apply {@link #changes} instead of reloading {@link #data}.
+     */
+    public boolean isIncremental() {
+        return changes != null;
+    }
+
+    /**
+     * Returns the changes of the given kind, in the order they were made.
+     * Should only be called if {@link #isIncremental()}.
+     */
+    public List<TaskChange> getChanges(TaskChange.Kind kind) {
+        assert isIncremental();
+        List<TaskChange> changesOfKind = new ArrayList<>();
+        for (TaskChange change : changes) {
+            if (change.kind == kind) {
+                changesOfKind.add(change);
+            }
+        }
+        return changesOfKind;
+    }
+
+    /**
+     * Returns the change in the number of tasks made by {@link #changes}.
+     * Should only be called if {@link #isIncremental()}.
+     */
+    public int getTaskCountChange() {
+        assert isIncremental();
+        int taskCountChange = 0;
+        for (TaskChange change : changes) {
+            taskCountChange += change.getTaskCountChange();
+        }
+        return taskCountChange;
+    }
+
+    /**
+     * Returns the change in the number of completed tasks made by {@link #changes}.
+     * Should only be called if {@link #isIncremental()}.
+     */
+    public int getCompletedCountChange() {
+        assert isIncremental();
+        int completedCountChange = 0;
+        for (TaskChange change : changes) {
+            completedCountChange += change.getCompletedCountChange();
+        }
+        return completedCountChange;
     }
 
     @Override
     public String toString() {
-        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size();
+        return "number of tasks " + data.getTaskList().size() + ", number of tags " + data.getTagList().size()
+                + (isIncremental() ? ", number of changes " + changes.size() : "");
     }
 }
@@ -2,12 +2,19 @@ package todolist.commons.util;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.time.format.FormatStyle;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
 
 import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
 
@@ -20,6 +27,9 @@ import todolist.model.task.Time;
 public class StringUtil {
 
     private static final int DAY_INDEX = 0;
+    private static final int HOURS_IN_HALF_DAY = 12;
+    // PrettyTimeParser is costly to create, and cannot be shared between threads
+    private static final ThreadLocal<PrettyTimeParser> TIME_PARSER = ThreadLocal.withInitial(PrettyTimeParser::new);
     public static final DateTimeFormatter DATE_FORMATTER =
             DateTimeFormatter.ofLocalizedDateTime(FormatStyle.MEDIUM, FormatStyle.SHORT);
 
@@ -72,18 +82,34 @@ public class StringUtil {
     }
 
     //@@author A0122017Y
+    /**
+     * Parses {@code timeArg} into a date and time.
+     * Text in the {@link #DATE_FORMATTER} format, which is how times are stored, and dates in the
+     * DD/MM/YYYY format are read directly; only other text is given to the natural language parser.
+     *
+     * @throws IllegalValueException if {@code timeArg} is null or is not a valid time
+     */
     public static LocalDateTime parseStringToTime(String timeArg) throws IllegalValueException {
         //empty start date
         if (timeArg == null) {
             throw new IllegalValueException(Time.MESSAGE_TIME_CONSTRAINTS);
         }
 
+        Matcher numberDate = TimeUtil.TIME_FORMAT_1.matcher(timeArg);
+        if (numberDate.matches()) {
+            return parseNumberDate(numberDate);
+        }
+
+        Optional<LocalDateTime> formattedTime = parseFormattedTime(timeArg);
+        if (formattedTime.isPresent()) {
+            return formattedTime.get();
+        }
+
         if (!TimeUtil.isValidMonthDay(timeArg)) {
             throw new IllegalValueException(Time.MESSAGE_TIME_CONSTRAINTS);
         }
 
-        PrettyTimeParser timeParser = new PrettyTimeParser();
-        List<Date> parsedResult = timeParser.parse(timeArg);
+        List<Date> parsedResult = TIME_PARSER.get().parse(timeArg);
 
         //cannot parse
         if (parsedResult.isEmpty()) {
@@ -94,4 +120,47 @@ public class StringUtil {
         return LocalDateTime.ofInstant(parsedResult.get(DAY_INDEX).toInstant(), ZoneId.systemDefault());
     }
 
+    /**
+     * Reads a date matched by {@link TimeUtil#TIME_FORMAT_1} as day, month and year.
+     * A date without a time is taken to be at the current time of day, as the natural language parser does.
+     */
+    private static LocalDateTime parseNumberDate(Matcher numberDate) throws IllegalValueException {
+        try {
+            LocalDate date = LocalDate.of(Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_YEAR)),
+                    Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_MONTH)),
+                    Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_DAY)));
+            if (numberDate.group(TimeUtil.TIME_FORMAT_1_HOUR) != null) {
+                return date.atTime(Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_HOUR)),
+                        Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_MINUTE)));
+            }
+            if (numberDate.group(TimeUtil.TIME_FORMAT_1_HALF_DAY_HOUR) != null) {
+                int hour = Integer.parseInt(numberDate.group(TimeUtil.TIME_FORMAT_1_HALF_DAY_HOUR));
+                if (hour < 1 || hour > HOURS_IN_HALF_DAY) {
+                    throw new IllegalValueException(Time.MESSAGE_TIME_CONSTRAINTS);
+                }
+                boolean isAfternoon = numberDate.group(TimeUtil.TIME_FORMAT_1_AM_PM).equalsIgnoreCase("pm");
+                return date.atTime(hour % HOURS_IN_HALF_DAY + (isAfternoon ? HOURS_IN_HALF_DAY : 0), 0);
+            }
+            return date.atTime(LocalTime.now());
+        } catch (DateTimeException e) {
+            throw new IllegalValueException(Time.MESSAGE_TIME_CONSTRAINTS);
+        }
+    }
+
+    /**
+     * Reads {@code timeArg} in the {@link #DATE_FORMATTER} format, if it is in that format.
+     */
+    private static Optional<LocalDateTime> parseFormattedTime(String timeArg) {
+        // Checked without resolving first, so that other text does not cost an exception
+        ParsePosition position = new ParsePosition(0);
+        if (DATE_FORMATTER.parseUnresolved(timeArg, position) == null || position.getIndex() != timeArg.length()) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(LocalDateTime.parse(timeArg, DATE_FORMATTER));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
 }
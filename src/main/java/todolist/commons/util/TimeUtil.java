@@ -2,6 +2,7 @@ package todolist.commons.util;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.model.task.EndTime;
@@ -19,38 +20,44 @@ public class TimeUtil extends StringUtil {
     private static final int MONTH_ARG = 1;
     private static final int DAY_ARG = 0;
 
-    //Matching the format DD/MM/YYYY HH:MM
-    private static final String TIME_FORMAT_REGEX_1 = "^\\d{1,2}/\\d{1,2}/\\d{4}"
-            + "(\\s(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))){0,1}$";
+    //Matching the format DD/MM/YYYY HH:MM, capturing the day, month, year,
+    //and either the hour and minute, or the hour and am/pm
+    static final Pattern TIME_FORMAT_1 = Pattern.compile("^(\\d{1,2})/(\\d{1,2})/(\\d{4})"
+            + "(?:\\s(?:(\\d{1,2}):(\\d{2})|(\\d{1,2})(?i)([ap]m))){0,1}$");
+    static final int TIME_FORMAT_1_DAY = 1;
+    static final int TIME_FORMAT_1_MONTH = 2;
+    static final int TIME_FORMAT_1_YEAR = 3;
+    static final int TIME_FORMAT_1_HOUR = 4;
+    static final int TIME_FORMAT_1_MINUTE = 5;
+    static final int TIME_FORMAT_1_HALF_DAY_HOUR = 6;
+    static final int TIME_FORMAT_1_AM_PM = 7;
 
     //Matching the format DD MM YYYY HH:MM
-    private static final String TIME_FORMAT_REGEX_2 = "^\\d{1,2}\\s(?i)(\\w{3,9})\\s\\d{4}"
-            + "(\\s(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))){0,1}$";
+    private static final Pattern TIME_FORMAT_2 = Pattern.compile("^\\d{1,2}\\s(?i)(\\w{3,9})\\s\\d{4}"
+            + "(\\s(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))){0,1}$");
 
     //Matching the format DD MM HH:MM
-    private static final String TIME_FORMAT_REGEX_3 = "^\\d{1,2}\\s(?i)(\\w{3,9})"
-            + "(\\s(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))){0,1}$";
+    private static final Pattern TIME_FORMAT_3 = Pattern.compile("^\\d{1,2}\\s(?i)(\\w{3,9})"
+            + "(\\s(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))){0,1}$");
 
     //Matching the format "Day HH:MM"
-    private static final String TIME_FORMAT_REGEX_4 = "^(?i)(\\w{3,9}\\s){1,2}"
-            + "(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))$";
+    private static final Pattern TIME_FORMAT_4 = Pattern.compile("^(?i)(\\w{3,9}\\s){1,2}"
+            + "(\\d{1,2}:\\d{2}|\\d{1,2}(?i)([ap]m))$");
 
     //Matching the format like "next tuesday"
-    private static final String TIME_FORMAT_REGEX_5 = "(\\w{3,9}\\s){1,7}?(\\w{3,9})";
+    private static final Pattern TIME_FORMAT_5 = Pattern.compile("(\\w{3,9}\\s){1,7}?(\\w{3,9})");
     private static final int DAY_INDEX = 0;
 
     public static boolean isValidFormat(String timeArg) {
-        return timeArg.matches(TIME_FORMAT_REGEX_1) ||
-                timeArg.matches(TIME_FORMAT_REGEX_2) ||
-                timeArg.matches(TIME_FORMAT_REGEX_3) ||
-                timeArg.matches(TIME_FORMAT_REGEX_4) ||
-                timeArg.matches(TIME_FORMAT_REGEX_5);
+        return hasNumberDay(timeArg) ||
+                TIME_FORMAT_4.matcher(timeArg).matches() ||
+                TIME_FORMAT_5.matcher(timeArg).matches();
     }
 
     public static boolean hasNumberDay(String timeArg) {
-        return timeArg.matches(TIME_FORMAT_REGEX_1) ||
-                timeArg.matches(TIME_FORMAT_REGEX_2) ||
-                timeArg.matches(TIME_FORMAT_REGEX_3);
+        return TIME_FORMAT_1.matcher(timeArg).matches() ||
+                TIME_FORMAT_2.matcher(timeArg).matches() ||
+                TIME_FORMAT_3.matcher(timeArg).matches();
     }
 
     public static boolean isValidMonthDay(String timeArg) {
@@ -73,7 +80,7 @@ public class TimeUtil extends StringUtil {
     }
 
     private static int parseDay(String timeArg) {
-        if (timeArg.matches(TIME_FORMAT_REGEX_1)) {
+        if (TIME_FORMAT_1.matcher(timeArg).matches()) {
             String[] dateTime = timeArg.split(" ");
             String[] dates = dateTime[DAY_ARG].split("/");
             return Integer.parseInt(dates[DAY_ARG]);
@@ -84,11 +91,11 @@ public class TimeUtil extends StringUtil {
     }
 
     private static int parseYear(String timeArg) {
-        if (timeArg.matches(TIME_FORMAT_REGEX_1)) {
+        if (TIME_FORMAT_1.matcher(timeArg).matches()) {
             String[] dateTime = timeArg.split(" ");
             String[] dates = dateTime[DAY_ARG].split("/");
-            return Integer.parseInt(dates[DAY_ARG]);
-        } else if (timeArg.matches(TIME_FORMAT_REGEX_2)) {
+            return Integer.parseInt(dates[YEAR_ARG]);
+        } else if (TIME_FORMAT_2.matcher(timeArg).matches()) {
             String[] dateTime = timeArg.split(" ");
             return Integer.parseInt(dateTime[YEAR_ARG]);
         } else {
@@ -97,11 +104,11 @@ public class TimeUtil extends StringUtil {
     }
 
     private static int parseMonth(String timeArg) {
-        if (timeArg.matches(TIME_FORMAT_REGEX_1)) {
+        if (TIME_FORMAT_1.matcher(timeArg).matches()) {
             String[] dateTime = timeArg.split(" ");
             String[] dates = dateTime[DAY_INDEX].split("/");
             return Integer.parseInt(dates[MONTH_ARG]);
-        } else if (timeArg.matches(TIME_FORMAT_REGEX_2)) {
+        } else if (TIME_FORMAT_2.matcher(timeArg).matches()) {
             String[] dateTime = timeArg.split(" ");
             return getMonthIndex(dateTime[MONTH_ARG]);
         } else {
@@ -1,6 +1,6 @@
 package todolist.logic;
 
-import javafx.collections.ObservableList;
+import todolist.commons.core.ObservedList;
 import todolist.logic.commands.CommandResult;
 import todolist.logic.commands.exceptions.CommandException;
 import todolist.model.task.ReadOnlyTask;
@@ -21,12 +21,12 @@ public interface Logic {
     CommandResult execute(String commandText) throws CommandException;
   //@@author A0143648Y
     /** Returns the filtered list of tasks */
-    ObservableList<ReadOnlyTask> getFilteredDeadlineList();
+    ObservedList<ReadOnlyTask> getFilteredDeadlineList();
 
-    ObservableList<ReadOnlyTask> getFilteredEventList();
+    ObservedList<ReadOnlyTask> getFilteredEventList();
 
-    ObservableList<ReadOnlyTask> getFilteredFloatList();
+    ObservedList<ReadOnlyTask> getFilteredFloatList();
 
-    ObservableList<ReadOnlyTask> getFilteredCompleteList();
+    ObservedList<ReadOnlyTask> getFilteredCompleteList();
 
 }
@@ -2,9 +2,9 @@ package todolist.logic;
 
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
 import todolist.commons.core.ComponentManager;
 import todolist.commons.core.LogsCenter;
+import todolist.commons.core.ObservedList;
 import todolist.logic.commands.Command;
 import todolist.logic.commands.CommandResult;
 import todolist.logic.commands.exceptions.CommandException;
@@ -36,22 +36,22 @@ public class LogicManager extends ComponentManager implements Logic {
     }
   //@@author A0143648Y
     @Override
-    public ObservableList<ReadOnlyTask> getFilteredDeadlineList() {
+    public ObservedList<ReadOnlyTask> getFilteredDeadlineList() {
         return model.getFilteredDeadlineList();
     }
 
     @Override
-    public ObservableList<ReadOnlyTask> getFilteredEventList() {
+    public ObservedList<ReadOnlyTask> getFilteredEventList() {
         return model.getFilteredEventList();
     }
 
     @Override
-    public ObservableList<ReadOnlyTask> getFilteredFloatList() {
+    public ObservedList<ReadOnlyTask> getFilteredFloatList() {
         return model.getFilteredFloatList();
     }
 
     @Override
-    public ObservableList<ReadOnlyTask> getFilteredCompleteList() {
+    public ObservedList<ReadOnlyTask> getFilteredCompleteList() {
         return model.getCompletedList();
     }
 }
@@ -8,13 +8,10 @@ import java.util.logging.Logger;
 
 import todolist.commons.core.EventsCenter;
 import todolist.commons.core.LogsCenter;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.events.ui.JumpToListRequestEvent;
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.commons.util.TimeUtil;
 import todolist.logic.commands.exceptions.CommandException;
-import todolist.model.ReadOnlyToDoList;
-import todolist.model.ToDoList;
 import todolist.model.tag.Tag;
 import todolist.model.tag.UniqueTagList;
 import todolist.model.task.Description;
@@ -49,8 +46,6 @@ public class AddCommand extends UndoableCommand {
     public static final String MESSAGE_DUPLICATE_TASK = "This Task already exists in the to-do list";
 
     private final Task toAdd;
-    private ReadOnlyToDoList originalToDoList;
-    private CommandResult commandResultToUndo;
 
     /**
      * Creates an AddCommand using raw values.
@@ -131,18 +126,17 @@ public class AddCommand extends UndoableCommand {
 
   //@@author A0143648Y
     @Override
-    public CommandResult execute() throws CommandException {
+    protected CommandResult executeUndoable() throws CommandException {
         logger.info("-------[Executing AddCommand]");
 
         assert model != null;
         try {
-            originalToDoList = new ToDoList(model.getToDoList());
+            startRecordingChanges();
 
             model.addTask(toAdd);
-            commandResultToUndo = new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
-            updateUndoLists();
+            updateUndoLists(new CommandResult(String.format(MESSAGE_SUCCESS, toAdd)));
 
-            UnmodifiableObservableList<ReadOnlyTask> lastShownList = model.getListFromChar(toAdd.getTaskChar());
+            List<ReadOnlyTask> lastShownList = model.getListFromChar(toAdd.getTaskChar());
 
             TaskIndex indexToBeSelected = new TaskIndex(toAdd.getTaskChar(), lastShownList.indexOf(toAdd));
             EventsCenter.getInstance().post(new JumpToListRequestEvent(indexToBeSelected));
@@ -159,25 +153,4 @@ public class AddCommand extends UndoableCommand {
 
     }
 
-    /**
-     * Update {@code previousToDoLists} with the todolist before last edition
-     * and {@code previousCommand} with the command just executed
-     */
-    @Override
-    public void updateUndoLists() {
-        if (previousToDoLists == null) {
-            previousToDoLists = new ArrayList<ReadOnlyToDoList>(UNDO_HISTORY_SIZE);
-            previousCommandResults = new ArrayList<CommandResult>(UNDO_HISTORY_SIZE);
-        }
-        if (previousToDoLists.size() >= UNDO_HISTORY_SIZE) {
-            previousToDoLists.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousCommandResults.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        } else {
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        }
-    }
-
 }
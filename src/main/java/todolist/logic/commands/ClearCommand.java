@@ -1,14 +1,16 @@
 package todolist.logic.commands;
 
-import java.util.ArrayList;
 import java.util.logging.Logger;
 
 import todolist.commons.core.LogsCenter;
+import todolist.model.Model;
 import todolist.model.ReadOnlyToDoList;
 import todolist.model.ToDoList;
+import todolist.model.ToDoListSnapshot;
 //@@author A0143648Y
 /**
  * Clears the todolist.
+ * Every task is changed by clearing, so a snapshot of the tasks cleared is kept to be restored when it is undone.
  */
 public class ClearCommand extends UndoableCommand {
 
@@ -18,41 +20,29 @@ public class ClearCommand extends UndoableCommand {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Clears all tasks in ToDoList. \n"
             + "Example: " + COMMAND_WORD + "\n";
     public static final String MESSAGE_SUCCESS = "To-do list has been cleared!";
-    private ReadOnlyToDoList originalToDoList;
-    private CommandResult commandResultToUndo;
+
+    private ReadOnlyToDoList clearedToDoList;
 
     @Override
-    public CommandResult execute() {
+    protected CommandResult executeUndoable() {
         assert model != null;
-        originalToDoList = new ToDoList(model.getToDoList());
+        clearedToDoList = ToDoListSnapshot.of(model.getToDoList());
         model.resetData(new ToDoList());
-        commandResultToUndo = new CommandResult(MESSAGE_SUCCESS);
 
         logger.info("-------[Executing ClearCommand]");
 
-        updateUndoLists();
+        updateUndoLists(new CommandResult(MESSAGE_SUCCESS));
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
-    /**
-     * Update {@code previousToDoLists} with the todolist before last edition
-     * and {@code previousCommand} with the command just executed
-     */
     @Override
-    public void updateUndoLists() {
-        if (previousToDoLists == null) {
-            previousToDoLists = new ArrayList<ReadOnlyToDoList>(UNDO_HISTORY_SIZE);
-            previousCommandResults = new ArrayList<CommandResult>(UNDO_HISTORY_SIZE);
-        }
-        if (previousToDoLists.size() >= UNDO_HISTORY_SIZE) {
-            previousToDoLists.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousCommandResults.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        } else {
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        }
+    protected void undo(Model model) {
+        model.resetData(clearedToDoList);
+    }
+
+    @Override
+    protected void redo(Model model) {
+        model.resetData(new ToDoList());
     }
 
 }
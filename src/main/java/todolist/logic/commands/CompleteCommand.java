@@ -9,8 +9,6 @@ import todolist.commons.core.LogsCenter;
 import todolist.commons.core.Messages;
 import todolist.commons.events.ui.SelectMultipleTargetEvent;
 import todolist.logic.commands.exceptions.CommandException;
-import todolist.model.ReadOnlyToDoList;
-import todolist.model.ToDoList;
 import todolist.model.task.ReadOnlyTask;
 import todolist.model.task.TaskIndex;
 
@@ -34,8 +32,6 @@ public class CompleteCommand extends UndoableCommand {
 
     public static final String MESSAGE_COMPLETE_TASK_SUCCESS = "Completed Task: ";
 
-    private ReadOnlyToDoList originalToDoList;
-    private CommandResult commandResultToUndo;
     private String messageSuccessful;
 
     public CompleteCommand(ArrayList<TaskIndex> filteredTaskListIndexes) {
@@ -43,7 +39,7 @@ public class CompleteCommand extends UndoableCommand {
     }
 
     @Override
-    public CommandResult execute() throws CommandException {
+    protected CommandResult executeUndoable() throws CommandException {
         logger.info("-------[Executing EditCommand]");
 
         if (filteredTaskListIndexes.isEmpty()) {
@@ -53,7 +49,7 @@ public class CompleteCommand extends UndoableCommand {
                 throw new CommandException(Messages.MESSAGE_NO_TASK_SELECTED);
             }
         }
-        originalToDoList = new ToDoList(model.getToDoList());
+        startRecordingChanges();
         ArrayList<ReadOnlyTask> tasksToComplete = new ArrayList<ReadOnlyTask>();
         ArrayList<TaskIndex> selectedIndexes = new ArrayList<TaskIndex>();
         for (int count = 0; count < filteredTaskListIndexes.size(); count++) {
@@ -68,15 +64,22 @@ public class CompleteCommand extends UndoableCommand {
             tasksToComplete.add(lastShownList.get(filteredTaskListIndex));
         }
 
+        // The tasks are completed as one change, which is saved once
         StringBuilder sb = new StringBuilder();
-        for (int count = 0; count < tasksToComplete.size(); count++) {
-            model.completeTask(tasksToComplete.get(count));
-            sb.append(tasksToComplete.get(count).getTitleFormattedString());
+        model.beginTransaction();
+        try {
+            for (int count = 0; count < tasksToComplete.size(); count++) {
+                model.completeTask(tasksToComplete.get(count));
+                sb.append(tasksToComplete.get(count).getTitleFormattedString());
+            }
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
+        model.commitTransaction();
         messageSuccessful = sb.toString();
 
-        commandResultToUndo = new CommandResult(MESSAGE_COMPLETE_TASK_SUCCESS + messageSuccessful);
-        updateUndoLists();
+        updateUndoLists(new CommandResult(MESSAGE_COMPLETE_TASK_SUCCESS + messageSuccessful));
 
         List<ReadOnlyTask> completedList = model.getCompletedList();
         for (int count = 0; count < tasksToComplete.size(); count++) {
@@ -91,26 +94,5 @@ public class CompleteCommand extends UndoableCommand {
         return new CommandResult(MESSAGE_COMPLETE_TASK_SUCCESS + messageSuccessful);
     }
 
-    /**
-     * Update {@code previousToDoLists} with the todolist before last edition
-     * and {@code previousCommand} with the command just executed
-     */
-    @Override
-    public void updateUndoLists() {
-        if (previousToDoLists == null) {
-            previousToDoLists = new ArrayList<ReadOnlyToDoList>(UNDO_HISTORY_SIZE);
-            previousCommandResults = new ArrayList<CommandResult>(UNDO_HISTORY_SIZE);
-        }
-        if (previousToDoLists.size() >= UNDO_HISTORY_SIZE) {
-            previousToDoLists.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousCommandResults.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        } else {
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        }
-    }
-
 
 }
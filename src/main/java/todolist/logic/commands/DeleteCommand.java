@@ -9,12 +9,9 @@ import java.util.logging.Logger;
 import todolist.commons.core.EventsCenter;
 import todolist.commons.core.LogsCenter;
 import todolist.commons.core.Messages;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.events.ui.ClearAllSelectionsEvent;
 import todolist.commons.events.ui.SelectMultipleTargetEvent;
 import todolist.logic.commands.exceptions.CommandException;
-import todolist.model.ReadOnlyToDoList;
-import todolist.model.ToDoList;
 import todolist.model.tag.UniqueTagList;
 import todolist.model.task.Description;
 import todolist.model.task.EndTime;
@@ -52,8 +49,6 @@ public class DeleteCommand extends UndoableCommand {
     private final DeleteTaskDescriptor deleteTaskDescriptor;
     private String messageSuccessful;
 
-    private ReadOnlyToDoList originalToDoList;
-    private CommandResult commandResultToUndo;
 
     public DeleteCommand(ArrayList<TaskIndex> filteredTaskListIndexes, DeleteTaskDescriptor deleteTaskDescriptor) {
         this.filteredTaskListIndexes = filteredTaskListIndexes;
@@ -62,10 +57,10 @@ public class DeleteCommand extends UndoableCommand {
     }
 
     @Override
-    public CommandResult execute() throws CommandException {
+    protected CommandResult executeUndoable() throws CommandException {
         logger.info("-------[Executing DeleteCommand]");
 
-        originalToDoList = new ToDoList(model.getToDoList());
+        startRecordingChanges();
         ArrayList<Task> listOfUpdatedTasks = new ArrayList<Task>();
 
         if (filteredTaskListIndexes.isEmpty()) {
@@ -79,6 +74,41 @@ public class DeleteCommand extends UndoableCommand {
 
         assert tasksToDelete != null;
 
+        // The tasks are deleted or updated as one change, which is saved once, or not at all if one fails
+        model.beginTransaction();
+        try {
+            deleteOrUpdateTasks(tasksToDelete, listOfUpdatedTasks);
+        } catch (CommandException | RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
+        }
+        model.commitTransaction();
+
+        if (deleteTaskDescriptor.ifDeleteWholeTask()) {
+            model.clearSelectedIndexes();
+            EventsCenter.getInstance().post(new ClearAllSelectionsEvent());
+        } else {
+            updateFilteredTaskListIndexes(listOfUpdatedTasks);
+
+            assert !filteredTaskListIndexes.isEmpty();
+
+            model.updateSelectedIndexes(filteredTaskListIndexes);
+            EventsCenter.getInstance().post(new SelectMultipleTargetEvent(filteredTaskListIndexes));
+        }
+
+        logger.info("-------[Executed Of DeleteCommand]");
+
+        updateUndoLists(new CommandResult(MESSAGE_DELETE_TASK_SUCCESS + messageSuccessful));
+
+        return new CommandResult(MESSAGE_DELETE_TASK_SUCCESS + messageSuccessful);
+    }
+
+    /**
+     * Deletes {@code tasksToDelete}, or the parameters of them to be deleted,
+     * adding the tasks updated to {@code listOfUpdatedTasks}.
+     */
+    private void deleteOrUpdateTasks(ArrayList<ReadOnlyTask> tasksToDelete, ArrayList<Task> listOfUpdatedTasks)
+            throws CommandException {
         if (deleteTaskDescriptor.ifDeleteWholeTask()) {
             for (int count = 0; count < tasksToDelete.size(); count++) {
                 try {
@@ -88,8 +118,6 @@ public class DeleteCommand extends UndoableCommand {
                     assert false : "The target task cannot be missing";
                 }
             }
-            model.clearSelectedIndexes();
-            EventsCenter.getInstance().post(new ClearAllSelectionsEvent());
         } else {
             for (int count = 0; count < tasksToDelete.size(); count++) {
                 try {
@@ -101,21 +129,7 @@ public class DeleteCommand extends UndoableCommand {
                     throw new CommandException(MESSAGE_DUPLICATE_TASK);
                 }
             }
-            updateFilteredTaskListIndexes(listOfUpdatedTasks);
-
-            assert !filteredTaskListIndexes.isEmpty();
-
-            model.updateSelectedIndexes(filteredTaskListIndexes);
-            EventsCenter.getInstance().post(new SelectMultipleTargetEvent(filteredTaskListIndexes));
         }
-
-        logger.info("-------[Executed Of DeleteCommand]");
-
-        commandResultToUndo = new CommandResult(MESSAGE_DELETE_TASK_SUCCESS + messageSuccessful);
-
-        updateUndoLists();
-
-        return new CommandResult(MESSAGE_DELETE_TASK_SUCCESS + messageSuccessful);
     }
 
     /**
@@ -145,7 +159,7 @@ public class DeleteCommand extends UndoableCommand {
     private void updateFilteredTaskListIndexes(ArrayList<Task> listOfEditedTasks) {
         filteredTaskListIndexes.clear();
         for (int count = 0; count < listOfEditedTasks.size(); count++) {
-            UnmodifiableObservableList<ReadOnlyTask> listOfTask = model
+            List<ReadOnlyTask> listOfTask = model
                     .getListFromChar(listOfEditedTasks.get(count).getTaskChar());
             filteredTaskListIndexes.add(new TaskIndex(listOfEditedTasks.get(count).getTaskChar(),
                     listOfTask.indexOf(listOfEditedTasks.get(count)) + 1));
@@ -221,27 +235,6 @@ public class DeleteCommand extends UndoableCommand {
 
     }
 
-    /**
-     * Update {@code previousToDoLists} with the todolist before last edition
-     * and {@code previousCommand} with the command just executed
-     */
-    @Override
-    public void updateUndoLists() {
-        if (previousToDoLists == null) {
-            previousToDoLists = new ArrayList<ReadOnlyToDoList>(UNDO_HISTORY_SIZE);
-            previousCommandResults = new ArrayList<CommandResult>(UNDO_HISTORY_SIZE);
-        }
-        if (previousToDoLists.size() >= UNDO_HISTORY_SIZE) {
-            previousToDoLists.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousCommandResults.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        } else {
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        }
-    }
-
     public String getTasksToString(ArrayList<ReadOnlyTask> tasks) {
         StringBuilder sb = new StringBuilder();
         for (ReadOnlyTask task : tasks) {
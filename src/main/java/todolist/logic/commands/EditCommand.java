@@ -8,12 +8,9 @@ import java.util.logging.Logger;
 import todolist.commons.core.EventsCenter;
 import todolist.commons.core.LogsCenter;
 import todolist.commons.core.Messages;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.events.ui.SelectMultipleTargetEvent;
 import todolist.commons.util.CollectionUtil;
 import todolist.logic.commands.exceptions.CommandException;
-import todolist.model.ReadOnlyToDoList;
-import todolist.model.ToDoList;
 import todolist.model.tag.UniqueTagList;
 import todolist.model.task.Description;
 import todolist.model.task.EndTime;
@@ -50,8 +47,6 @@ public class EditCommand extends UndoableCommand {
 
     private final ArrayList<TaskIndex> filteredTaskListIndexes;
     private final EditTaskDescriptor editTaskDescriptor;
-    private ReadOnlyToDoList originalToDoList;
-    private CommandResult commandResultToUndo;
     private String messageSuccessful;
 
     /**
@@ -70,10 +65,10 @@ public class EditCommand extends UndoableCommand {
     }
 
     @Override
-    public CommandResult execute() throws CommandException {
+    protected CommandResult executeUndoable() throws CommandException {
         logger.info("-------[Executing EditCommand]");
 
-        originalToDoList = new ToDoList(model.getToDoList());
+        startRecordingChanges();
         ArrayList<Task> listOfEditedTasks = new ArrayList<Task>();
 
         if (filteredTaskListIndexes.isEmpty()) {
@@ -86,18 +81,23 @@ public class EditCommand extends UndoableCommand {
 
         ArrayList<ReadOnlyTask> tasksToEdit = getTasksToEdit();
 
-        for (int count = 0; count < tasksToEdit.size(); count++) {
-
-            Task editedTask = createEditedTask(tasksToEdit.get(count), editTaskDescriptor);
-
-            try {
+        // The tasks are edited as one change, which is saved once, or not at all if one fails
+        model.beginTransaction();
+        try {
+            for (int count = 0; count < tasksToEdit.size(); count++) {
+                Task editedTask = createEditedTask(tasksToEdit.get(count), editTaskDescriptor);
                 model.updateTask(tasksToEdit.get(count), editedTask);
-            } catch (UniqueTaskList.DuplicateTaskException dpe) {
-                logger.info("-------[Execution Of EditCommand Failed halfway]");
-                throw new CommandException(MESSAGE_DUPLICATE_TASK);
+                listOfEditedTasks.add(editedTask);
             }
-            listOfEditedTasks.add(editedTask);
+        } catch (UniqueTaskList.DuplicateTaskException dpe) {
+            model.rollbackTransaction();
+            logger.info("-------[Execution Of EditCommand Failed halfway]");
+            throw new CommandException(MESSAGE_DUPLICATE_TASK);
+        } catch (RuntimeException e) {
+            model.rollbackTransaction();
+            throw e;
         }
+        model.commitTransaction();
 
         logger.info("-------[Executed EditCommand]");
 
@@ -109,8 +109,7 @@ public class EditCommand extends UndoableCommand {
         EventsCenter.getInstance().post(new SelectMultipleTargetEvent(filteredTaskListIndexes));
         model.updateSelectedIndexes(filteredTaskListIndexes);
         String feedbackToUser = MESSAGE_EDIT_TASK_SUCCESS + messageSuccessful;
-        commandResultToUndo = new CommandResult(feedbackToUser);
-        updateUndoLists();
+        updateUndoLists(new CommandResult(feedbackToUser));
         return new CommandResult(feedbackToUser);
     }
 
@@ -141,34 +140,13 @@ public class EditCommand extends UndoableCommand {
     private void updateFilteredTaskListIndexes(ArrayList<Task> listOfEditedTasks) {
         filteredTaskListIndexes.clear();
         for (int count = 0; count < listOfEditedTasks.size(); count++) {
-            UnmodifiableObservableList<ReadOnlyTask> listOfTask = model
+            List<ReadOnlyTask> listOfTask = model
                     .getListFromChar(listOfEditedTasks.get(count).getTaskChar());
             filteredTaskListIndexes.add(new TaskIndex(listOfEditedTasks.get(count).getTaskChar(),
                     listOfTask.indexOf(listOfEditedTasks.get(count)) + 1));
         }
     }
 
-    /**
-     * Update {@code previousToDoLists} with the todolist before last edition
-     * and {@code previousCommand} with the command just executed
-     */
-    @Override
-    public void updateUndoLists() {
-        if (previousToDoLists == null) {
-            previousToDoLists = new ArrayList<ReadOnlyToDoList>(UNDO_HISTORY_SIZE);
-            previousCommandResults = new ArrayList<CommandResult>(UNDO_HISTORY_SIZE);
-        }
-        if (previousToDoLists.size() >= UNDO_HISTORY_SIZE) {
-            previousToDoLists.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousCommandResults.remove(ITEM_TO_BE_REMOVED_FROM_HISTORY);
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        } else {
-            previousToDoLists.add(originalToDoList);
-            previousCommandResults.add(commandResultToUndo);
-        }
-    }
-
     // @@
 
     /**
@@ -11,9 +11,10 @@ public class FindCommand extends Command {
     public static final String COMMAND_WORD = "find";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all tasks that contains any of "
-            + "the specified keywords and displays them as a list with index numbers.\n"
+            + "the specified keywords, or any of the tags given as #TAG, "
+            + "and displays them as a list with index numbers.\n"
             + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " 2103 3269 \n";
+            + "Example: " + COMMAND_WORD + " 2103 3269 #exams\n";
 
     private final Set<String> keywords;
 
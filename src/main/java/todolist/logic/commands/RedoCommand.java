@@ -0,0 +1,45 @@
+package todolist.logic.commands;
+
+import java.util.NoSuchElementException;
+import java.util.logging.Logger;
+
+import todolist.commons.core.LogsCenter;
+import todolist.logic.commands.exceptions.CommandException;
+import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
+
+//@@author A0143648Y
+/**
+ * Redoes the most recently undone modification to the ToDoList
+ * Undone commands can only be redone until another undoable command is executed
+ */
+public class RedoCommand extends Command {
+    private final Logger logger = LogsCenter.getLogger(RedoCommand.class);
+
+    public static final String MESSAGE_REDO_FAILURE = "No more operations to redo";
+    public static final String MESSAGE_REDO_CONFLICT = "The last command cannot be redone, "
+            + "as the tasks it changed have changed since: ";
+    public static final String COMMAND_WORD = "redo";
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Redoes the last command undone. \n"
+            + "Example: " + COMMAND_WORD + "\n";
+    public static final String MESSAGE_REDO_SUCCESS = "The following command has been redone: ";
+
+    @Override
+    public CommandResult execute() throws CommandException {
+        try {
+            logger.info("-----------[SYSTEM REDO COMMAND]");
+            String feedbackToUser = UndoableCommand.redoLast(model).feedbackToUser;
+
+            logger.info("-----------[REDO COMMAND EXECUTED]");
+
+            return new CommandResult(MESSAGE_REDO_SUCCESS + feedbackToUser);
+        } catch (NoSuchElementException e) {
+            logger.info("-----------[REDO COMMAND FAILED]");
+            throw new CommandException(MESSAGE_REDO_FAILURE);
+        } catch (DuplicateTaskException | TaskNotFoundException e) {
+            logger.info("-----------[REDO COMMAND FAILED]");
+            throw new CommandException(MESSAGE_REDO_CONFLICT + e.getMessage());
+        }
+
+    }
+}
@@ -1,10 +1,10 @@
 package todolist.logic.commands;
 
 import java.util.ArrayList;
+import java.util.List;
 
 import todolist.commons.core.EventsCenter;
 import todolist.commons.core.Messages;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.events.ui.SelectMultipleTargetEvent;
 import todolist.logic.commands.exceptions.CommandException;
 import todolist.model.task.ReadOnlyTask;
@@ -36,7 +36,7 @@ public class SelectCommand extends Command {
     public CommandResult execute() throws CommandException {
         for (int count = 0; count < targetIndexes.size(); count++) {
 
-            UnmodifiableObservableList<ReadOnlyTask> lastShownList = model
+            List<ReadOnlyTask> lastShownList = model
                     .getListFromChar(targetIndexes.get(count).getTaskChar());
 
             int listIndex = targetIndexes.get(count).getTaskNumber();
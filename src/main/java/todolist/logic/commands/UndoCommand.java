@@ -1,21 +1,26 @@
 package todolist.logic.commands;
 
+import java.util.NoSuchElementException;
 import java.util.logging.Logger;
 
 import todolist.commons.core.LogsCenter;
 import todolist.logic.commands.exceptions.CommandException;
+import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
 
 //@@author A0143648Y
 /**
  * Undoes the most recent modification to the ToDoList
- * Only last 3 undoable commands are recorded
+ * Only the last {@link UndoableCommand#setUndoHistorySize(int) undo history size} undoable commands are recorded
  */
 public class UndoCommand extends Command {
     private final Logger logger = LogsCenter.getLogger(UndoCommand.class);
 
     public static final String MESSAGE_UNDO_FAILURE = "No more operations to undo";
+    public static final String MESSAGE_UNDO_CONFLICT = "The last command cannot be undone, "
+            + "as the tasks it changed have changed since: ";
     public static final String COMMAND_WORD = "undo";
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Only the last three commands can be recovered. \n"
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Undoes the last command that changed the list. \n"
             + "Example: " + COMMAND_WORD + "\n";
     public static final String MESSAGE_UNDO_SUCCESS = "The following command has been undone: ";
 
@@ -23,18 +28,17 @@ public class UndoCommand extends Command {
     public CommandResult execute() throws CommandException {
         try {
             logger.info("-----------[SYSTEM UNDO COMMAND]");
-            model.resetData(UndoableCommand.previousToDoLists.get(UndoableCommand.previousToDoLists.size() - 1));
-            UndoableCommand.previousToDoLists.remove(UndoableCommand.previousToDoLists.size() - 1);
-            String feedbackToUser = new String(UndoableCommand.previousCommandResults
-                    .get(UndoableCommand.previousCommandResults.size() - 1).feedbackToUser);
-            UndoableCommand.previousCommandResults.remove(UndoableCommand.previousCommandResults.size() - 1);
+            String feedbackToUser = UndoableCommand.undoLast(model).feedbackToUser;
 
             logger.info("-----------[UNDO COMMAND EXECUTED]");
 
             return new CommandResult(MESSAGE_UNDO_SUCCESS + feedbackToUser);
-        } catch (Exception e) {
+        } catch (NoSuchElementException e) {
             logger.info("-----------[UNDO COMMAND FAILED]");
             throw new CommandException(MESSAGE_UNDO_FAILURE);
+        } catch (DuplicateTaskException | TaskNotFoundException e) {
+            logger.info("-----------[UNDO COMMAND FAILED]");
+            throw new CommandException(MESSAGE_UNDO_CONFLICT + e.getMessage());
         }
 
     }
@@ -1,25 +1,148 @@
 package todolist.logic.commands;
 
-import java.util.ArrayList;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.NoSuchElementException;
 
-import todolist.model.ReadOnlyToDoList;
+import todolist.commons.core.Config;
+import todolist.commons.events.model.TaskChange;
+import todolist.logic.commands.exceptions.CommandException;
+import todolist.model.Model;
+import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
 
 //@@author A0143648Y
 /**
- * An abstract class to keep a record of the todolist and command histories
+ * An abstract class to keep a record of the commands that can be undone and redone.
+ *
+ * A command records the changes it makes to the to-do list rather than a copy of the whole list,
+ * so that each command in the history holds only the tasks it changed, and is undone by reverting only those.
  */
 public abstract class UndoableCommand extends Command {
-    protected static final int UNDO_HISTORY_SIZE = 3;
-    protected static final int ITEM_TO_BE_REMOVED_FROM_HISTORY = 0;
+    private static int undoHistorySize = Config.DEFAULT_UNDO_HISTORY_SIZE;
+    private static final Deque<UndoableCommand> undoHistory = new ArrayDeque<>();
+    private static final Deque<UndoableCommand> redoHistory = new ArrayDeque<>();
 
-    protected static List<ReadOnlyToDoList> previousToDoLists;
-    protected static List<CommandResult> previousCommandResults;
+    private List<TaskChange> changes;
+    private CommandResult commandResultToUndo;
 
-    public abstract void updateUndoLists();
+    /**
+     * Executes the command, and stops recording the changes made to the to-do list if it fails,
+     * so that changes made after it, which it did not make, are not recorded.
+     */
+    @Override
+    public final CommandResult execute() throws CommandException {
+        try {
+            return executeUndoable();
+        } catch (CommandException | RuntimeException e) {
+            model.stopRecordingChanges();
+            throw e;
+        }
+    }
+
+    /**
+     * Executes the command, calling {@link #startRecordingChanges()} before it changes the to-do list
+     * and {@link #updateUndoLists(CommandResult)} once it has.
+     *
+     * @see Command#execute()
+     */
+    protected abstract CommandResult executeUndoable() throws CommandException;
+
+    /**
+     * Starts recording the changes this command makes to the to-do list.
+     */
+    protected void startRecordingChanges() {
+        model.startRecordingChanges();
+    }
+
+    /**
+     * Adds this command, which has just been executed, to the undo history with the changes recorded since
+     * {@link #startRecordingChanges()}, and {@code commandResultToUndo} to tell the user when it is undone.
+     * The commands undone before can no longer be redone.
+     */
+    protected void updateUndoLists(CommandResult commandResultToUndo) {
+        this.changes = model.stopRecordingChanges();
+        this.commandResultToUndo = commandResultToUndo;
+        redoHistory.clear();
+        push(undoHistory, this);
+    }
+
+    /**
+     * Reverts the changes made to the to-do list of {@code model} by this command.
+     */
+    protected void undo(Model model) throws DuplicateTaskException, TaskNotFoundException {
+        model.undoChanges(changes);
+    }
+
+    /**
+     * Makes the changes of this command again to the to-do list of {@code model}, after they were undone.
+     */
+    protected void redo(Model model) throws DuplicateTaskException, TaskNotFoundException {
+        model.redoChanges(changes);
+    }
+
+    /**
+     * Undoes the last command in the undo history, which can then be redone.
+     *
+     * @return the result of the command undone.
+     * @throws NoSuchElementException if there is no command to undo.
+     * @throws DuplicateTaskException if undoing it would add a Task equivalent to another one.
+     * @throws TaskNotFoundException if a Task it changed is no longer in the to-do list as it left it.
+     */
+    static CommandResult undoLast(Model model) throws DuplicateTaskException, TaskNotFoundException {
+        UndoableCommand command = undoHistory.getLast();
+        command.undo(model); // left in the history if it fails, as the to-do list is then left as it was
+        undoHistory.removeLast();
+        push(redoHistory, command);
+        return command.commandResultToUndo;
+    }
+
+    /**
+     * Redoes the last command undone, which can then be undone again.
+     *
+     * @return the result of the command redone.
+     * @throws NoSuchElementException if there is no command to redo.
+     * @throws DuplicateTaskException if redoing it would add a Task equivalent to another one.
+     * @throws TaskNotFoundException if a Task it changed is no longer in the to-do list as it was left.
+     */
+    static CommandResult redoLast(Model model) throws DuplicateTaskException, TaskNotFoundException {
+        UndoableCommand command = redoHistory.getLast();
+        command.redo(model); // left in the history if it fails, as the to-do list is then left as it was
+        redoHistory.removeLast();
+        push(undoHistory, command);
+        return command.commandResultToUndo;
+    }
+
+    /**
+     * Adds {@code command} to the end of {@code history}, dropping the oldest command if the history is full.
+     */
+    private static void push(Deque<UndoableCommand> history, UndoableCommand command) {
+        if (undoHistorySize == 0) {
+            return;
+        }
+        if (history.size() >= undoHistorySize) {
+            history.removeFirst();
+        }
+        history.addLast(command);
+    }
+
+    /**
+     * Sets the number of commands that can be undone, dropping the oldest commands beyond it.
+     */
+    public static void setUndoHistorySize(int size) {
+        assert size >= 0;
+        undoHistorySize = size;
+        for (Deque<UndoableCommand> history : Arrays.asList(undoHistory, redoHistory)) {
+            while (history.size() > size) {
+                history.removeFirst();
+            }
+        }
+    }
 
     public static void resetLists() {
-        previousToDoLists = new ArrayList<ReadOnlyToDoList>();
-        previousCommandResults = new ArrayList<CommandResult>();
+        undoHistory.clear();
+        redoHistory.clear();
     }
 }
@@ -13,6 +13,7 @@ import todolist.logic.commands.FindCommand;
 import todolist.logic.commands.HelpCommand;
 import todolist.logic.commands.ImportCommand;
 import todolist.logic.commands.ListCommand;
+import todolist.logic.commands.RedoCommand;
 import todolist.logic.commands.SaveCommand;
 import todolist.logic.commands.SelectCommand;
 import todolist.logic.commands.UndoCommand;
@@ -38,6 +39,7 @@ public class CommandSyntax {
         availableCommands.put(HelpCommand.COMMAND_WORD, HelpCommand.MESSAGE_USAGE);
         availableCommands.put(ImportCommand.COMMAND_WORD, ImportCommand.MESSAGE_USAGE);
         availableCommands.put(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_USAGE);
+        availableCommands.put(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_USAGE);
         availableCommands.put(SaveCommand.COMMAND_WORD, SaveCommand.MESSAGE_USAGE);
         availableCommands.put(SelectCommand.COMMAND_WORD, SelectCommand.MESSAGE_USAGE);
         availableCommands.put(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_USAGE);
@@ -22,6 +22,7 @@ import todolist.logic.commands.ImportCommand;
 import todolist.logic.commands.IncorrectCommand;
 import todolist.logic.commands.JokeCommand;
 import todolist.logic.commands.ListCommand;
+import todolist.logic.commands.RedoCommand;
 import todolist.logic.commands.SaveCommand;
 import todolist.logic.commands.SelectCommand;
 import todolist.logic.commands.UndoCommand;
@@ -90,6 +91,9 @@ public class Parser {
         case UndoCommand.COMMAND_WORD:
             return new UndoCommand();
 
+        case RedoCommand.COMMAND_WORD:
+            return new RedoCommand();
+
         case SaveCommand.COMMAND_WORD:
             return new SaveCommandParser().parse(arguments);
 
@@ -0,0 +1,118 @@
+package todolist.model;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+
+import todolist.commons.core.ComponentManager;
+import todolist.commons.core.LogsCenter;
+import todolist.commons.events.model.ToDoListChangedEvent;
+
+/**
+ * Completes the tasks of a model whose end times have passed, at the moment they pass.
+ *
+ * Rather than every task being checked whenever the task lists are refreshed, a timer waits for the earliest
+ * end time of the tasks that are not completed, which is looked up again whenever the to-do list changes.
+ * When it passes, the overdue tasks are completed as one change, on the thread that the model is changed on.
+ */
+public class DeadlineScheduler extends ComponentManager {
+
+    private static final Logger logger = LogsCenter.getLogger(DeadlineScheduler.class);
+
+    private final Model model;
+    private final Executor modelExecutor;
+    private final ScheduledThreadPoolExecutor timer;
+
+    /** The end time that the timer is waiting for, or null if it is not waiting. */
+    private LocalDateTime scheduledDeadline;
+    private ScheduledFuture<?> scheduledCompletion;
+
+    /**
+     * Creates a scheduler for the tasks of {@code model}, which completes them on {@code modelExecutor}.
+     * It starts waiting when {@link #start()} is called.
+     */
+    public DeadlineScheduler(Model model, Executor modelExecutor) {
+        super();
+        assert model != null && modelExecutor != null;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+        this.timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "Deadline scheduler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    /**
+     * Starts waiting for the earliest end time of the tasks of the model.
+     * Tasks that are already overdue are completed straight away.
+     */
+    public void start() {
+        reschedule();
+    }
+
+    /**
+     * Stops waiting for end times; no more tasks are completed.
+     */
+    public void stop() {
+        timer.shutdownNow();
+    }
+
+    @Subscribe
+    public void handleToDoListChangedEvent(ToDoListChangedEvent event) {
+        reschedule();
+    }
+
+    /**
+     * Makes the timer wait for the earliest end time of the tasks of the model,
+     * if it is not waiting for that end time already.
+     */
+    private void reschedule() {
+        // Looked up before taking the lock, so that the scheduler never waits for the model while holding it
+        Optional<LocalDateTime> deadline = model.getEarliestDeadline();
+        synchronized (this) {
+            if (!timer.isShutdown() && !(deadline.isPresent() && deadline.get().equals(scheduledDeadline))) {
+                schedule(deadline.orElse(null));
+            }
+        }
+    }
+
+    /**
+     * Makes the timer wait for {@code deadline} instead of the end time it was waiting for, or stop waiting if null.
+     */
+    private void schedule(LocalDateTime deadline) {
+        if (scheduledCompletion != null) {
+            scheduledCompletion.cancel(false);
+            scheduledCompletion = null;
+        }
+        scheduledDeadline = deadline;
+        if (scheduledDeadline == null) {
+            return;
+        }
+
+        // A task is overdue once its end time is in the past, so the timer waits until just after it
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), scheduledDeadline).toMillis() + 1);
+        logger.fine("Next task is due at " + scheduledDeadline + ", in " + delayMillis + " ms");
+        scheduledCompletion = timer.schedule(() -> modelExecutor.execute(this::completeOverdueTasks),
+                delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void completeOverdueTasks() {
+        synchronized (this) {
+            scheduledDeadline = null;
+            scheduledCompletion = null;
+        }
+        model.completeOverdueTasks();
+        // Completing tasks reschedules the timer through the change event, but the timer may also have woken early
+        reschedule();
+    }
+
+}
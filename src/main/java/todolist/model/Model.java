@@ -1,11 +1,15 @@
 package todolist.model;
 
 import java.io.IOException;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
-import todolist.commons.core.UnmodifiableObservableList;
+import todolist.commons.core.ObservedList;
+import todolist.commons.events.model.TaskChange;
 import todolist.commons.exceptions.DataConversionException;
 import todolist.model.task.EndTime;
 import todolist.model.task.ReadOnlyTask;
@@ -14,6 +18,7 @@ import todolist.model.task.Task;
 import todolist.model.task.TaskIndex;
 import todolist.model.task.UniqueTaskList;
 import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
 import todolist.model.util.Status;
 
 /**
@@ -25,9 +30,27 @@ public interface Model {
      */
     void resetData(ReadOnlyToDoList newData);
 
-    /** Returns the ToDoList */
+    /** Returns the ToDoList, which may only be read on the thread that the model is changed on */
     ReadOnlyToDoList getToDoList();
 
+    /**
+     * Returns a snapshot of the ToDoList as it is now, or as it was before the transaction in progress,
+     * which may be taken and read on any thread
+     */
+    ReadOnlyToDoList getToDoListSnapshot();
+
+    /**
+     * Makes {@code changes} to the model on the thread that its observable task lists are published on.
+     * @return a future completed once the changes are made, or exceptionally with the exception they threw
+     */
+    CompletableFuture<Void> submitChanges(Changes changes);
+
+    /** Changes to be made to a model, which may throw the exceptions of its methods. */
+    @FunctionalInterface
+    interface Changes {
+        void makeTo(Model model) throws Exception;
+    }
+
     /** Deletes the given Task. */
     void deleteTask(ReadOnlyTask target) throws UniqueTaskList.TaskNotFoundException;
 
@@ -54,36 +77,115 @@ public interface Model {
      */
     void updateTask(ReadOnlyTask taskToEdit, ReadOnlyTask editedTask) throws UniqueTaskList.DuplicateTaskException;
 
+    /**
+     * Starts recording the changes made to the to-do list,
+     * to be returned by {@link #stopRecordingChanges()}.
+     */
+    void startRecordingChanges();
+
+    /**
+     * Stops recording the changes made to the to-do list.
+     * @return the changes made since {@link #startRecordingChanges()}, in the order they were made.
+     */
+    List<TaskChange> stopRecordingChanges();
+
+    /**
+     * Reverts {@code changes}, which were the last changes made to the to-do list, latest first.
+     * Either all of them are reverted, or, if one cannot be, none.
+     *
+     * @throws DuplicateTaskException if reverting a change would add a Task equivalent to another one.
+     * @throws TaskNotFoundException if a Task changed is no longer in the to-do list.
+     */
+    void undoChanges(List<TaskChange> changes) throws DuplicateTaskException, TaskNotFoundException;
+
+    /**
+     * Makes {@code changes} again, which were reverted by {@link #undoChanges(List)}, in their order.
+     * Either all of them are made, or, if one cannot be, none.
+     *
+     * @throws DuplicateTaskException if making a change would add a Task equivalent to another one.
+     * @throws TaskNotFoundException if a Task changed is no longer in the to-do list.
+     */
+    void redoChanges(List<TaskChange> changes) throws DuplicateTaskException, TaskNotFoundException;
+
+    /**
+     * Starts a transaction, so that the changes made to the to-do list until it is committed or rolled back
+     * are told of as one change, rather than each raising its own event.
+     *
+     * @throws IllegalStateException if a transaction is already in progress.
+     */
+    void beginTransaction();
+
+    /**
+     * Ends the transaction in progress, raising one event for all the changes made in it, if there were any.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void commitTransaction();
+
+    /**
+     * Ends the transaction in progress by reverting the changes made in it, latest first.
+     * As the to-do list is left as it was when the transaction began, no event is raised.
+     *
+     * @throws IllegalStateException if no transaction is in progress.
+     */
+    void rollbackTransaction();
+
+    /**
+     * Starts a batch, so that the changes made to the to-do list until it ends, including those committed in
+     * transactions, are told of as one change. Unlike a transaction, a batch is never rolled back, so the changes
+     * of one command may fail while those of the others are kept.
+     *
+     * @throws IllegalStateException if a batch or transaction is already in progress.
+     */
+    void beginBatch();
+
+    /**
+     * Ends the batch in progress, raising one event for all the changes made in it, if there were any.
+     *
+     * @throws IllegalStateException if no batch is in progress, or a transaction in it has not ended.
+     */
+    void endBatch();
+
+    /**
+     * Completes every task whose end time has passed, as one change to the to-do list.
+     */
+    void completeOverdueTasks();
+
+    /**
+     * Returns the earliest end time of the tasks that are not completed, which is when the next task is overdue.
+     */
+    Optional<LocalDateTime> getEarliestDeadline();
+
   //@@author A0143648Y
     /**
      * Returns the filtered Deadline Task list as an
-     * {@code UnmodifiableObservableList<ReadOnlyTask>}
+     * {@code ObservedList<ReadOnlyTask>}
      */
-    UnmodifiableObservableList<ReadOnlyTask> getFilteredDeadlineList();
+    ObservedList<ReadOnlyTask> getFilteredDeadlineList();
 
     /**
      * Returns the filtered Event list as an
-     * {@code UnmodifiableObservableList<ReadOnlyTask>}
+     * {@code ObservedList<ReadOnlyTask>}
      */
-    UnmodifiableObservableList<ReadOnlyTask> getFilteredEventList();
+    ObservedList<ReadOnlyTask> getFilteredEventList();
 
     /**
      * Returns the filtered Floating Task list as an
-     * {@code UnmodifiableObservableList<ReadOnlyTask>}
+     * {@code ObservedList<ReadOnlyTask>}
      */
-    UnmodifiableObservableList<ReadOnlyTask> getFilteredFloatList();
+    ObservedList<ReadOnlyTask> getFilteredFloatList();
 
     /**
      * Returns the filtered Task list containing all tasks as an
-     * {@code UnmodifiableObservableList<ReadOnlyTask>}
+     * {@code ObservedList<ReadOnlyTask>}
      */
-    UnmodifiableObservableList<ReadOnlyTask> getAllTaskList();
+    ObservedList<ReadOnlyTask> getAllTaskList();
 
     /**
      * Returns the correct type of Task list from
      * {@code type}}
      */
-    UnmodifiableObservableList<ReadOnlyTask> getListFromChar(Character type);
+    ObservedList<ReadOnlyTask> getListFromChar(Character type);
 
     /**
      * Updates current Task Indexes being selected from {@code indexes}
@@ -138,7 +240,7 @@ public interface Model {
     /**
      * Obtain the list of completed tasks
      */
-    UnmodifiableObservableList<ReadOnlyTask> getCompletedList();
+    ObservedList<ReadOnlyTask> getCompletedList();
 
 
     //@@
@@ -2,38 +2,60 @@ package todolist.model;
 
 import java.io.File;
 import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 
-import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
 import todolist.commons.core.ComponentManager;
 import todolist.commons.core.LogsCenter;
-import todolist.commons.core.UnmodifiableObservableList;
+import todolist.commons.core.ObservedList;
+import todolist.commons.events.BaseEvent;
+import todolist.commons.events.model.TaskChange;
 import todolist.commons.events.model.ToDoListChangedEvent;
 import todolist.commons.events.storage.DirectoryChangedEvent;
 import todolist.commons.exceptions.DataConversionException;
 import todolist.commons.util.CollectionUtil;
 import todolist.commons.util.FileUtil;
+import todolist.model.tag.Tag;
 import todolist.model.task.EndTime;
+import todolist.model.task.ImmutableTask;
 import todolist.model.task.ReadOnlyTask;
-import todolist.model.task.ReadOnlyTask.Category;
 import todolist.model.task.StartTime;
 import todolist.model.task.Task;
 import todolist.model.task.TaskIndex;
+import todolist.model.task.TaskTagIndex;
+import todolist.model.task.TaskTextIndex;
+import todolist.model.task.TaskTimeIndex;
 import todolist.model.task.Time;
 import todolist.model.task.UniqueTaskList;
 import todolist.model.task.UniqueTaskList.TaskNotFoundException;
 import todolist.model.util.SampleDataUtil;
 import todolist.model.util.Status;
-import todolist.storage.XmlFileStorage;
+import todolist.storage.XmlStreamFileStorage;
 
 /**
- * Represents the in-memory model of the to-do list data. All changes to any
- * model should be synchronized.
+ * Represents the in-memory model of the to-do list data.
+ *
+ * Changes are made in write sections, which exclude every other change and every query, and the events telling of
+ * them are raised once a section ends, so that their handlers can query the model. No other thread may change the
+ * model during a transaction. Queries that may be made from any thread, such as {@link #getToDoListSnapshot()},
+ * take an optimistic read first, and only wait for a read lock if a change was made while they read.
+ *
+ * The observable task lists are changed along with the tasks, so changes must be made on the thread they are
+ * published on, which is given to the model. Other threads make their changes through {@link #submitChanges}.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
@@ -45,18 +67,47 @@ public class ModelManager extends ComponentManager implements Model {
 
   //@@author A0143648Y
     private final ToDoList todoList;
-    private FilteredList<ReadOnlyTask> filteredFloats;
-    private FilteredList<ReadOnlyTask> filteredDeadlines;
-    private FilteredList<ReadOnlyTask> filteredEvents;
-    private FilteredList<ReadOnlyTask> completedTasks;
+    private TaskListViews views;
     private ArrayList<TaskIndex> selectedIndexes;
+    /** The changes made to the to-do list since recording started, or null if they are not being recorded. */
+    private List<TaskChange> recordedChanges;
+    /** The changes made to the to-do list in the transaction in progress, or null if there is none. */
+    private List<TaskChange> transactionChanges;
+    /** True if the whole to-do list has been changed in the transaction in progress, rather than only some tasks. */
+    private boolean isAllChangedInTransaction;
+    /** The changes made to the to-do list in the batch in progress, or null if there is none. */
+    private List<TaskChange> batchChanges;
+    /** True if the whole to-do list has been changed in the batch in progress, rather than only some tasks. */
+    private boolean isAllChangedInBatch;
+
+    /** Excludes queries while the model is changed. Not reentrant, so only taken by public methods. */
+    private final StampedLock lock = new StampedLock();
+    /** Makes changes one at a time; held from the beginning to the end of a transaction. */
+    private final ReentrantLock writerLock = new ReentrantLock();
+    /** The events of the changes made in the write section in progress, to be raised once it ends. */
+    private final Queue<BaseEvent> eventsToRaise = new ArrayDeque<>();
+    /** The snapshot of the to-do list as it is now, or null if it has changed since the last one was taken. */
+    private volatile ReadOnlyToDoList latestSnapshot;
+    /** The snapshot of the to-do list before the batch or transaction in progress, or null if there is none. */
+    private ReadOnlyToDoList snapshotBeforeTransaction;
+    /** Runs changes on the thread that the observable task lists are published on. */
+    private final Executor modelExecutor;
 
     /**
      * Initializes a ModelManager with the given ToDoList and userPrefs.
      */
     public ModelManager(ReadOnlyToDoList todoList, UserPrefs userPrefs) {
+        this(todoList, userPrefs, Runnable::run);
+    }
+
+    /**
+     * Initializes a ModelManager with the given ToDoList and userPrefs,
+     * whose observable task lists are published on the thread of {@code modelExecutor}.
+     */
+    public ModelManager(ReadOnlyToDoList todoList, UserPrefs userPrefs, Executor modelExecutor) {
         super();
-        assert !CollectionUtil.isAnyNull(todoList, userPrefs);
+        assert !CollectionUtil.isAnyNull(todoList, userPrefs, modelExecutor);
+        this.modelExecutor = modelExecutor;
 
         logger.fine("Initializing with to-do list: " + todoList + " and user prefs " + userPrefs);
 
@@ -73,8 +124,13 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyToDoList newData) {
-        todoList.resetData(newData);
-        indicateToDoListChanged();
+        long stamp = beginWrite();
+        try {
+            todoList.resetData(newData);
+            indicateToDoListChanged();
+        } finally {
+            endWrite(stamp);
+        }
     }
 
     @Override
@@ -82,9 +138,103 @@ public class ModelManager extends ComponentManager implements Model {
         return todoList;
     }
 
-    /** Raises an event to indicate the model has changed */
+    @Override
+    public ReadOnlyToDoList getToDoListSnapshot() {
+        long stamp = lock.tryOptimisticRead();
+        ReadOnlyToDoList snapshot = latestSnapshot;
+        if (snapshot != null && lock.validate(stamp)) {
+            return snapshot;
+        }
+        // Taking a snapshot updates the next one kept by the to-do list, so it is taken by one thread at a time
+        stamp = lock.writeLock();
+        try {
+            if (latestSnapshot == null) {
+                latestSnapshot = snapshotBeforeTransaction != null ? snapshotBeforeTransaction : todoList.snapshot();
+            }
+            return latestSnapshot;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> submitChanges(Changes changes) {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        modelExecutor.execute(() -> {
+            try {
+                changes.makeTo(this);
+                done.complete(null);
+            } catch (Exception e) {
+                done.completeExceptionally(e);
+            }
+        });
+        return done;
+    }
+
+    /**
+     * Begins a write section, waiting for any change or transaction of another thread, and any query, to end.
+     * @return the stamp to end it with
+     */
+    private long beginWrite() {
+        writerLock.lock();
+        long stamp = lock.writeLock();
+        latestSnapshot = null;
+        return stamp;
+    }
+
+    /**
+     * Ends the write section begun with {@code stamp}, then raises the events of the changes made in it.
+     */
+    private void endWrite(long stamp) {
+        lock.unlockWrite(stamp);
+        try {
+            BaseEvent event;
+            while ((event = eventsToRaise.poll()) != null) {
+                raise(event);
+            }
+        } finally {
+            writerLock.unlock();
+        }
+    }
+
+    /**
+     * Raises an event to indicate the model has changed, once the write section in progress ends.
+     * The event carries a snapshot, so that its subscribers can keep it while the model changes further.
+     */
     private void indicateToDoListChanged() {
-        raise(new ToDoListChangedEvent(todoList));
+        if (transactionChanges != null) {
+            isAllChangedInTransaction = true;
+            return;
+        }
+        if (batchChanges != null) {
+            isAllChangedInBatch = true;
+            return;
+        }
+        eventsToRaise.add(new ToDoListChangedEvent(todoList.snapshot()));
+    }
+
+    /**
+     * Raises an event to indicate the model has changed by exactly {@code changes}, once the write section
+     * in progress ends, or keeps them to be told of when the transaction in progress is committed,
+     * or the batch in progress ends.
+     */
+    private void indicateToDoListChanged(List<TaskChange> changes) {
+        if (transactionChanges != null) {
+            transactionChanges.addAll(changes);
+            return;
+        }
+        if (recordedChanges != null) {
+            recordedChanges.addAll(changes);
+        }
+        if (batchChanges != null) {
+            batchChanges.addAll(changes);
+            return;
+        }
+        eventsToRaise.add(new ToDoListChangedEvent(todoList.snapshot(), changes));
+    }
+
+    private void indicateToDoListChanged(TaskChange change) {
+        indicateToDoListChanged(Collections.singletonList(change));
     }
 
     // @@author A0110791M
@@ -96,13 +246,18 @@ public class ModelManager extends ComponentManager implements Model {
     public void changeDirectory(String filePath) throws IOException {
         assert(filePath != null);
         FileUtil.createIfMissing(new File(filePath));
-        indicateDirectoryChanged(filePath);
-        indicateToDoListChanged();
+        long stamp = beginWrite();
+        try {
+            indicateDirectoryChanged(filePath);
+            indicateToDoListChanged();
+        } finally {
+            endWrite(stamp);
+        }
     }
 
-    /** Raises an event to indicate the user requests a new directory */
+    /** Raises an event to indicate the user requests a new directory, once the write section in progress ends */
     private void indicateDirectoryChanged(String filePath) {
-        raise(new DirectoryChangedEvent(filePath));
+        eventsToRaise.add(new DirectoryChangedEvent(filePath));
     }
 
     /** Imports all tasks from given filePath */
@@ -111,48 +266,321 @@ public class ModelManager extends ComponentManager implements Model {
         Optional<ReadOnlyToDoList> todoListOptional;
         ReadOnlyToDoList initialData;
 
-        todoListOptional = Optional.of(XmlFileStorage.loadDataFromSaveFile(new File(filePath)));
+        todoListOptional = Optional.of(XmlStreamFileStorage.loadDataFromSaveFile(new File(filePath)));
         if (!todoListOptional.isPresent()) {
             logger.info("Data file not found. Will be starting with a sample ToDoList");
         }
         initialData = todoListOptional.orElseGet(SampleDataUtil::getSampleToDoList);
 
         addImportedTasks(initialData);
-
-        indicateToDoListChanged();
     }
 
+    /**
+     * Adds every task in {@code importedList} that is not already in the to-do list, as one change,
+     * or none of them if one cannot be added.
+     */
     private void addImportedTasks(ReadOnlyToDoList importedList) {
-        ObservableList<ReadOnlyTask> taskList = importedList.getTaskList();
-        for (ReadOnlyTask task : taskList) {
+        beginTransaction();
+        try {
+            for (ReadOnlyTask task : importedList.getTaskList()) {
+                try {
+                    addTask(new Task(task.getTitle(), task.getVenue().orElse(null),
+                            task.getStartTime().orElse(null), task.getEndTime().orElse(null),
+                            task.getUrgencyLevel().orElse(null), task.getDescription().orElse(null),
+                            task.getTagSet(), false));
+                } catch (UniqueTaskList.DuplicateTaskException e) {
+                    continue;
+                }
+            }
+        } catch (RuntimeException e) {
+            rollbackTransaction();
+            throw e;
+        }
+        commitTransaction();
+    }
+    //@@
+
+    @Override
+    public void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
+        long stamp = beginWrite();
+        try {
+            todoList.addTask(task);
+            indicateToDoListChanged(TaskChange.added(task, todoList.indexOf(task)));
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
+        long stamp = beginWrite();
+        try {
+            int position = todoList.indexOf(target);
+            todoList.removeTask(target);
+            indicateToDoListChanged(TaskChange.removed(target, position));
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void startRecordingChanges() {
+        long stamp = beginWrite();
+        try {
+            recordedChanges = new ArrayList<>();
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public List<TaskChange> stopRecordingChanges() {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> changes = recordedChanges == null ? new ArrayList<>() : recordedChanges;
+            recordedChanges = null;
+            return changes;
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void undoChanges(List<TaskChange> changes)
+            throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> madeChanges = revertChanges(changes);
+            if (!madeChanges.isEmpty()) {
+                indicateToDoListChanged(madeChanges);
+            }
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    /**
+     * Reverts {@code changes}, latest first, all or none of them.
+     * The tags first added to the to-do list by the changes reverted are taken out with them.
+     * @return the inverse changes made
+     */
+    private List<TaskChange> revertChanges(List<TaskChange> changes)
+            throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
+        List<TaskChange> inverses = new ArrayList<>();
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            inverses.add(changes.get(i).inverse());
+        }
+        List<TaskChange> madeChanges = makeChanges(inverses);
+        removeUnusedTagsOfTasksTakenOut(madeChanges);
+        return madeChanges;
+    }
+
+    /**
+     * Makes {@code changes} in their order, all or none of them: if one cannot be made, those made before it
+     * are reverted before its exception is thrown.
+     * @return the changes made, without those that the to-do list had already
+     */
+    private List<TaskChange> makeChanges(List<TaskChange> changes)
+            throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
+        List<TaskChange> madeChanges = new ArrayList<>();
+        try {
+            for (TaskChange change : changes) {
+                if (makeChange(change)) {
+                    madeChanges.add(change);
+                }
+            }
+        } catch (UniqueTaskList.DuplicateTaskException | TaskNotFoundException | RuntimeException e) {
+            List<TaskChange> inverses = new ArrayList<>();
+            for (int i = madeChanges.size() - 1; i >= 0; i--) {
+                TaskChange inverse = madeChanges.get(i).inverse();
+                try {
+                    makeChange(inverse);
+                    inverses.add(inverse);
+                } catch (UniqueTaskList.DuplicateTaskException | TaskNotFoundException revertFailure) {
+                    // Only the changes just made are reverted, so this should not happen
+                    logger.severe("Could not revert a change: " + revertFailure.getMessage());
+                }
+            }
+            removeUnusedTagsOfTasksTakenOut(inverses);
+            throw e;
+        }
+        return madeChanges;
+    }
+
+    /**
+     * Takes out of the to-do list the tags of the tasks taken out or replaced by {@code madeChanges}
+     * that no task has any more.
+     */
+    private void removeUnusedTagsOfTasksTakenOut(List<TaskChange> madeChanges) {
+        Set<Tag> tagsOfTasksTakenOut = new HashSet<>();
+        for (TaskChange change : madeChanges) {
+            if (change.before != null) {
+                change.before.getTagSet().forEach(tagsOfTasksTakenOut::add);
+            }
+        }
+        todoList.removeUnusedTags(tagsOfTasksTakenOut);
+    }
+
+    @Override
+    public void redoChanges(List<TaskChange> changes)
+            throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> madeChanges = makeChanges(changes);
+            if (!madeChanges.isEmpty()) {
+                indicateToDoListChanged(madeChanges);
+            }
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void beginTransaction() {
+        long stamp = beginWrite();
+        try {
+            if (transactionChanges != null) {
+                throw new IllegalStateException("A transaction is already in progress");
+            }
+            transactionChanges = new ArrayList<>();
+            isAllChangedInTransaction = false;
+            if (batchChanges == null) {
+                snapshotBeforeTransaction = todoList.snapshot();
+            }
+            writerLock.lock(); // held until the transaction ends, so that no other thread changes the model in it
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void commitTransaction() {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> changes = endTransaction();
+            if (isAllChangedInTransaction) {
+                indicateToDoListChanged();
+            } else if (!changes.isEmpty()) {
+                indicateToDoListChanged(changes);
+            }
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    @Override
+    public void rollbackTransaction() {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> changes = endTransaction();
+            if (isAllChangedInTransaction) {
+                logger.warning("The whole to-do list was changed in the transaction, so it cannot be rolled back");
+                indicateToDoListChanged();
+                return;
+            }
             try {
-                addTask(task);
-            } catch (UniqueTaskList.DuplicateTaskException e) {
-                continue;
+                revertChanges(changes);
+            } catch (UniqueTaskList.DuplicateTaskException | TaskNotFoundException e) {
+                // Only the changes of the transaction were made since it began, so this should not happen
+                logger.severe("Could not roll back a transaction: " + e.getMessage());
+                if (!changes.isEmpty()) {
+                    indicateToDoListChanged(changes);
+                }
             }
+        } finally {
+            endWrite(stamp);
         }
     }
 
-    public synchronized void addTask(ReadOnlyTask readOnlyTask) throws UniqueTaskList.DuplicateTaskException {
-        Task task;
-        task = new Task(readOnlyTask.getTitle(), readOnlyTask.getVenue().orElse(null),
-                readOnlyTask.getStartTime().orElse(null), readOnlyTask.getEndTime().orElse(null),
-                readOnlyTask.getUrgencyLevel().orElse(null), readOnlyTask.getDescription().orElse(null),
-                readOnlyTask.getTags());
-        todoList.addTask(task);
+    /**
+     * Ends the transaction in progress, which must have been begun by this thread.
+     * Its hold on {@link #writerLock} is let go of, so other threads may change the model once the write section
+     * in progress ends.
+     * @return the changes made in it
+     */
+    private List<TaskChange> endTransaction() {
+        if (transactionChanges == null) {
+            throw new IllegalStateException("No transaction is in progress");
+        }
+        List<TaskChange> changes = transactionChanges;
+        transactionChanges = null;
+        if (batchChanges == null) {
+            snapshotBeforeTransaction = null;
+        }
+        writerLock.unlock();
+        return changes;
     }
-    //@@
 
     @Override
-    public synchronized void addTask(Task task) throws UniqueTaskList.DuplicateTaskException {
-        todoList.addTask(task);
-        indicateToDoListChanged();
+    public void beginBatch() {
+        long stamp = beginWrite();
+        try {
+            if (batchChanges != null || transactionChanges != null) {
+                throw new IllegalStateException("A batch or transaction is already in progress");
+            }
+            batchChanges = new ArrayList<>();
+            isAllChangedInBatch = false;
+            snapshotBeforeTransaction = todoList.snapshot();
+            writerLock.lock(); // held until the batch ends, as for a transaction
+        } finally {
+            endWrite(stamp);
+        }
     }
 
     @Override
-    public synchronized void deleteTask(ReadOnlyTask target) throws TaskNotFoundException {
-        todoList.removeTask(target);
-        indicateToDoListChanged();
+    public void endBatch() {
+        long stamp = beginWrite();
+        try {
+            if (batchChanges == null) {
+                throw new IllegalStateException("No batch is in progress");
+            }
+            if (transactionChanges != null) {
+                throw new IllegalStateException("A transaction in the batch has not ended");
+            }
+            List<TaskChange> changes = batchChanges;
+            batchChanges = null;
+            snapshotBeforeTransaction = null;
+            writerLock.unlock();
+            if (isAllChangedInBatch) {
+                indicateToDoListChanged();
+            } else if (!changes.isEmpty()) {
+                indicateToDoListChanged(changes);
+            }
+        } finally {
+            endWrite(stamp);
+        }
+    }
+
+    /**
+     * Makes {@code change} to the to-do list, touching only the task it is about.
+     * @return false if the to-do list had the change already
+     */
+    private boolean makeChange(TaskChange change)
+            throws UniqueTaskList.DuplicateTaskException, TaskNotFoundException {
+        switch (change.kind) {
+        case ADDED:
+            Task task = new Task(change.after);
+            if (change.position < 0) {
+                todoList.addTask(task);
+            } else {
+                todoList.addTask(change.position, task);
+            }
+            break;
+        case REMOVED:
+            todoList.removeTask(change.before);
+            break;
+        case UPDATED:
+            todoList.getTask(change.before); // as updateTask expects the task to be there
+            todoList.updateTask(change.before, change.after);
+            break;
+        default:
+            // Only toggled if it does not have the completion status already, as it may have been completed since
+            if (todoList.getTask(change.after).isTaskCompleted() == change.after.isTaskCompleted()) {
+                return false;
+            }
+            todoList.completeTask(change.after);
+        }
+        return true;
     }
 
   //@@author A0143648Y
@@ -161,8 +589,17 @@ public class ModelManager extends ComponentManager implements Model {
             throws UniqueTaskList.DuplicateTaskException {
         assert taskToEdit != null;
         assert editedTask != null;
-        todoList.updateTask(taskToEdit, editedTask);
-        indicateToDoListChanged();
+        long stamp = beginWrite();
+        try {
+            int position = todoList.indexOf(taskToEdit);
+            ReadOnlyTask before = ImmutableTask.of(taskToEdit);
+            todoList.updateTask(taskToEdit, editedTask);
+            // The task as it is stored after the update, which keeps its completion status, rather than editedTask
+            ReadOnlyTask after = ImmutableTask.of(todoList.getTaskList().get(position));
+            indicateToDoListChanged(TaskChange.updated(before, after, position));
+        } finally {
+            endWrite(stamp);
+        }
     }
 
     @Override
@@ -189,14 +626,11 @@ public class ModelManager extends ComponentManager implements Model {
     //@@author A0122017Y
     /**
      * Synchronize the task lists with the respective task type.
+     * The lists are projected by {@link TaskListViews}, which lasts as long as the model.
      */
     private void syncTypeOfTasks() {
-        filteredDeadlines = new FilteredList<>(this.todoList.getFilteredDeadlines());
-        filteredFloats = new FilteredList<>(this.todoList.getFilteredFloats());
-        filteredEvents = new FilteredList<>(this.todoList.getFilteredEvents());
-        completedTasks = new FilteredList<>(this.todoList.getCompletedTasks());
+        views = new TaskListViews(todoList);
         syncSumTaskListed();
-
     }
 
     /**
@@ -204,44 +638,40 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public void completeTask(ReadOnlyTask taskToComplete) {
-        todoList.completeTask(taskToComplete);
-        indicateToDoListChanged();
-
+        long stamp = beginWrite();
+        try {
+            ReadOnlyTask completedTask = todoList.completeTask(taskToComplete);
+            indicateToDoListChanged(TaskChange.completed(completedTask, todoList.indexOf(completedTask)));
+        } finally {
+            endWrite(stamp);
+        }
     }
 
     // =========== Filtered Task List Accessors
     // =============================================================
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getFilteredDeadlineList() {
-        SortedList<ReadOnlyTask> sortedDeadlines = new SortedList<>(filteredDeadlines);
-        sortedDeadlines.setComparator(ReadOnlyTask.getDeadlineComparator());
-        return new UnmodifiableObservableList<>(sortedDeadlines);
+    public ObservedList<ReadOnlyTask> getFilteredDeadlineList() {
+        return views.getDeadlines();
     }
 
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getFilteredEventList() {
-        SortedList<ReadOnlyTask> sortedEvents = new SortedList<>(filteredEvents);
-        sortedEvents.setComparator(ReadOnlyTask.getEventComparator());
-        return new UnmodifiableObservableList<>(sortedEvents);
+    public ObservedList<ReadOnlyTask> getFilteredEventList() {
+        return views.getEvents();
     }
 
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getFilteredFloatList() {
-        SortedList<ReadOnlyTask> sortedFloats = new SortedList<>(filteredFloats);
-        sortedFloats.setComparator(ReadOnlyTask.getFloatingComparator());
-        return new UnmodifiableObservableList<>(sortedFloats);
+    public ObservedList<ReadOnlyTask> getFilteredFloatList() {
+        return views.getFloats();
     }
 
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getAllTaskList() {
-        return new UnmodifiableObservableList<>(todoList.getTaskList());
+    public ObservedList<ReadOnlyTask> getAllTaskList() {
+        return views.getAllTasks();
     }
 
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getCompletedList() {
-        SortedList<ReadOnlyTask> sortedComplete = new SortedList<>(completedTasks);
-        sortedComplete.setComparator(ReadOnlyTask.getCompleteComparator());
-        return new UnmodifiableObservableList<>(sortedComplete);
+    public ObservedList<ReadOnlyTask> getCompletedList() {
+        return views.getCompletedTasks();
     }
 
     @Override
@@ -251,7 +681,7 @@ public class ModelManager extends ComponentManager implements Model {
 
   //@@author A0143648Y
     @Override
-    public UnmodifiableObservableList<ReadOnlyTask> getListFromChar(Character type) {
+    public ObservedList<ReadOnlyTask> getListFromChar(Character type) {
         switch (type) {
 
         case Task.COMPLETE_CHAR:
@@ -271,20 +701,34 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void updateFilteredListToShowAll() {
-        syncTaskWithTime();
-        filteredDeadlines.setPredicate(null);
-        filteredFloats.setPredicate(null);
-        filteredEvents.setPredicate(null);
-        completedTasks.setPredicate(null);
-        syncSumTaskListed();
-        indicateToDoListChanged();
-
+        updateFilteredTaskList((Expression) null);
     }
 
-    private void syncTaskWithTime() {
-        todoList.autoComplete();
-        indicateToDoListChanged();
+    @Override
+    public void completeOverdueTasks() {
+        long stamp = beginWrite();
+        try {
+            List<TaskChange> changes = new ArrayList<>();
+            for (Task completedTask : todoList.autoComplete()) {
+                changes.add(TaskChange.completed(completedTask, todoList.indexOf(completedTask)));
+            }
+            if (!changes.isEmpty()) {
+                indicateToDoListChanged(changes);
+            }
+        } finally {
+            endWrite(stamp);
+        }
+    }
 
+    @Override
+    public Optional<LocalDateTime> getEarliestDeadline() {
+        // The index is a tree, which cannot be read while it is changed, so this waits for changes to end
+        long stamp = lock.readLock();
+        try {
+            return todoList.getEarliestDeadline();
+        } finally {
+            lock.unlockRead(stamp);
+        }
     }
 
     @Override
@@ -298,23 +742,23 @@ public class ModelManager extends ComponentManager implements Model {
         updateFilteredTaskList(new PredicateExpression(new DurationQualifier(startTime, endTime, today)));
     }
 
+    /**
+     * Shows only the tasks that satisfy {@code expression}, or every task if it is null.
+     * The lists are filtered in a write section, as filtering reads the tasks and changes the lists.
+     */
     private void updateFilteredTaskList(Expression expression) {
-        filteredDeadlines.setPredicate(expression::satisfies);
-        filteredFloats.setPredicate(expression::satisfies);
-        filteredEvents.setPredicate(expression::satisfies);
-        completedTasks.setPredicate(expression::satisfies);
-        syncSumTaskListed();
-        indicateToDoListChanged();
-
+        Predicate<ReadOnlyTask> predicate = expression == null ? null : expression::satisfies;
+        long stamp = beginWrite();
+        try {
+            views.setPredicate(predicate);
+            syncSumTaskListed();
+        } finally {
+            endWrite(stamp);
+        }
     }
 
     private void syncSumTaskListed() {
-        int deadlineCounts = filteredDeadlines.size();
-        int floatCounts = filteredFloats.size();
-        int eventCounts = filteredEvents.size();
-        int completeCounts = completedTasks.size();
-        taskCount = deadlineCounts + floatCounts + eventCounts + completeCounts;
-
+        taskCount = views.size();
     }
 
     // @@
@@ -364,22 +808,51 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     private class NameQualifier implements Qualifier {
+        /** Marks a keyword that finds the tasks with a tag of that name, rather than those containing it. */
+        private static final String TAG_KEYWORD_PREFIX = "#";
+
         private Set<String> nameKeyWords;
+        private Set<ReadOnlyTask> tasksWithKeywords;
+        private int textIndexVersion;
+        private int tagIndexVersion;
 
         NameQualifier(Set<String> nameKeyWords) {
             this.nameKeyWords = nameKeyWords;
         }
 
       //@@author A0143648Y
+        /**
+         * The tasks with a detail containing any of the keywords, or tagged with any of the keywords
+         * written as #tag, are looked up in the indexes of the to-do list,
+         * and looked up again only once the indexes have changed
+         */
         @Override
         public boolean run(ReadOnlyTask task) {
-            return nameKeyWords.stream()
-                    .filter(keyword -> hasContainedKeyword(task.getTitle().toString(), keyword)
-                            || hasContainedKeyword(task.getStartTimeString(), keyword)
-                            || hasContainedKeyword(task.getEndTimeString(), keyword)
-                            || hasContainedKeyword(task.getDescriptionString(), keyword)
-                            || hasContainedKeyword(task.getVenueString(), keyword))
-                    .findAny().isPresent();
+            TaskTextIndex textIndex = todoList.getTextIndex();
+            TaskTagIndex tagIndex = todoList.getTagIndex();
+            if (tasksWithKeywords == null || textIndexVersion != textIndex.getVersion()
+                    || tagIndexVersion != tagIndex.getVersion()) {
+                tasksWithKeywords = Collections.newSetFromMap(new IdentityHashMap<>());
+                for (String keyword : nameKeyWords) {
+                    tasksWithKeywords.addAll(findTasksWithKeyword(keyword, textIndex, tagIndex));
+                }
+                textIndexVersion = textIndex.getVersion();
+                tagIndexVersion = tagIndex.getVersion();
+            }
+            return tasksWithKeywords.contains(task);
+        }
+
+        private Set<ReadOnlyTask> findTasksWithKeyword(String keyword, TaskTextIndex textIndex,
+                TaskTagIndex tagIndex) {
+            if (keyword.startsWith(TAG_KEYWORD_PREFIX)) {
+                String tagName = keyword.substring(TAG_KEYWORD_PREFIX.length());
+                if (Tag.isValidTagName(tagName)) {
+                    // Looked up without naming it, so that searching does not add tags; no task has an unnamed tag
+                    Optional<Tag> tag = Tag.find(tagName);
+                    return tag.isPresent() ? tagIndex.getTasksTagged(tag.get()) : Collections.emptySet();
+                }
+            }
+            return textIndex.getTasksContaining(keyword);
         }
 
         @Override
@@ -425,6 +898,8 @@ public class ModelManager extends ComponentManager implements Model {
         private StartTime startTime;
         private StartTime today;
         private EndTime endTime;
+        private Set<ReadOnlyTask> tasksWithinDuration;
+        private int indexVersion;
         Boolean status;
 
         DurationQualifier(Optional<StartTime> start, Optional<EndTime> end, Optional<StartTime> day) {
@@ -473,82 +948,35 @@ public class ModelManager extends ComponentManager implements Model {
 
         /**
          * Carry out comparison according to the type of tasks
+         * The tasks within the duration are looked up in the time index of the to-do list,
+         * and looked up again only once the index has changed
          */
         @Override
         public boolean run(ReadOnlyTask task) {
-            if (task.getTaskCategory().equals(Category.DEADLINE)) {
-                return isDeadlineWithinDuration(task);
-            } else if (task.getTaskCategory().equals(Category.EVENT)) {
-                return isEventWithinDuration(task);
-            } else if (task.getTaskCategory().equals(Category.FLOAT)) {
-                return isFloatingWithinDuration(task);
-            } else {
-                return false;
+            TaskTimeIndex timeIndex = todoList.getTimeIndex();
+            if (tasksWithinDuration == null || indexVersion != timeIndex.getVersion()) {
+                tasksWithinDuration = findTasksWithinDuration(timeIndex);
+                indexVersion = timeIndex.getVersion();
             }
+            return tasksWithinDuration.contains(task);
         }
 
         /**
-         * Check the given task is satisfying the time constraints
-         * The task is already assumed to be a floating task
-         * @param task
-         * @return
+         * Finds the tasks that are not completed and satisfy the time constraints:
+         * deadlines due within the duration, events that start and end within it,
+         * and floating tasks that start within it, or any of them on the day of "today"
+         * Times are compared by day, as {@link Time#isBefore(Time)} and {@link Time#isAfter(Time)} do
          */
-        private boolean isFloatingWithinDuration(ReadOnlyTask task) {
-            if (task.getStartTime().isPresent()) {
-                return isTimeInDuration(task.getStartTime().get()) ||
-                        isOnTheDay(task.getStartTime().get());
-            } else {
-                return false;
+        private Set<ReadOnlyTask> findTasksWithinDuration(TaskTimeIndex timeIndex) {
+            Set<ReadOnlyTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+            if (startTime != null || endTime != null) {
+                tasks.addAll(timeIndex.getTasksWithin(startTime != null ? startTime.getEpochDay() : Long.MIN_VALUE,
+                        endTime != null ? endTime.getEpochDay() : Long.MAX_VALUE));
             }
-        }
-        //return true only when the given time point is same day as "today"
-        private boolean isOnTheDay(Time time) {
             if (today != null) {
-                return time.isSameDay(today);
-            } else {
-                return false;
-            }
-        }
-
-        /**
-         * Check the given task is satisfying the time constraints
-         * The task is already assumed to be an event task
-         * @param task
-         * @return
-         */
-        private boolean isEventWithinDuration(ReadOnlyTask task) {
-            return (isTimeInDuration(task.getStartTime().get()) &&
-                    isTimeInDuration(task.getEndTime().get())) ||
-                    isOnTheDay(task.getStartTime().get());
-        }
-
-        /**
-         * Check the given task is satisfying the time constraints
-         * The task is already assumed to be a deadline task
-         * @param task
-         * @return
-         */
-        private boolean isDeadlineWithinDuration(ReadOnlyTask task) {
-            return isTimeInDuration(task.getEndTime().get()) ||
-                    isOnTheDay(task.getEndTime().get());
-        }
-
-        /**
-         * for the given time, check under circumstances
-         * where the start time or end time to be compared to may or may not exist
-         * @param time
-         * @return
-         */
-        private boolean isTimeInDuration(Time time) {
-            if (startTime != null && endTime == null) {
-                return startTime.isBefore(time);
-            } else if (endTime != null && startTime == null) {
-                return endTime.isAfter(time);
-            } else if (startTime != null && endTime != null) {
-                return startTime.isBefore(time) && endTime.isAfter(time);
-            } else {
-                return false;
+                tasks.addAll(timeIndex.getTasksOnDay(today.getEpochDay()));
             }
+            return tasks;
         }
 
         @Override
@@ -559,20 +987,5 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     //@@
-    //@@author A0143648Y
-    private boolean hasContainedKeyword(String searchMe, String findMe) {
-        searchMe = searchMe.toLowerCase();
-        findMe = findMe.toLowerCase();
-        int searchMeLength = searchMe.length();
-        int findMeLength = findMe.length();
-        boolean foundIt = false;
-        for (int i = 0; i <= (searchMeLength - findMeLength); i++) {
-            if (searchMe.regionMatches(true, i, findMe, 0, findMeLength)) {
-                foundIt = true;
-                break;
-            }
-        }
-        return foundIt;
-    }
 
 }
@@ -1,11 +1,14 @@
 package todolist.model;
 
-import javafx.collections.ObservableList;
+import java.util.List;
+
 import todolist.model.tag.Tag;
 import todolist.model.task.ReadOnlyTask;
 
 /**
  * Unmodifiable view of an to-do list
+ * Its lists are plain lists, so that to-do lists can be read and written without JavaFX;
+ * the {@link ToDoList} of a model hands out observed ones.
  */
 public interface ReadOnlyToDoList {
 
@@ -13,12 +16,12 @@ public interface ReadOnlyToDoList {
      * Returns an unmodifiable view of the task list.
      * This list will not contain any duplicate Tasks.
      */
-    ObservableList<ReadOnlyTask> getTaskList();
+    List<ReadOnlyTask> getTaskList();
 
     /**
      * Returns an unmodifiable view of the tags list.
      * This list will not contain any duplicate tags.
      */
-    ObservableList<Tag> getTagList();
+    List<Tag> getTagList();
 
 }
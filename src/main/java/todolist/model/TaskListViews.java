@@ -0,0 +1,85 @@
+package todolist.model;
+
+import java.util.Comparator;
+import java.util.function.Predicate;
+
+import todolist.commons.core.IncrementalSortedList;
+import todolist.commons.core.ObservedList;
+import todolist.model.task.ReadOnlyTask;
+
+/**
+ * Projects the tasks of a to-do list into the observed lists that the UI shows: one for each type of task,
+ * all filtered by the same predicate and each sorted in its own order.
+ * It is the part of the model that filters and sorts the lists, so that the rest of it need not.
+ *
+ * Each list is filtered and sorted by one view that lasts as long as the to-do list, and is kept up to date
+ * as the tasks change, so that the lists are not sorted again, or observed by more views, every time
+ * they are asked for.
+ */
+class TaskListViews {
+
+    private final IncrementalSortedList<ReadOnlyTask> sortedDeadlines;
+    private final IncrementalSortedList<ReadOnlyTask> sortedFloats;
+    private final IncrementalSortedList<ReadOnlyTask> sortedEvents;
+    private final IncrementalSortedList<ReadOnlyTask> sortedCompletedTasks;
+    private final ObservedList<ReadOnlyTask> allTasks;
+
+    TaskListViews(ToDoList todoList) {
+        Comparator<ReadOnlyTask> listOrder = todoList.getListOrderComparator();
+        sortedDeadlines = sortInListOrder(todoList.getFilteredDeadlines(), ReadOnlyTask.getDeadlineComparator(),
+                listOrder);
+        sortedFloats = sortInListOrder(todoList.getFilteredFloats(), ReadOnlyTask.getFloatingComparator(), listOrder);
+        sortedEvents = sortInListOrder(todoList.getFilteredEvents(), ReadOnlyTask.getEventComparator(), listOrder);
+        sortedCompletedTasks = sortInListOrder(todoList.getCompletedTasks(), ReadOnlyTask.getCompleteComparator(),
+                listOrder);
+        allTasks = todoList.getTaskList();
+    }
+
+    /**
+     * Returns a view of {@code tasks} sorted by {@code comparator}, which keeps tasks that are equal by it
+     * in the order of the to-do list, as sorting the tasks again would.
+     * Tasks edited in place are only moved to their new places in the view, rather than all being sorted again.
+     */
+    private static IncrementalSortedList<ReadOnlyTask> sortInListOrder(ObservedList<ReadOnlyTask> tasks,
+            Comparator<ReadOnlyTask> comparator, Comparator<ReadOnlyTask> listOrder) {
+        return new IncrementalSortedList<>(tasks, comparator.thenComparing(listOrder));
+    }
+
+    /**
+     * Shows only the tasks that satisfy {@code predicate}, or every task if it is null.
+     */
+    void setPredicate(Predicate<ReadOnlyTask> predicate) {
+        sortedDeadlines.setPredicate(predicate);
+        sortedFloats.setPredicate(predicate);
+        sortedEvents.setPredicate(predicate);
+        sortedCompletedTasks.setPredicate(predicate);
+    }
+
+    /**
+     * Returns the number of tasks shown in all the lists.
+     */
+    int size() {
+        return sortedDeadlines.size() + sortedFloats.size() + sortedEvents.size() + sortedCompletedTasks.size();
+    }
+
+    ObservedList<ReadOnlyTask> getDeadlines() {
+        return sortedDeadlines;
+    }
+
+    ObservedList<ReadOnlyTask> getEvents() {
+        return sortedEvents;
+    }
+
+    ObservedList<ReadOnlyTask> getFloats() {
+        return sortedFloats;
+    }
+
+    ObservedList<ReadOnlyTask> getCompletedTasks() {
+        return sortedCompletedTasks;
+    }
+
+    ObservedList<ReadOnlyTask> getAllTasks() {
+        return allTasks;
+    }
+
+}
@@ -1,20 +1,27 @@
 package todolist.model;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
-import todolist.commons.core.UnmodifiableObservableList;
+import todolist.commons.core.ListObserver;
+import todolist.commons.core.ObservedList;
+import todolist.commons.core.PersistentList;
 import todolist.model.tag.Tag;
 import todolist.model.tag.UniqueTagList;
+import todolist.model.task.ImmutableTask;
 import todolist.model.task.ReadOnlyTask;
 import todolist.model.task.ReadOnlyTask.Category;
 import todolist.model.task.Task;
+import todolist.model.task.TaskTagIndex;
+import todolist.model.task.TaskTextIndex;
+import todolist.model.task.TaskTimeIndex;
 import todolist.model.task.UniqueTaskList;
 import todolist.model.task.UniqueTaskList.DuplicateTaskException;
 
@@ -27,6 +34,15 @@ public class ToDoList implements ReadOnlyToDoList {
     private final UniqueTaskList tasks;
     private final UniqueTagList tags;
 
+    /*
+     * The tasks and tags as they are now, as the persistent lists of the next snapshot.
+     * The tasks are only kept up to date once a snapshot has been taken, and are null until then.
+     * The tags are few and seldom change, so they are only copied again when a snapshot is taken after they change.
+     */
+    private PersistentList<ReadOnlyTask> taskValues;
+    private PersistentList<Tag> tagValues;
+    private int tagValuesVersion;
+
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -37,6 +53,7 @@ public class ToDoList implements ReadOnlyToDoList {
     {
         tasks = new UniqueTaskList();
         tags = new UniqueTagList();
+        tasks.asList().addObserver(new TaskValuesFollower());
     }
 
     public ToDoList() {}
@@ -79,8 +96,7 @@ public class ToDoList implements ReadOnlyToDoList {
 
     /**
      * Adds a Task to the to-do list.
-     * Also checks the new Task's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the Task to point to those in {@link #tags}.
+     * Also checks the new Task's tags and updates {@link #tags} with any new tags found.
      *
      * @throws UniqueTaskList.DuplicateTaskException if an equivalent Task already exists.
      */
@@ -89,6 +105,24 @@ public class ToDoList implements ReadOnlyToDoList {
         tasks.add(p);
     }
 
+    /**
+     * Adds a Task to the to-do list at {@code position}, as {@link #addTask(Task)} does at the end.
+     *
+     * @throws UniqueTaskList.DuplicateTaskException if an equivalent Task already exists.
+     * @throws IndexOutOfBoundsException if {@code position} < 0 or > the number of Tasks.
+     */
+    public void addTask(int position, Task p) throws UniqueTaskList.DuplicateTaskException {
+        syncMasterTagListWith(p);
+        tasks.add(position, p);
+    }
+
+    /**
+     * Returns the position of the equivalent Task in the to-do list, or -1 if there is none.
+     */
+    public int indexOf(ReadOnlyTask key) {
+        return tasks.indexOf(key);
+    }
+
     /**
      * Updates the Task in the list at position {@code index} with {@code editedReadOnlyTask}.
      * {@code ToDoList}'s tag list will be updated with the tags of {@code editedReadOnlyTask}.
@@ -111,39 +145,39 @@ public class ToDoList implements ReadOnlyToDoList {
     }
 
     //@@author A0122017Y
-    public void completeTask(ReadOnlyTask taskToComplete) {
-        tasks.completeTask(taskToComplete);
+    public ReadOnlyTask completeTask(ReadOnlyTask taskToComplete) {
+        return tasks.completeTask(taskToComplete);
     }
     //@@
 
     /**
-     * Ensures that every tag in this Task:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     * Ensures that every tag in this Task exists in the master list {@link #tags}.
+     * Tags with the same name are the same tag, so the Task's tags need not be changed to point to the master list.
      */
     private void syncMasterTagListWith(Task task) {
-        final UniqueTagList taskTags = task.getTags();
-        tags.mergeFrom(taskTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking Task tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of Task tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        taskTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        task.setTags(new UniqueTagList(correctTagReferences));
+        tags.mergeFrom(task.getTagSet());
     }
 
     /**
-     * Ensures that every tag in these Tasks:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
+     * Ensures that every tag in these Tasks exists in the master list {@link #tags}.
      *  @see #syncMasterTagListWith(Task)
      */
     private void syncMasterTagListWith(UniqueTaskList tasks) {
-        tasks.forEach(this::syncMasterTagListWith);
+        for (ReadOnlyTask task : tasks) {
+            if (!(task instanceof Task)) {
+                continue; // archived tasks cannot change, and their tags come from the same data as the master list
+            }
+            syncMasterTagListWith((Task) task);
+        }
+    }
+
+    /**
+     * Returns the Task in the to-do list that is equivalent to {@code key}.
+     *
+     * @throws UniqueTaskList.TaskNotFoundException if there is no such Task.
+     */
+    public ReadOnlyTask getTask(ReadOnlyTask key) throws UniqueTaskList.TaskNotFoundException {
+        return tasks.get(key);
     }
 
     public boolean removeTask(ReadOnlyTask key) throws UniqueTaskList.TaskNotFoundException {
@@ -160,57 +194,167 @@ public class ToDoList implements ReadOnlyToDoList {
         tags.add(t);
     }
 
+    /**
+     * Removes from the master tag list those of {@code candidates} that no task in the to-do list is tagged with.
+     */
+    public void removeUnusedTags(Set<Tag> candidates) {
+        Set<Tag> unused = new HashSet<>(candidates);
+        for (ReadOnlyTask task : tasks) {
+            if (unused.isEmpty()) {
+                return;
+            }
+            unused.removeIf(task.getTagSet()::contains);
+        }
+        for (Tag tag : unused) {
+            try {
+                tags.remove(tag);
+            } catch (UniqueTagList.TagNotExistException e) {
+                continue;
+            }
+        }
+    }
+
     public String getTagListToString() {
         return this.tags.getTagListToString();
     }
 
+    // snapshots
+
+    /**
+     * Returns a snapshot of the to-do list as it is now, which does not change with it.
+     * The first snapshot copies every task; the to-do list then keeps its next snapshot up to date
+     * in O(log n) for each task changed, so that later snapshots are taken in O(1).
+     * As it updates that next snapshot, it must not be called by two threads at once.
+     */
+    public ToDoListSnapshot snapshot() {
+        if (taskValues == null) {
+            taskValues = PersistentList.of(
+                    tasks.asList().stream().map(ImmutableTask::of).collect(Collectors.toList()));
+        }
+        if (tagValues == null || tagValuesVersion != tags.getVersion()) {
+            tagValues = PersistentList.of(tags.asList());
+            tagValuesVersion = tags.getVersion();
+        }
+        return new ToDoListSnapshot(taskValues, tagValues);
+    }
+
+    /**
+     * Makes each change to the tasks to the values of the next snapshot, once a snapshot has been taken.
+     * Tasks are held in those values as {@link ImmutableTask}s, so that later changes to them are not seen.
+     */
+    private class TaskValuesFollower implements ListObserver<ReadOnlyTask> {
+
+        @Override
+        public void added(int index, ReadOnlyTask element) {
+            if (taskValues != null) {
+                taskValues = taskValues.plus(index, ImmutableTask.of(element));
+            }
+        }
+
+        @Override
+        public void removed(int index, ReadOnlyTask element) {
+            if (taskValues != null) {
+                taskValues = taskValues.minus(index);
+            }
+        }
+
+        @Override
+        public void replaced(int index, ReadOnlyTask oldElement) {
+            updated(index);
+        }
+
+        @Override
+        public void updated(int index) {
+            if (taskValues != null) {
+                taskValues = taskValues.with(index, ImmutableTask.of(tasks.asList().get(index)));
+            }
+        }
+
+        @Override
+        public void reset(List<? extends ReadOnlyTask> oldElements) {
+            if (taskValues != null) {
+                // Building the list again takes no longer than replacing every task in it
+                taskValues = PersistentList.of(
+                        tasks.asList().stream().map(ImmutableTask::of).collect(Collectors.toList()));
+            }
+        }
+    }
+
     // util methods
 
     @Override
     public String toString() {
-        return tasks.asObservableList().size() + " Tasks, " + tags.asObservableList().size() +  " tags";
+        return tasks.asList().size() + " Tasks, " + tags.asList().size() +  " tags";
         // TODO: refine later
     }
 
     /**
      * Returns a task list filtered to have floating type
      */
-    public ObservableList<ReadOnlyTask> getFilteredFloats() {
-        return new UnmodifiableObservableList<>(tasks.getFilteredTaskList(Category.FLOAT));
+    public ObservedList<ReadOnlyTask> getFilteredFloats() {
+        return tasks.getFilteredTaskList(Category.FLOAT);
     }
 
     /**
      * Returns a task list filtered to only contain Deadlines
      */
-    public ObservableList<ReadOnlyTask> getFilteredDeadlines() {
-        return new UnmodifiableObservableList<>(tasks.getFilteredTaskList(Category.DEADLINE));
+    public ObservedList<ReadOnlyTask> getFilteredDeadlines() {
+        return tasks.getFilteredTaskList(Category.DEADLINE);
     }
 
     /**
      * Returns a task list filtered to only contain Events
      */
-    public ObservableList<ReadOnlyTask> getFilteredEvents() {
-        return new UnmodifiableObservableList<>(tasks.getFilteredTaskList(Category.EVENT));
+    public ObservedList<ReadOnlyTask> getFilteredEvents() {
+        return tasks.getFilteredTaskList(Category.EVENT);
     }
 
     /**
      * Returns a task list representing all tasks regardless of types
      */
     @Override
-    public ObservableList<ReadOnlyTask> getTaskList() {
-        return new UnmodifiableObservableList<>(tasks.asObservableList());
+    public ObservedList<ReadOnlyTask> getTaskList() {
+        return tasks.asList();
+    }
+
+    public ObservedList<ReadOnlyTask> getCompletedTasks() {
+        return tasks.getFilteredTaskList(Category.COMPLETED);
+    }
+
+    /**
+     * Returns the index of the tasks that are not completed, by time.
+     */
+    public TaskTimeIndex getTimeIndex() {
+        return tasks.getTimeIndex();
     }
 
-    public ObservableList<ReadOnlyTask> getCompletedTasks() {
-        return new UnmodifiableObservableList<>(tasks.getFilteredTaskList(Category.COMPLETED));
+    /**
+     * Returns the index of the tasks by the text of their details.
+     */
+    public TaskTextIndex getTextIndex() {
+        return tasks.getTextIndex();
+    }
+
+    /**
+     * Returns the index of the tasks by their tags.
+     */
+    public TaskTagIndex getTagIndex() {
+        return tasks.getTagIndex();
+    }
+
+    /**
+     * Returns a comparator that orders the tasks in the to-do list by their position in it.
+     */
+    public Comparator<ReadOnlyTask> getListOrderComparator() {
+        return tasks.getListOrderComparator();
     }
 
     /**
      * Returns a task list representing all tags
      */
     @Override
-    public ObservableList<Tag> getTagList() {
-        return new UnmodifiableObservableList<>(tags.asObservableList());
+    public List<Tag> getTagList() {
+        return tags.asList();
     }
 
     @Override
@@ -230,9 +374,17 @@ public class ToDoList implements ReadOnlyToDoList {
     //@@author A0122017Y
     /**
      * Automatically switch a task to completed if it is overdue
+     * @return the tasks that were switched to completed
+     */
+    public List<Task> autoComplete() {
+        return tasks.autoComplete(LocalDateTime.now());
+    }
+
+    /**
+     * Returns the earliest end time of the tasks that are not completed, which is when the next task is due.
      */
-    public void autoComplete() {
-        tasks.autoComplete();
+    public Optional<LocalDateTime> getEarliestDeadline() {
+        return tasks.getDeadlineIndex().getEarliestEndTime();
     }
 
 }
@@ -0,0 +1,80 @@
+package todolist.model;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import todolist.commons.core.PersistentList;
+import todolist.model.tag.Tag;
+import todolist.model.task.ImmutableTask;
+import todolist.model.task.ReadOnlyTask;
+
+/**
+ * A to-do list as it was at one moment, which does not change with it and can be read by any thread.
+ *
+ * Its tasks cannot change, and are held in persistent lists that share all but the tasks changed since
+ * with the later snapshots of the same {@link ToDoList}, so that a snapshot is taken in O(1)
+ * rather than by copying every task.
+ */
+public final class ToDoListSnapshot implements ReadOnlyToDoList {
+
+    private final PersistentList<ReadOnlyTask> tasks;
+    private final PersistentList<Tag> tags;
+    private final List<ReadOnlyTask> taskList;
+    private final List<Tag> tagList;
+
+    ToDoListSnapshot(PersistentList<ReadOnlyTask> tasks, PersistentList<Tag> tags) {
+        this.tasks = tasks;
+        this.tags = tags;
+        // Wrapped rather than copied, as they can never change
+        this.taskList = Collections.unmodifiableList(tasks);
+        this.tagList = Collections.unmodifiableList(tags);
+    }
+
+    /**
+     * Returns a snapshot of {@code todoList} as it is now.
+     * It takes O(1) for a snapshot or a {@link ToDoList}, and copies the tasks of any other to-do list.
+     */
+    public static ToDoListSnapshot of(ReadOnlyToDoList todoList) {
+        assert todoList != null;
+        if (todoList instanceof ToDoListSnapshot) {
+            return (ToDoListSnapshot) todoList;
+        } else if (todoList instanceof ToDoList) {
+            return ((ToDoList) todoList).snapshot();
+        }
+        return new ToDoListSnapshot(
+                PersistentList.of(todoList.getTaskList().stream().map(ImmutableTask::of).collect(Collectors.toList())),
+                PersistentList.of(todoList.getTagList()));
+    }
+
+    @Override
+    public List<ReadOnlyTask> getTaskList() {
+        return taskList;
+    }
+
+    @Override
+    public List<Tag> getTagList() {
+        return tagList;
+    }
+
+    @Override
+    public String toString() {
+        return tasks.size() + " Tasks, " + tags.size() + " tags";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ToDoListSnapshot // instanceof handles nulls
+                && this.tasks.equals(((ToDoListSnapshot) other).tasks)
+                && new HashSet<>(this.tags).equals(new HashSet<>(((ToDoListSnapshot) other).tags)));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(tasks, new HashSet<>(tags));
+    }
+
+}
@@ -1,10 +1,14 @@
 package todolist.model.tag;
 
+import java.util.Optional;
+
 import todolist.commons.exceptions.IllegalValueException;
 
 /**
  * Represents a Tag in the address book.
  * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ *
+ * Tags with the same name have the same number, given by the {@link TagRegistry}, by which they are compared.
  */
 public class Tag {
 
@@ -12,6 +16,7 @@ public class Tag {
     public static final String TAG_VALIDATION_REGEX = "\\p{Alnum}+";
 
     public final String tagName;
+    final int id;
 
     /**
      * Validates given tag name.
@@ -25,6 +30,24 @@ public class Tag {
             throw new IllegalValueException(MESSAGE_TAG_CONSTRAINTS);
         }
         this.tagName = trimmedName;
+        this.id = TagRegistry.intern(trimmedName).id;
+    }
+
+    /**
+     * Creates the tag named {@code validName} that the {@link TagRegistry} numbers {@code id}.
+     */
+    Tag(String validName, int id) {
+        this.tagName = validName;
+        this.id = id;
+    }
+
+    /**
+     * Returns the tag named {@code name} if a tag has been given that name, without naming it otherwise,
+     * so that a tag can be looked up without being added to the {@link TagRegistry}.
+     */
+    public static Optional<Tag> find(String name) {
+        assert name != null;
+        return TagRegistry.find(name.trim());
     }
 
     /**
@@ -38,7 +61,7 @@ public class Tag {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Tag // instanceof handles nulls
-                && this.tagName.equals(((Tag) other).tagName)); // state check
+                && this.id == ((Tag) other).id); // state check
     }
 
     @Override
@@ -0,0 +1,54 @@
+package todolist.model.tag;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * The tags of the app, each held once and numbered in the order they are first named.
+ *
+ * Every tag with a name has the same number, so a set of tags can be held as a set of small numbers,
+ * as {@link TagSet} does, and tags are compared by number rather than by name.
+ * Tags are never taken out, as there are only as many as the user has named;
+ * looking a tag up by name, as searching does, does not name it.
+ */
+final class TagRegistry {
+
+    private static final Map<String, Tag> tagsByName = new HashMap<>();
+    /** The tags by their numbers; written again whenever one is added, so that it can be read without locking. */
+    private static volatile Tag[] tagsById = new Tag[16];
+    private static int count;
+
+    private TagRegistry() {}
+
+    /**
+     * Returns the tag named {@code validName}, numbering it if it has not been named before.
+     */
+    static synchronized Tag intern(String validName) {
+        Tag tag = tagsByName.get(validName);
+        if (tag == null) {
+            Tag[] tags = count == tagsById.length ? Arrays.copyOf(tagsById, count * 2) : tagsById;
+            tag = new Tag(validName, count++);
+            tags[tag.id] = tag;
+            tagsByName.put(validName, tag);
+            tagsById = tags;
+        }
+        return tag;
+    }
+
+    /**
+     * Returns the tag named {@code validName}, or an empty optional if it has not been named, without numbering it.
+     */
+    static synchronized Optional<Tag> find(String validName) {
+        return Optional.ofNullable(tagsByName.get(validName));
+    }
+
+    /**
+     * Returns the tag numbered {@code id}, which must have been given out by {@link #intern(String)}.
+     */
+    static Tag get(int id) {
+        return tagsById[id];
+    }
+
+}
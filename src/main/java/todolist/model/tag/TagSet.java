@@ -0,0 +1,114 @@
+package todolist.model.tag;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A set of tags that cannot change, held as a set of the numbers the {@link TagRegistry} gives them,
+ * one bit for each number.
+ *
+ * As it cannot change, a task can hand out its tags as they are rather than copying them,
+ * and tags are looked up, compared and hashed without reading their names.
+ * Tags are visited in the order they were first named.
+ */
+public final class TagSet implements Iterable<Tag> {
+
+    private static final TagSet EMPTY = new TagSet(new long[0]);
+
+    /** The bits of the numbers of the tags in the set, with no words of zeros at the end. */
+    private final long[] words;
+
+    private TagSet(long[] words) {
+        this.words = words;
+    }
+
+    public static TagSet empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a set of {@code tags}, any of which may be equal.
+     */
+    public static TagSet of(Iterable<Tag> tags) {
+        long[] words = new long[0];
+        for (Tag tag : tags) {
+            int word = tag.id >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            words[word] |= 1L << tag.id;
+        }
+        return words.length == 0 ? EMPTY : new TagSet(words);
+    }
+
+    public boolean contains(Tag tag) {
+        assert tag != null;
+        int word = tag.id >>> 6;
+        return word < words.length && (words[word] & 1L << tag.id) != 0;
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        int size = 0;
+        for (long word : words) {
+            size += Long.bitCount(word);
+        }
+        return size;
+    }
+
+    @Override
+    public Iterator<Tag> iterator() {
+        return new Iterator<Tag>() {
+            private int word = 0;
+            private long bitsLeft = words.length == 0 ? 0 : words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (bitsLeft == 0 && word + 1 < words.length) {
+                    bitsLeft = words[++word];
+                }
+                return bitsLeft != 0;
+            }
+
+            @Override
+            public Tag next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int bit = Long.numberOfTrailingZeros(bitsLeft);
+                bitsLeft &= bitsLeft - 1;
+                return TagRegistry.get(word << 6 | bit);
+            }
+        };
+    }
+
+    public String getTagListToString() {
+        StringBuilder sb = new StringBuilder();
+        for (Tag tag : this) {
+            sb.append(tag.toString() + " ");
+        }
+        return sb.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagSet // instanceof handles nulls
+                && Arrays.equals(this.words, ((TagSet) other).words));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+
+    @Override
+    public String toString() {
+        return getTagListToString().trim();
+    }
+
+}
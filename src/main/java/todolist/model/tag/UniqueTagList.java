@@ -2,15 +2,14 @@ package todolist.model.tag;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.exceptions.DuplicateDataException;
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.commons.util.CollectionUtil;
@@ -19,13 +18,19 @@ import todolist.commons.util.CollectionUtil;
  * A list of tags that enforces no nulls and uniqueness between its elements.
  *
  * Supports minimal set of list operations for the app's features.
+ * Tags are looked up in the list by the numbers that the {@link TagRegistry} gives them.
+ * It is a plain list, which is not observed; those that keep copies of it check {@link #getVersion()} instead.
  *
  * @see Tag#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniqueTagList implements Iterable<Tag> {
 
-    private final ObservableList<Tag> internalList = FXCollections.observableArrayList();
+    private final List<Tag> internalList = new ArrayList<>();
+    /** The numbers of the tags in the list. */
+    private final BitSet ids = new BitSet();
+    /** Counts the changes made to the list. */
+    private int version;
 
     /**
      * Constructs empty TagList.
@@ -56,6 +61,7 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
         internalList.addAll(initialTags);
+        initialTags.forEach(tag -> ids.set(tag.id));
     }
 
     /**
@@ -74,6 +80,17 @@ public class UniqueTagList implements Iterable<Tag> {
     public UniqueTagList(Set<Tag> tags) {
         assert !CollectionUtil.isAnyNull(tags);
         internalList.addAll(tags);
+        tags.forEach(tag -> ids.set(tag.id));
+    }
+
+    /**
+     * Creates a UniqueTagList of the given tags, in the order they were first named.
+     */
+    public UniqueTagList(TagSet tags) {
+        for (Tag tag : tags) {
+            internalList.add(tag);
+            ids.set(tag.id);
+        }
     }
 
     /**
@@ -82,6 +99,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public UniqueTagList(UniqueTagList source) {
         internalList.addAll(source.internalList); // insulate internal list from changes in argument
+        ids.or(source.ids);
     }
 
     /**
@@ -92,11 +110,22 @@ public class UniqueTagList implements Iterable<Tag> {
         return new HashSet<>(internalList);
     }
 
+    /**
+     * Returns all tags in this list as a set that cannot change.
+     */
+    public TagSet toTagSet() {
+        return TagSet.of(internalList);
+    }
+
     /**
      * Replaces the Tags in this list with those in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        this.internalList.setAll(replacement.internalList);
+        this.internalList.clear();
+        this.internalList.addAll(replacement.internalList);
+        this.ids.clear();
+        this.ids.or(replacement.ids);
+        version++;
     }
 
     public void setTags(Collection<Tag> tags) throws DuplicateTagException {
@@ -104,17 +133,24 @@ public class UniqueTagList implements Iterable<Tag> {
         if (!CollectionUtil.elementsAreUnique(tags)) {
             throw new DuplicateTagException();
         }
-        internalList.setAll(tags);
+        internalList.clear();
+        internalList.addAll(tags);
+        ids.clear();
+        tags.forEach(tag -> ids.set(tag.id));
+        version++;
     }
 
     /**
      * Ensures every tag in the argument list exists in this object.
      */
-    public void mergeFrom(UniqueTagList from) {
-        final Set<Tag> alreadyInside = this.toSet();
-        from.internalList.stream()
-                .filter(tag -> !alreadyInside.contains(tag))
-                .forEach(internalList::add);
+    public void mergeFrom(Iterable<Tag> from) {
+        for (Tag tag : from) {
+            if (!contains(tag)) {
+                internalList.add(tag);
+                ids.set(tag.id);
+                version++;
+            }
+        }
     }
 
     /**
@@ -122,7 +158,7 @@ public class UniqueTagList implements Iterable<Tag> {
      */
     public boolean contains(Tag toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        return ids.get(toCheck.id);
     }
 
     /**
@@ -136,6 +172,8 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new DuplicateTagException();
         }
         internalList.add(toAdd);
+        ids.set(toAdd.id);
+        version++;
     }
 
     //@@author A0122017Y
@@ -150,6 +188,8 @@ public class UniqueTagList implements Iterable<Tag> {
             throw new TagNotExistException();
         }
         internalList.remove(toDelete);
+        ids.clear(toDelete.id);
+        version++;
     }
 
     /**
@@ -166,8 +206,18 @@ public class UniqueTagList implements Iterable<Tag> {
         return internalList.iterator();
     }
 
-    public UnmodifiableObservableList<Tag> asObservableList() {
-        return new UnmodifiableObservableList<>(internalList);
+    /**
+     * Returns an unmodifiable view of the tags in this list, which changes with it.
+     */
+    public List<Tag> asList() {
+        return Collections.unmodifiableList(internalList);
+    }
+
+    /**
+     * Returns a number that changes whenever the tags in this list change.
+     */
+    public int getVersion() {
+        return version;
     }
 
     @Override
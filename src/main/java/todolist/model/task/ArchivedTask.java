@@ -0,0 +1,35 @@
+package todolist.model.task;
+
+/**
+ * A completed Task that is read from storage when its details are needed, rather than held in memory.
+ * Its details cannot be changed, so lists hold it as it is instead of copying it into a {@link Task};
+ * to reopen it, it is first copied into a {@link Task}.
+ */
+public interface ArchivedTask extends ReadOnlyTask {
+
+    @Override
+    default Boolean isTaskCompleted() {
+        return true;
+    }
+
+    @Override
+    default Category getTaskCategory() {
+        return Category.COMPLETED;
+    }
+
+    @Override
+    default Character getTaskChar() {
+        return Task.COMPLETE_CHAR;
+    }
+
+    @Override
+    default void toggleComplete() {
+        throw new UnsupportedOperationException("An archived task cannot be changed");
+    }
+
+    @Override
+    default String getTitleFormattedString() {
+        return "[" + getTitle().toString() + "]";
+    }
+
+}
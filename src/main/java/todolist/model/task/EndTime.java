@@ -1,6 +1,7 @@
 package todolist.model.task;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.commons.util.StringUtil;
@@ -8,6 +9,8 @@ import todolist.commons.util.StringUtil;
 /**
  * Represents a Task's end time in the to-do list.
  * Guarantees: immutable; is valid as declared in {@link #isValidEndTime(String)}
+ *
+ * Like {@link StartTime}, the time is held as seconds since the epoch and nanoseconds.
  */
 public class EndTime implements Time {
 
@@ -15,7 +18,9 @@ public class EndTime implements Time {
 
     public static final String ENDTIME_VALIDATION_REGEX = ".+";
 
-    private final LocalDateTime endTime;
+    private final long epochSecond;
+    private final int nano;
+    private LocalDateTime endTime;
 
     /**
      * Validates given end time.
@@ -30,6 +35,31 @@ public class EndTime implements Time {
         } catch (IllegalValueException e) {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
         }
+        this.epochSecond = endTime.toEpochSecond(ZoneOffset.UTC);
+        this.nano = endTime.getNano();
+    }
+
+    /**
+     * Creates an end time at {@code endTime} directly, without parsing any text.
+     */
+    public EndTime(LocalDateTime endTime) {
+        assert endTime != null;
+        this.endTime = endTime;
+        this.epochSecond = endTime.toEpochSecond(ZoneOffset.UTC);
+        this.nano = endTime.getNano();
+    }
+
+    /**
+     * Creates an end time from its {@link #getEpochSecond()} and {@link #getNano()}.
+     *
+     * @throws IllegalValueException if they are out of range.
+     */
+    public EndTime(long epochSecond, int nano) throws IllegalValueException {
+        if (!Time.isValidEpochTime(epochSecond, nano)) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+        this.epochSecond = epochSecond;
+        this.nano = nano;
     }
 
     /**
@@ -37,32 +67,42 @@ public class EndTime implements Time {
      */
     @Override
     public LocalDateTime getTimeValue() {
+        // Racing threads can only create equal values
+        if (endTime == null) {
+            endTime = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
         return this.endTime;
     }
 
+    @Override
+    public long getEpochSecond() {
+        return epochSecond;
+    }
+
+    @Override
+    public int getNano() {
+        return nano;
+    }
+
     /**
      * Obtain a String representation of EndTime
      */
     @Override
     public String toString() {
-        return this.endTime.format(StringUtil.DATE_FORMATTER);
+        return getTimeValue().format(StringUtil.DATE_FORMATTER);
     }
 
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof EndTime // instanceof handles nulls
-                        && this.endTime.equals(((EndTime) other).endTime)); // state check
+                        && this.epochSecond == ((EndTime) other).epochSecond
+                        && this.nano == ((EndTime) other).nano); // state check
     }
 
     @Override
     public int hashCode() {
-        return endTime.toString().hashCode();
-    }
-
-    @Override
-    public int compareTo(Time time) {
-        return this.getTimeValue().compareTo(time.getTimeValue());
+        return 31 * Long.hashCode(epochSecond) + nano;
     }
 
     //@@author A0122017Y
@@ -71,33 +111,6 @@ public class EndTime implements Time {
      * @return
      */
     public boolean outdated() {
-        return this.endTime.isBefore(LocalDateTime.now());
-    }
-
-    /**
-     * Check if the underlying time value is before or equal to the input
-     * By default, time values on the same day are treated as equal
-     */
-    @Override
-    public boolean isBefore(Time time) {
-        return isSameDay(time) || !this.getTimeValue().isAfter(time.getTimeValue());
-    }
-
-    /**
-     * Check if the underlying time value is after or equal to the input
-     * By default, time values on the same day are treated as equal
-     */
-    @Override
-    public boolean isAfter(Time time) {
-        return isSameDay(time) || !this.getTimeValue().isBefore(time.getTimeValue());
-    }
-
-    /**
-     * Check if the underlying time value is happening on the same day as the input
-     */
-    @Override
-    public boolean isSameDay(Time time) {
-        return endTime.getDayOfYear() == time.getTimeValue().getDayOfYear() &&
-                endTime.getYear() == time.getTimeValue().getDayOfYear();
+        return compareTo(new EndTime(LocalDateTime.now())) < 0;
     }
 }
@@ -0,0 +1,135 @@
+package todolist.model.task;
+
+import java.util.Objects;
+import java.util.Optional;
+
+import todolist.model.tag.TagSet;
+import todolist.model.tag.UniqueTagList;
+
+/**
+ * A copy of a task as it was at one moment, whose details cannot change.
+ * Unlike a {@link Task}, which is changed in place when it is edited, it can be shared between
+ * snapshots of a to-do list and read by any thread.
+ */
+public final class ImmutableTask implements ReadOnlyTask {
+
+    private final Title title;
+    private final Venue venue;
+    private final StartTime startTime;
+    private final EndTime endTime;
+    private final UrgencyLevel urgencyLevel;
+    private final Description description;
+    private final TagSet tags;
+    private final boolean isCompleted;
+    private final Category category;
+    private final Character taskChar;
+
+    private ImmutableTask(ReadOnlyTask source) {
+        this.title = source.getTitle();
+        this.venue = source.getVenue().orElse(null);
+        this.startTime = source.getStartTime().orElse(null);
+        this.endTime = source.getEndTime().orElse(null);
+        this.urgencyLevel = source.getUrgencyLevel().orElse(null);
+        this.description = source.getDescription().orElse(null);
+        this.tags = source.getTagSet();
+        this.isCompleted = source.isTaskCompleted();
+        this.category = source.getTaskCategory();
+        this.taskChar = source.getTaskChar();
+    }
+
+    /**
+     * Returns {@code task} as it is now, as a task that cannot change.
+     * Tasks that already cannot change are returned as they are rather than copied.
+     */
+    public static ReadOnlyTask of(ReadOnlyTask task) {
+        assert task != null;
+        if (task instanceof ImmutableTask || task instanceof ArchivedTask) {
+            return task;
+        }
+        return new ImmutableTask(task);
+    }
+
+    @Override
+    public Title getTitle() {
+        return title;
+    }
+
+    @Override
+    public Optional<StartTime> getStartTime() {
+        return Optional.ofNullable(startTime);
+    }
+
+    @Override
+    public Optional<EndTime> getEndTime() {
+        return Optional.ofNullable(endTime);
+    }
+
+    @Override
+    public Optional<Venue> getVenue() {
+        return Optional.ofNullable(venue);
+    }
+
+    @Override
+    public Optional<Description> getDescription() {
+        return Optional.ofNullable(description);
+    }
+
+    @Override
+    public Optional<UrgencyLevel> getUrgencyLevel() {
+        return Optional.ofNullable(urgencyLevel);
+    }
+
+    @Override
+    public Category getTaskCategory() {
+        return category;
+    }
+
+    @Override
+    public Character getTaskChar() {
+        return taskChar;
+    }
+
+    @Override
+    public Boolean isTaskCompleted() {
+        return isCompleted;
+    }
+
+    @Override
+    public void toggleComplete() {
+        throw new UnsupportedOperationException("A snapshot of a task cannot be changed");
+    }
+
+    @Override
+    public UniqueTagList getTags() {
+        return new UniqueTagList(tags);
+    }
+
+    @Override
+    public TagSet getTagSet() {
+        return tags;
+    }
+
+    @Override
+    public String getTitleFormattedString() {
+        return "[" + title.toString() + "]";
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ReadOnlyTask // instanceof handles nulls
+                        && this.isSameStateAs((ReadOnlyTask) other));
+    }
+
+    @Override
+    public int hashCode() {
+        // the same as that of a Task with the same details, as the two can be equal
+        return Objects.hash(title, venue, endTime, description, tags);
+    }
+
+    @Override
+    public String toString() {
+        return getAsText();
+    }
+
+}
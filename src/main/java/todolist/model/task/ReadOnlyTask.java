@@ -1,8 +1,10 @@
 package todolist.model.task;
 
 import java.util.Comparator;
+import java.util.Objects;
 import java.util.Optional;
 
+import todolist.model.tag.TagSet;
 import todolist.model.tag.UniqueTagList;
 
 /**
@@ -31,6 +33,13 @@ public interface ReadOnlyTask {
      */
     UniqueTagList getTags();
 
+    /**
+     * Returns the tags of the task as a set that cannot change, which need not be copied.
+     */
+    default TagSet getTagSet() {
+        return getTags().toTagSet();
+    }
+
     /**
      * Returns true if both have the same state. (interfaces cannot override .equals)
      */
@@ -44,6 +53,14 @@ public interface ReadOnlyTask {
                 && other.getDescription().equals(this.getDescription()));
     }
 
+    /**
+     * Returns a hash code of the details compared by {@link #isSameStateAs(ReadOnlyTask)},
+     * so that tasks with the same state have the same state hash code.
+     */
+    default int stateHashCode() {
+        return Objects.hash(getTitle(), getStartTime(), getEndTime(), getVenue(), getDescription());
+    }
+
     /**
      * Formats the Task as text, showing all contact details.
      */
@@ -103,7 +120,8 @@ public interface ReadOnlyTask {
      * Obtain the tag string form the UniqueTagList of the task
      */
     default String getTagString() {
-        return !getTags().isEmpty() ? "Tags: " + getTags().getTagListToString() + "; " : "";
+        TagSet tags = getTagSet();
+        return !tags.isEmpty() ? "Tags: " + tags.getTagListToString() + "; " : "";
     }
 
     //@@ author: A0138628W
@@ -138,9 +156,9 @@ public interface ReadOnlyTask {
             return t1.getStartTime().get().compareTo(t2.getStartTime().get());
         };
 
-        //then by urgency level
+        //then by urgency level, tasks without one taken as the least urgent
         Comparator<ReadOnlyTask> byUrgencyLevel = (t1, t2) -> {
-            return t2.getUrgencyLevel().get().compareTo(t1.getUrgencyLevel().get());
+            return Integer.compare(t2.getUrgencyLevelInt(), t1.getUrgencyLevelInt());
         };
 
         //then by end time
@@ -1,6 +1,7 @@
 package todolist.model.task;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.commons.util.StringUtil;
@@ -8,11 +9,16 @@ import todolist.commons.util.StringUtil;
 /**
  * Represents a Task's start time in the to-do list.
  * Guarantees: immutable; is valid as declared in {@link #isValidStartTime(String)}
+ *
+ * The time is held as seconds since the epoch and nanoseconds, so that it can be compared and hashed
+ * without creating any objects; the {@link LocalDateTime} is only created when it is asked for.
  */
 public class StartTime implements Time {
 
     public static final String STARTTIME_VALIDATION_REGEX = ".+";
 
+    private final long epochSecond;
+    private final int nano;
     private LocalDateTime startTime;
 
     public StartTime(String startTimeArg) throws IllegalValueException {
@@ -23,66 +29,72 @@ public class StartTime implements Time {
         } catch (IllegalValueException e) {
             throw new IllegalValueException(MESSAGE_TIME_CONSTRAINTS);
         }
+        this.epochSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+        this.nano = startTime.getNano();
     }
 
     /**
-     * Returns true if a given string is a valid task start time.
+     * Creates a start time at {@code startTime} directly, without parsing any text.
      */
-
-    @Override
-    public LocalDateTime getTimeValue() {
-        return this.startTime;
+    public StartTime(LocalDateTime startTime) {
+        assert startTime != null;
+        this.startTime = startTime;
+        this.epochSecond = startTime.toEpochSecond(ZoneOffset.UTC);
+        this.nano = startTime.getNano();
     }
 
-    @Override
-    public String toString() {
-        return this.startTime.format(StringUtil.DATE_FORMATTER);
+    /**
+     * Creates a start time from its {@link #getEpochSecond()} and {@link #getNano()}.
+     *
+     * @throws IllegalValueException if they are out of range.
+     */
+    public StartTime(long epochSecond, int nano) throws IllegalValueException {
+        if (!Time.isValidEpochTime(epochSecond, nano)) {
+            throw new IllegalValueException(MESSAGE_INVALID_TIME);
+        }
+        this.epochSecond = epochSecond;
+        this.nano = nano;
     }
 
+    /**
+     * Returns true if a given string is a valid task start time.
+     */
+
     @Override
-    public boolean equals(Object other) {
-        return other == this // short circuit if same object
-                || (other instanceof StartTime // instanceof handles nulls
-                        && this.startTime.equals(((StartTime) other).startTime)); // state check
+    public LocalDateTime getTimeValue() {
+        // Racing threads can only create equal values
+        if (startTime == null) {
+            startTime = LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+        return this.startTime;
     }
 
     @Override
-    public int hashCode() {
-        return startTime.toString().hashCode();
+    public long getEpochSecond() {
+        return epochSecond;
     }
 
     @Override
-    public int compareTo(Time time) {
-        return this.getTimeValue().compareTo(time.getTimeValue());
+    public int getNano() {
+        return nano;
     }
 
-    //@@author A0122017Y
-    /**
-     * Check if the underlying time value is before or equal to the input
-     * By default, time values on the same day are treated as equal
-     */
     @Override
-    public boolean isBefore(Time time) {
-        return isSameDay(time) || !this.getTimeValue().isAfter(time.getTimeValue());
+    public String toString() {
+        return getTimeValue().format(StringUtil.DATE_FORMATTER);
     }
 
-    /**
-     * Check if the underlying time value is after or equal to the input
-     * By default, time values on the same day are treated as equal
-     */
     @Override
-    public boolean isAfter(Time time) {
-        return isSameDay(time) || !this.getTimeValue().isBefore(time.getTimeValue());
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StartTime // instanceof handles nulls
+                        && this.epochSecond == ((StartTime) other).epochSecond
+                        && this.nano == ((StartTime) other).nano); // state check
     }
 
-    /**
-     * Check if the underlying time value is happening on the same day as the input
-     */
     @Override
-    public boolean isSameDay(Time time) {
-        return startTime.getDayOfMonth() == time.getTimeValue().getDayOfMonth() &&
-                startTime.getMonthValue() == time.getTimeValue().getMonthValue() &&
-                startTime.getYear() == time.getTimeValue().getYear();
+    public int hashCode() {
+        return 31 * Long.hashCode(epochSecond) + nano;
     }
 
 }
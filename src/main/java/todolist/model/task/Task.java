@@ -4,6 +4,7 @@ import java.util.Objects;
 import java.util.Optional;
 
 import todolist.commons.util.TimeUtil;
+import todolist.model.tag.TagSet;
 import todolist.model.tag.UniqueTagList;
 
 /**
@@ -28,21 +29,30 @@ public class Task implements ReadOnlyTask {
     private Category category;
     private boolean isCompleted;
 
-    private UniqueTagList tags;
+    private TagSet tags;
 
     /**
      * Every field must be present and not null.
      */
     public Task(Title title, Venue venue, StartTime startTime, EndTime endTime, UrgencyLevel urgencyLevel,
             Description description, UniqueTagList tags, boolean isCompleted) {
+        this(title, venue, startTime, endTime, urgencyLevel, description, tags.toTagSet(), isCompleted);
+    }
+
+    /**
+     * Every field must be present and not null.
+     * The tags are held as they are, as they cannot change.
+     */
+    public Task(Title title, Venue venue, StartTime startTime, EndTime endTime, UrgencyLevel urgencyLevel,
+            Description description, TagSet tags, boolean isCompleted) {
+        assert tags != null;
         this.title = title;
         this.venue = venue;
         this.startTime = startTime;
         this.endTime = endTime;
         this.description = description;
         this.urgencyLevel = urgencyLevel;
-        this.tags = new UniqueTagList(tags); // protect internal tags from
-                                             // changes in the arg list
+        this.tags = tags;
         this.isCompleted = isCompleted;
         this.category = sortCategory(); // by default, task is not completed when
                                        // initiated
@@ -50,15 +60,7 @@ public class Task implements ReadOnlyTask {
 
     public Task(Title title, Venue venue, StartTime startTime, EndTime endTime, UrgencyLevel urgencyLevel,
             Description description, UniqueTagList tags) {
-        this.title = title;
-        this.venue = venue;
-        this.startTime = startTime;
-        this.endTime = endTime;
-        this.description = description;
-        this.urgencyLevel = urgencyLevel;
-        this.tags = new UniqueTagList(tags); // protect internal tags from
-                                             // changes in the arg list
-        this.isCompleted = false;
+        this(title, venue, startTime, endTime, urgencyLevel, description, tags, false);
         this.category = sortCategory(); // by default, task is not completed
                                         // when initiated
     }
@@ -74,7 +76,7 @@ public class Task implements ReadOnlyTask {
     public Task(ReadOnlyTask source) {
         this(source.getTitle(), source.getVenue().orElse(null), source.getStartTime().orElse(null),
                 source.getEndTime().orElse(null), source.getUrgencyLevel().orElse(null),
-                source.getDescription().orElse(null), source.getTags(),
+                source.getDescription().orElse(null), source.getTagSet(),
                 source.isTaskCompleted());
     }
 
@@ -193,6 +195,11 @@ public class Task implements ReadOnlyTask {
         return new UniqueTagList(tags);
     }
 
+    @Override
+    public TagSet getTagSet() {
+        return tags;
+    }
+
     @Override
     public Optional<Description> getDescription() {
         return Optional.ofNullable(this.description);
@@ -206,7 +213,11 @@ public class Task implements ReadOnlyTask {
      * Replaces this Task's tags with the tags in the argument tag list.
      */
     public void setTags(UniqueTagList replacement) {
-        tags.setTags(replacement);
+        setTags(replacement.toTagSet());
+    }
+
+    public void setTags(TagSet replacement) {
+        this.tags = replacement;
     }
 
     /**
@@ -220,7 +231,7 @@ public class Task implements ReadOnlyTask {
         this.setVenue(replacement.getVenue().orElse(null));
         this.setUrgencyLevel(replacement.getUrgencyLevel().orElse(null));
         this.setDescription(replacement.getDescription().orElse(null));
-        this.setTags(replacement.getTags());
+        this.setTags(replacement.getTagSet());
     }
 
     @Override
@@ -0,0 +1,82 @@
+package todolist.model.task;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the tasks in a {@link UniqueTaskList} that are not completed and have an end time, by that end time,
+ * so that the tasks whose end times have passed, and the next end time to pass, can be found
+ * without checking every task.
+ */
+public class TaskDeadlineIndex {
+
+    private final NavigableMap<LocalDateTime, Set<ReadOnlyTask>> tasksByEndTime = new TreeMap<>();
+    private final Map<ReadOnlyTask, LocalDateTime> endTimeOfTask = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code task} to the index, if it is not completed and has an end time.
+     */
+    void add(ReadOnlyTask task) {
+        if (task.isTaskCompleted() || !task.getEndTime().isPresent()) {
+            return;
+        }
+        LocalDateTime endTime = task.getEndTime().get().getTimeValue();
+        tasksByEndTime.computeIfAbsent(endTime, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                .add(task);
+        endTimeOfTask.put(task, endTime);
+    }
+
+    /**
+     * Removes {@code task} from the index, if it is in it.
+     * The task is found by the end time it was indexed under, so it may have changed since it was added.
+     */
+    void remove(ReadOnlyTask task) {
+        LocalDateTime endTime = endTimeOfTask.remove(task);
+        if (endTime == null) {
+            return;
+        }
+        Set<ReadOnlyTask> tasksAtEndTime = tasksByEndTime.get(endTime);
+        tasksAtEndTime.remove(task);
+        if (tasksAtEndTime.isEmpty()) {
+            tasksByEndTime.remove(endTime);
+        }
+    }
+
+    void clear() {
+        tasksByEndTime.clear();
+        endTimeOfTask.clear();
+    }
+
+    void setAll(Collection<? extends ReadOnlyTask> tasks) {
+        clear();
+        for (ReadOnlyTask task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns the earliest end time of the tasks in the index, if there are any.
+     */
+    public Optional<LocalDateTime> getEarliestEndTime() {
+        return tasksByEndTime.isEmpty() ? Optional.empty() : Optional.of(tasksByEndTime.firstKey());
+    }
+
+    /**
+     * Returns the tasks whose end time is before {@code time}, earliest first.
+     */
+    public List<ReadOnlyTask> getTasksEndingBefore(LocalDateTime time) {
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        tasksByEndTime.headMap(time, false).values().forEach(tasks::addAll);
+        return tasks;
+    }
+
+}
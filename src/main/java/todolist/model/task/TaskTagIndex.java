@@ -0,0 +1,82 @@
+package todolist.model.task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import todolist.model.tag.Tag;
+import todolist.model.tag.TagSet;
+
+/**
+ * An index of the tasks in a {@link UniqueTaskList} by their tags,
+ * so that the tasks with a tag can be found without checking the tags of every task.
+ */
+public class TaskTagIndex {
+
+    private final Map<Tag, Set<ReadOnlyTask>> tasksByTag = new HashMap<>();
+    private final Map<ReadOnlyTask, TagSet> tagsOfTask = new IdentityHashMap<>();
+    private int version;
+
+    /**
+     * Adds {@code task} to the index, under each of its tags.
+     */
+    void add(ReadOnlyTask task) {
+        TagSet tags = task.getTagSet();
+        for (Tag tag : tags) {
+            tasksByTag.computeIfAbsent(tag, unused -> Collections.newSetFromMap(new IdentityHashMap<>())).add(task);
+        }
+        tagsOfTask.put(task, tags);
+        version++;
+    }
+
+    /**
+     * Removes {@code task} from the index, if it is in it.
+     * The task is found by the tags it was indexed under, so it may have changed since it was added.
+     */
+    void remove(ReadOnlyTask task) {
+        TagSet tags = tagsOfTask.remove(task);
+        if (tags == null) {
+            return;
+        }
+        for (Tag tag : tags) {
+            Set<ReadOnlyTask> tasksWithTag = tasksByTag.get(tag);
+            tasksWithTag.remove(task);
+            if (tasksWithTag.isEmpty()) {
+                tasksByTag.remove(tag);
+            }
+        }
+        version++;
+    }
+
+    void clear() {
+        tasksByTag.clear();
+        tagsOfTask.clear();
+        version++;
+    }
+
+    void setAll(Collection<? extends ReadOnlyTask> tasks) {
+        clear();
+        for (ReadOnlyTask task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the index changes, so that query results can be reused until then.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the tasks tagged with {@code tag}, as a set that compares tasks by identity and cannot be changed.
+     */
+    public Set<ReadOnlyTask> getTasksTagged(Tag tag) {
+        Set<ReadOnlyTask> tasks = tasksByTag.get(tag);
+        return tasks == null ? Collections.emptySet() : Collections.unmodifiableSet(tasks);
+    }
+
+}
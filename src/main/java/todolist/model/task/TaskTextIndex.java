@@ -0,0 +1,234 @@
+package todolist.model.task;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An index of the tasks in a {@link UniqueTaskList} by the trigrams, or runs of three characters, of the details
+ * that are searched by keyword: the title, start time, end time, description and venue, in lower case.
+ *
+ * A detail that contains a keyword contains every trigram of it, so the tasks that may contain a keyword are
+ * found by intersecting the lists of tasks having each of its trigrams, and only those are checked.
+ * Keywords shorter than a trigram are checked against every task.
+ *
+ * Tasks are numbered in the order they are indexed, so that each list of tasks having a trigram is sorted
+ * by number as tasks are added to its end. Removed tasks are left in those lists and skipped,
+ * and the numbers are given out again from 0 once as many tasks have been removed as are left.
+ */
+public class TaskTextIndex {
+
+    private static final int TRIGRAM_LENGTH = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Map<Long, IntList> tasksByTrigram = new HashMap<>();
+    private final Map<ReadOnlyTask, Integer> numberOfTask = new IdentityHashMap<>();
+    /** The tasks by their numbers, with null for the numbers of removed tasks. */
+    private ReadOnlyTask[] tasksByNumber = new ReadOnlyTask[INITIAL_CAPACITY];
+    private int nextNumber;
+    private int version;
+
+    /**
+     * Adds {@code task} to the index, by the trigrams of its details as they are now.
+     */
+    void add(ReadOnlyTask task) {
+        if (nextNumber == tasksByNumber.length) {
+            makeRoom();
+        }
+        int number = nextNumber++;
+        tasksByNumber[number] = task;
+        numberOfTask.put(task, number);
+        for (long trigram : getTrigrams(task)) {
+            tasksByTrigram.computeIfAbsent(trigram, unused -> new IntList()).add(number);
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code task} from the index, if it is in it.
+     * The task may have changed since it was added.
+     */
+    void remove(ReadOnlyTask task) {
+        Integer number = numberOfTask.remove(task);
+        if (number == null) {
+            return;
+        }
+        tasksByNumber[number] = null;
+        version++;
+    }
+
+    void clear() {
+        tasksByTrigram.clear();
+        numberOfTask.clear();
+        tasksByNumber = new ReadOnlyTask[INITIAL_CAPACITY];
+        nextNumber = 0;
+        version++;
+    }
+
+    void setAll(Collection<? extends ReadOnlyTask> tasks) {
+        clear();
+        tasksByNumber = new ReadOnlyTask[Math.max(INITIAL_CAPACITY, tasks.size())];
+        for (ReadOnlyTask task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Makes room for the next task to be numbered: the numbers are given out again to the tasks left
+     * if as many tasks have been removed, and otherwise the room for numbers is doubled.
+     */
+    private void makeRoom() {
+        if (numberOfTask.size() > tasksByNumber.length / 2) {
+            tasksByNumber = Arrays.copyOf(tasksByNumber, tasksByNumber.length * 2);
+            return;
+        }
+        List<ReadOnlyTask> tasksLeft = new ArrayList<>(numberOfTask.size());
+        for (int i = 0; i < nextNumber; i++) {
+            if (tasksByNumber[i] != null) {
+                tasksLeft.add(tasksByNumber[i]);
+            }
+        }
+        int capacity = tasksByNumber.length;
+        setAll(tasksLeft);
+        tasksByNumber = Arrays.copyOf(tasksByNumber, capacity);
+    }
+
+    /**
+     * Returns a number that changes whenever the index changes, so that query results can be reused until then.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the tasks with a detail that contains {@code keyword}, ignoring case.
+     * The returned set compares tasks by identity.
+     */
+    public Set<ReadOnlyTask> getTasksContaining(String keyword) {
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<ReadOnlyTask> tasks = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (lowerCaseKeyword.length() < TRIGRAM_LENGTH) {
+            for (int number = 0; number < nextNumber; number++) {
+                addIfContains(tasks, tasksByNumber[number], lowerCaseKeyword);
+            }
+            return tasks;
+        }
+
+        List<IntList> lists = new ArrayList<>();
+        for (long trigram : getTrigrams(lowerCaseKeyword)) {
+            IntList list = tasksByTrigram.get(trigram);
+            if (list == null) {
+                return tasks;
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.size));
+        IntList candidates = lists.get(0);
+        for (int i = 1; i < lists.size() && candidates.size > 0; i++) {
+            candidates = candidates.intersect(lists.get(i));
+        }
+        for (int i = 0; i < candidates.size; i++) {
+            addIfContains(tasks, tasksByNumber[candidates.numbers[i]], lowerCaseKeyword);
+        }
+        return tasks;
+    }
+
+    private static void addIfContains(Set<ReadOnlyTask> tasks, ReadOnlyTask task, String lowerCaseKeyword) {
+        if (task != null && containsKeyword(task, lowerCaseKeyword)) {
+            tasks.add(task);
+        }
+    }
+
+    /**
+     * Returns true if a detail of {@code task} that is searched by keyword contains {@code lowerCaseKeyword},
+     * ignoring case.
+     */
+    public static boolean containsKeyword(ReadOnlyTask task, String lowerCaseKeyword) {
+        for (String detail : getDetailsSearched(task)) {
+            if (detail.toLowerCase().contains(lowerCaseKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String[] getDetailsSearched(ReadOnlyTask task) {
+        return new String[] { task.getTitle().toString(), task.getStartTimeString(), task.getEndTimeString(),
+            task.getDescriptionString(), task.getVenueString() };
+    }
+
+    /**
+     * Returns the distinct trigrams of the details of {@code task}, in lower case.
+     * A trigram is only taken from within one detail, as a keyword is only matched within one.
+     */
+    private static long[] getTrigrams(ReadOnlyTask task) {
+        return getTrigrams(Arrays.stream(getDetailsSearched(task)).map(String::toLowerCase).toArray(String[]::new));
+    }
+
+    private static long[] getTrigrams(String... texts) {
+        int count = 0;
+        for (String text : texts) {
+            count += Math.max(0, text.length() - TRIGRAM_LENGTH + 1);
+        }
+        long[] trigrams = new long[count];
+        int i = 0;
+        for (String text : texts) {
+            for (int start = 0; start + TRIGRAM_LENGTH <= text.length(); start++) {
+                trigrams[i++] = (long) text.charAt(start) << 32 | (long) text.charAt(start + 1) << 16
+                        | text.charAt(start + 2);
+            }
+        }
+        Arrays.sort(trigrams);
+        int distinct = 0;
+        for (int j = 0; j < trigrams.length; j++) {
+            if (j == 0 || trigrams[j] != trigrams[j - 1]) {
+                trigrams[distinct++] = trigrams[j];
+            }
+        }
+        return Arrays.copyOf(trigrams, distinct);
+    }
+
+    /**
+     * A growable list of task numbers, in increasing order.
+     */
+    private static class IntList {
+
+        private int[] numbers = new int[4];
+        private int size;
+
+        void add(int number) {
+            if (size == numbers.length) {
+                numbers = Arrays.copyOf(numbers, size * 2);
+            }
+            numbers[size++] = number;
+        }
+
+        /**
+         * Returns the numbers in both this list and {@code other}.
+         * Each number of this list, which should be the shorter, is looked for by binary search in the other,
+         * from where the last one was found.
+         */
+        IntList intersect(IntList other) {
+            IntList common = new IntList();
+            int from = 0;
+            for (int i = 0; i < size && from < other.size; i++) {
+                int found = Arrays.binarySearch(other.numbers, from, other.size, numbers[i]);
+                if (found >= 0) {
+                    common.add(numbers[i]);
+                    from = found + 1;
+                } else {
+                    from = -found - 1;
+                }
+            }
+            return common;
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package todolist.model.task;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * An index of the tasks in a {@link UniqueTaskList} that are not completed and have a time,
+ * by the day of that time, so that the tasks within some days can be found without checking every task.
+ *
+ * Tasks are indexed by their start time if they have one, and otherwise by their end time:
+ * that is, deadlines by their deadline, and events and floating tasks with a start time by their start.
+ * As durations are compared by day ({@link Time#isBefore(Time)}), only the day is kept.
+ */
+public class TaskTimeIndex {
+
+    private final NavigableMap<Long, Set<ReadOnlyTask>> tasksByDay = new TreeMap<>();
+    private final Map<ReadOnlyTask, Long> dayOfTask = new IdentityHashMap<>();
+    private int version;
+
+    /**
+     * Adds {@code task} to the index, if it is not completed and has a time.
+     */
+    void add(ReadOnlyTask task) {
+        Optional<? extends Time> time = getIndexedTime(task);
+        if (!time.isPresent()) {
+            return;
+        }
+        long day = time.get().getEpochDay();
+        tasksByDay.computeIfAbsent(day, unused -> newTaskSet()).add(task);
+        dayOfTask.put(task, day);
+        version++;
+    }
+
+    /**
+     * Removes {@code task} from the index, if it is in it.
+     * The task is found by the day it was indexed under, so it may have changed since it was added.
+     */
+    void remove(ReadOnlyTask task) {
+        Long day = dayOfTask.remove(task);
+        if (day == null) {
+            return;
+        }
+        Set<ReadOnlyTask> tasksOnDay = tasksByDay.get(day);
+        tasksOnDay.remove(task);
+        if (tasksOnDay.isEmpty()) {
+            tasksByDay.remove(day);
+        }
+        version++;
+    }
+
+    void clear() {
+        tasksByDay.clear();
+        dayOfTask.clear();
+        version++;
+    }
+
+    void setAll(Collection<? extends ReadOnlyTask> tasks) {
+        clear();
+        for (ReadOnlyTask task : tasks) {
+            add(task);
+        }
+    }
+
+    /**
+     * Returns a number that changes whenever the index changes, so that query results can be reused until then.
+     */
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the tasks whose time is within the days from {@code fromDay} to {@code toDay}, inclusive.
+     * An event is only returned if its end time is within those days as well.
+     * The returned set compares tasks by identity.
+     */
+    public Set<ReadOnlyTask> getTasksWithin(long fromDay, long toDay) {
+        Set<ReadOnlyTask> tasks = newTaskSet();
+        if (fromDay > toDay) {
+            return tasks;
+        }
+        for (Set<ReadOnlyTask> tasksOnDay : tasksByDay.subMap(fromDay, true, toDay, true).values()) {
+            for (ReadOnlyTask task : tasksOnDay) {
+                if (!isEvent(task) || isWithin(task.getEndTime().get().getEpochDay(), fromDay, toDay)) {
+                    tasks.add(task);
+                }
+            }
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns the tasks whose time is on {@code day}: the deadline of deadlines, and the start of other tasks.
+     * The returned set compares tasks by identity.
+     */
+    public Set<ReadOnlyTask> getTasksOnDay(long day) {
+        Set<ReadOnlyTask> tasks = newTaskSet();
+        tasks.addAll(tasksByDay.getOrDefault(day, Collections.emptySet()));
+        return tasks;
+    }
+
+    private static Optional<? extends Time> getIndexedTime(ReadOnlyTask task) {
+        if (task.isTaskCompleted()) {
+            return Optional.empty();
+        }
+        return task.getStartTime().isPresent() ? task.getStartTime() : task.getEndTime();
+    }
+
+    private static boolean isEvent(ReadOnlyTask task) {
+        return task.getStartTime().isPresent() && task.getEndTime().isPresent();
+    }
+
+    private static boolean isWithin(long day, long fromDay, long toDay) {
+        return day >= fromDay && day <= toDay;
+    }
+
+    private static Set<ReadOnlyTask> newTaskSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
@@ -1,6 +1,7 @@
 package todolist.model.task;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 
 //@@author A0122017Y
 public interface Time extends Comparable<Time> {
@@ -17,20 +18,70 @@ public interface Time extends Comparable<Time> {
             + "Or: relative days, e.g tomorrow 4:18 \n"
             + "Notice that no abbreviation is accepted for relatives. e.g tmrw is invalid. ";
     public static final String MESSAGE_DUPLICATED_TIME_PARAMETERS = "You are having duplicated start or end time!";
+    public static final long MIN_EPOCH_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    public static final long MAX_EPOCH_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+    public static final int NANOS_PER_SECOND = 1000000000;
+    public static final int SECONDS_PER_DAY = 86400;
 
     static Boolean isValidTime(String test) {
         return test.matches(TIME_VALIDATION_REGEX);
     }
 
+    /**
+     * Returns true if {@code epochSecond} and {@code nano} are in the range of {@link #getEpochSecond()}
+     * and {@link #getNano()}.
+     */
+    static boolean isValidEpochTime(long epochSecond, int nano) {
+        return epochSecond >= MIN_EPOCH_SECOND && epochSecond <= MAX_EPOCH_SECOND
+                && nano >= 0 && nano < NANOS_PER_SECOND;
+    }
+
     LocalDateTime getTimeValue();
 
+    /**
+     * Returns the time as seconds since the epoch, taking the local date-time as if it were UTC.
+     */
+    long getEpochSecond();
+
+    /**
+     * Returns the nanoseconds within the second of {@link #getEpochSecond()}.
+     */
+    int getNano();
+
+    /**
+     * Returns the day of the time as days since the epoch.
+     */
+    default long getEpochDay() {
+        return Math.floorDiv(getEpochSecond(), SECONDS_PER_DAY);
+    }
+
     @Override
-    int compareTo(Time time);
+    default int compareTo(Time time) {
+        int bySecond = Long.compare(getEpochSecond(), time.getEpochSecond());
+        return bySecond != 0 ? bySecond : Integer.compare(getNano(), time.getNano());
+    }
 
-    boolean isBefore(Time time);
+    /**
+     * Check if the underlying time value is before or equal to the input
+     * By default, time values on the same day are treated as equal
+     */
+    default boolean isBefore(Time time) {
+        return isSameDay(time) || compareTo(time) <= 0;
+    }
 
-    boolean isAfter(Time time);
+    /**
+     * Check if the underlying time value is after or equal to the input
+     * By default, time values on the same day are treated as equal
+     */
+    default boolean isAfter(Time time) {
+        return isSameDay(time) || compareTo(time) >= 0;
+    }
 
-    boolean isSameDay(Time time);
+    /**
+     * Check if the underlying time value is happening on the same day as the input
+     */
+    default boolean isSameDay(Time time) {
+        return getEpochDay() == time.getEpochDay();
+    }
 
 }
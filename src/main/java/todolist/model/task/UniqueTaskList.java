@@ -1,11 +1,17 @@
 package todolist.model.task;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
-import todolist.commons.core.UnmodifiableObservableList;
+import todolist.commons.core.ObservedList;
+import todolist.commons.core.UpdatableList;
 import todolist.commons.exceptions.DuplicateDataException;
 import todolist.model.task.ReadOnlyTask.Category;
 
@@ -14,19 +20,196 @@ import todolist.model.task.ReadOnlyTask.Category;
  *
  * Supports a minimal set of list operations.
  *
+ * Alongside the list, a hash index keyed on the fields compared by
+ * {@link ReadOnlyTask#isSameStateAs(ReadOnlyTask)} is kept, so that duplicate checks
+ * and position lookups do not need to scan the list.
+ * Tasks must only be modified through this class while they are in the list.
+ *
+ * The list holds {@link Task}s, and {@link ArchivedTask}s, which cannot change and so are never copied.
+ * The tasks that are not completed are also kept in a {@link TaskTimeIndex}, to find them by time.
+ *
+ * The tasks of each {@link Category} are also kept in a list of their own, in the order of the list,
+ * so that views of a category do not need to check the category of every task whenever the list changes.
+ * A task is moved to the list of its new category when it is edited or completed.
+ *
+ * {@link Task}s are edited and completed in place. The lists are told that the task at its known position
+ * was updated, so views of the lists only filter and sort again the tasks that changed,
+ * and no list is searched for the task.
+ *
  * @see Task#equals(Object)
  */
-public class UniqueTaskList implements Iterable<Task> {
+public class UniqueTaskList implements Iterable<ReadOnlyTask> {
 
     private static final String MESSAGE_NO_TAGS_AVAILABLE = "There are no tags in the to-do list!";
-    private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final UpdatableList<ReadOnlyTask> internalList = new UpdatableList<>();
+    private final Map<StateKey, ReadOnlyTask> stateIndex = new HashMap<>();
+    private final Map<ReadOnlyTask, Integer> positionIndex = new IdentityHashMap<>();
+    private final TaskTimeIndex timeIndex = new TaskTimeIndex();
+    private final TaskDeadlineIndex deadlineIndex = new TaskDeadlineIndex();
+    private final TaskTextIndex textIndex = new TaskTextIndex();
+    private final TaskTagIndex tagIndex = new TaskTagIndex();
+    private final Map<ReadOnlyTask, Category> categoryIndex = new IdentityHashMap<>();
+    private final Map<Category, UpdatableList<ReadOnlyTask>> categoryLists = new EnumMap<>(Category.class);
+
+    public UniqueTaskList() {
+        for (Category category : Category.values()) {
+            categoryLists.put(category, new UpdatableList<>());
+        }
+    }
 
     /**
      * Returns true if the list contains an equivalent Task as the given argument.
      */
     public boolean contains(ReadOnlyTask toCheck) {
         assert toCheck != null;
-        return internalList.contains(toCheck);
+        return stateIndex.containsKey(new StateKey(toCheck));
+    }
+
+    /**
+     * Returns the position of the equivalent Task in the list, or -1 if there is none.
+     */
+    public int indexOf(ReadOnlyTask toFind) {
+        ReadOnlyTask found = stateIndex.get(new StateKey(toFind));
+        return found == null ? -1 : positionIndex.get(found);
+    }
+
+    private void index(ReadOnlyTask task, int position) {
+        stateIndex.put(new StateKey(task), task);
+        positionIndex.put(task, position);
+        timeIndex.add(task);
+        deadlineIndex.add(task);
+        textIndex.add(task);
+        tagIndex.add(task);
+    }
+
+    private void unindex(ReadOnlyTask task) {
+        stateIndex.remove(new StateKey(task));
+        positionIndex.remove(task);
+        timeIndex.remove(task);
+        deadlineIndex.remove(task);
+        textIndex.remove(task);
+        tagIndex.remove(task);
+    }
+
+    /**
+     * Adds {@code task}, which is at {@code position} in the list, to the list of its category.
+     */
+    private void addToCategory(ReadOnlyTask task, int position) {
+        Category category = task.getTaskCategory();
+        categoryIndex.put(task, category);
+        UpdatableList<ReadOnlyTask> categoryList = categoryLists.get(category);
+        categoryList.insert(indexInCategory(categoryList, position), task);
+    }
+
+    /**
+     * Removes {@code task}, which is at {@code position} in the list, from the list of the category
+     * it was added to, which it may have changed from since.
+     */
+    private void removeFromCategory(ReadOnlyTask task, int position) {
+        UpdatableList<ReadOnlyTask> categoryList = categoryLists.get(categoryIndex.remove(task));
+        categoryList.delete(indexInCategory(categoryList, position));
+    }
+
+    /**
+     * Returns the index in {@code categoryList} of the task at {@code position} in the list,
+     * or where it would be inserted if it is not in {@code categoryList}.
+     * The tasks of a category are in the order of the list, so their positions are searched.
+     */
+    private int indexInCategory(List<ReadOnlyTask> categoryList, int position) {
+        int low = 0;
+        int high = categoryList.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int midPosition = positionIndex.get(categoryList.get(mid));
+            if (midPosition < position) {
+                low = mid + 1;
+            } else if (midPosition > position) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Replaces the task at {@code position} with {@code newTask},
+     * and moves it to the list of its category if that has changed.
+     * Tasks are indexed before the lists change, so that views of the lists can order tasks by their position.
+     */
+    private void replaceTask(int position, ReadOnlyTask newTask) {
+        ReadOnlyTask oldTask = internalList.get(position);
+        UpdatableList<ReadOnlyTask> oldCategoryList = categoryLists.get(categoryIndex.get(oldTask));
+        int oldIndexInCategory = indexInCategory(oldCategoryList, position);
+        unindex(oldTask);
+        index(newTask, position);
+        internalList.replace(position, newTask);
+
+        Category newCategory = newTask.getTaskCategory();
+        categoryIndex.remove(oldTask);
+        categoryIndex.put(newTask, newCategory);
+        UpdatableList<ReadOnlyTask> newCategoryList = categoryLists.get(newCategory);
+        if (newCategoryList == oldCategoryList) {
+            oldCategoryList.replace(oldIndexInCategory, newTask);
+        } else {
+            oldCategoryList.delete(oldIndexInCategory);
+            newCategoryList.insert(indexInCategory(newCategoryList, position), newTask);
+        }
+    }
+
+    /**
+     * Refreshes the recorded positions of all Tasks from {@code from} onwards.
+     */
+    private void reindexPositionsFrom(int from) {
+        for (int i = from; i < internalList.size(); i++) {
+            positionIndex.put(internalList.get(i), i);
+        }
+    }
+
+    /**
+     * Changes {@code task}, which is at {@code position}, in place to have the details of {@code changedTask}.
+     * The task is reindexed before the lists are told of the change, once for all its changed details.
+     * If its category changes, the task is moved from the list of its old category to that of its new one.
+     */
+    private void changeTask(Task task, int position, ReadOnlyTask changedTask) {
+        Category oldCategory = categoryIndex.get(task);
+        UpdatableList<ReadOnlyTask> oldCategoryList = categoryLists.get(oldCategory);
+        int oldIndexInCategory = indexInCategory(oldCategoryList, position);
+        stateIndex.remove(new StateKey(task));
+        timeIndex.remove(task);
+        deadlineIndex.remove(task);
+        textIndex.remove(task);
+        tagIndex.remove(task);
+        task.resetData(changedTask);
+        task.setCompleteStatus(changedTask.isTaskCompleted());
+        stateIndex.put(new StateKey(task), task);
+        timeIndex.add(task);
+        deadlineIndex.add(task);
+        textIndex.add(task);
+        tagIndex.add(task);
+
+        internalList.updated(position);
+        if (task.getTaskCategory() == oldCategory) {
+            oldCategoryList.updated(oldIndexInCategory);
+        } else {
+            categoryIndex.remove(task);
+            oldCategoryList.delete(oldIndexInCategory);
+            addToCategory(task, position);
+        }
+    }
+
+    /**
+     * Returns the Task in the list that is equivalent to the given argument.
+     *
+     * @throws TaskNotFoundException if no such Task could be found in the list.
+     */
+    public ReadOnlyTask get(ReadOnlyTask toFind) throws TaskNotFoundException {
+        assert toFind != null;
+        ReadOnlyTask found = stateIndex.get(new StateKey(toFind));
+        if (found == null) {
+            throw new TaskNotFoundException();
+        }
+        return found;
     }
 
     /**
@@ -35,11 +218,41 @@ public class UniqueTaskList implements Iterable<Task> {
      * @throws DuplicateTaskException if the Task to add is a duplicate of an existing Task in the list.
      */
     public void add(Task toAdd) throws DuplicateTaskException {
+        addTask(toAdd);
+    }
+
+    /**
+     * Adds a Task to the list at {@code position}, moving the Tasks from there onwards one place down.
+     *
+     * @throws DuplicateTaskException if the Task to add is a duplicate of an existing Task in the list.
+     * @throws IndexOutOfBoundsException if {@code position} < 0 or > the size of the list.
+     */
+    public void add(int position, Task toAdd) throws DuplicateTaskException {
+        assert toAdd != null;
+        if (position < 0 || position > internalList.size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        if (contains(toAdd)) {
+            throw new DuplicateTaskException();
+        }
+        // The later Tasks are indexed at their new positions first, as the views of the list order Tasks by them
+        for (int i = internalList.size() - 1; i >= position; i--) {
+            positionIndex.put(internalList.get(i), i + 1);
+        }
+        index(toAdd, position);
+        internalList.insert(position, toAdd);
+        addToCategory(toAdd, position);
+    }
+
+    private void addTask(ReadOnlyTask toAdd) throws DuplicateTaskException {
         assert toAdd != null;
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalList.add(toAdd);
+        // Indexed first, so that the views of the list can order the task by its position as it is added
+        index(toAdd, internalList.size());
+        internalList.append(toAdd);
+        addToCategory(toAdd, internalList.size() - 1);
     }
 
     /**
@@ -51,17 +264,20 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void updateTask(ReadOnlyTask taskToEdit, ReadOnlyTask editedTask) throws DuplicateTaskException {
         assert editedTask != null;
-        Task taskToUpdate = new Task(taskToEdit);
-        int index = internalList.indexOf(taskToUpdate);
-        if (!taskToUpdate.equals(editedTask) && internalList.contains(editedTask)) {
+        int index = indexOf(taskToEdit);
+        ReadOnlyTask taskToUpdate = internalList.get(index);
+        if (!taskToUpdate.isSameStateAs(editedTask) && contains(editedTask)) {
             throw new DuplicateTaskException();
         }
 
-        taskToUpdate.resetData(editedTask);
-        // TODO: The code below is just a workaround to notify observers of the updated Task.
-        // The right way is to implement observable properties in the Task class.
-        // Then, TaskCard should then bind its text labels to those observable properties.
-        internalList.set(index, taskToUpdate);
+        Task updatedTask = new Task(taskToUpdate);
+        updatedTask.resetData(editedTask);
+        if (taskToUpdate instanceof Task) {
+            changeTask((Task) taskToUpdate, index, updatedTask);
+        } else {
+            // An archived task cannot change, so it is replaced by the edited copy
+            replaceTask(index, updatedTask);
+        }
     }
 
     /**
@@ -71,36 +287,93 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public boolean remove(ReadOnlyTask toRemove) throws TaskNotFoundException {
         assert toRemove != null;
-        final boolean taskFoundAndDeleted = internalList.remove(toRemove);
-        if (!taskFoundAndDeleted) {
+        final int index = indexOf(toRemove);
+        if (index < 0) {
             throw new TaskNotFoundException();
         }
-        return taskFoundAndDeleted;
+        removeFromCategory(internalList.get(index), index);
+        unindex(internalList.delete(index));
+        reindexPositionsFrom(index);
+        return true;
     }
 
     public void setTasks(UniqueTaskList replacement) {
+        this.stateIndex.clear();
+        this.stateIndex.putAll(replacement.stateIndex);
+        this.positionIndex.clear();
+        this.positionIndex.putAll(replacement.positionIndex);
+        this.timeIndex.setAll(replacement.internalList);
+        this.deadlineIndex.setAll(replacement.internalList);
+        this.textIndex.setAll(replacement.internalList);
+        this.tagIndex.setAll(replacement.internalList);
+        this.categoryIndex.clear();
+        this.categoryIndex.putAll(replacement.categoryIndex);
         this.internalList.setAll(replacement.internalList);
+        for (Category category : Category.values()) {
+            this.categoryLists.get(category).setAll(replacement.categoryLists.get(category));
+        }
     }
 
     public void setTasks(List<? extends ReadOnlyTask> tasks) throws DuplicateTaskException {
         final UniqueTaskList replacement = new UniqueTaskList();
         for (final ReadOnlyTask task : tasks) {
-            replacement.add(new Task(task));
+            replacement.addTask(task instanceof ArchivedTask ? task : new Task(task));
         }
         setTasks(replacement);
     }
 
 
-    public UnmodifiableObservableList<Task> asObservableList() {
-        return new UnmodifiableObservableList<>(internalList);
+    /**
+     * Returns the index of the tasks in the list that are not completed, by time.
+     */
+    public TaskTimeIndex getTimeIndex() {
+        return timeIndex;
+    }
+
+    /**
+     * Returns the index of the tasks in the list that are not completed, by end time.
+     */
+    public TaskDeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    /**
+     * Returns the index of the tasks in the list by the text of their details.
+     */
+    public TaskTextIndex getTextIndex() {
+        return textIndex;
+    }
+
+    /**
+     * Returns the index of the tasks in the list by their tags.
+     */
+    public TaskTagIndex getTagIndex() {
+        return tagIndex;
+    }
+
+    /**
+     * Returns a comparator that orders the tasks in the list by their position in it,
+     * for views of the list to keep tasks that are otherwise equal in the order of the list.
+     * Only tasks in the list can be compared.
+     */
+    public Comparator<ReadOnlyTask> getListOrderComparator() {
+        return Comparator.comparingInt(positionIndex::get);
+    }
+
+    public ObservedList<ReadOnlyTask> asList() {
+        return internalList;
     }
 
-    public UnmodifiableObservableList<Task> getFilteredTaskList(Category filter) {
-        return new UnmodifiableObservableList<>(internalList.filtered(p -> p.getTaskCategory().equals(filter)));
+    /**
+     * Returns a view of the tasks in the list of the {@code filter} category, in the order of the list.
+     * The view is of the list the tasks of that category are kept in, so no task is checked to make it.
+     */
+    public ObservedList<ReadOnlyTask> getFilteredTaskList(Category filter) {
+        return categoryLists.get(filter);
     }
 
     @Override
-    public Iterator<Task> iterator() {
+    public Iterator<ReadOnlyTask> iterator() {
         return internalList.iterator();
     }
 
@@ -117,6 +390,38 @@ public class UniqueTaskList implements Iterable<Task> {
         return internalList.hashCode();
     }
 
+    /**
+     * Looks up a Task by the details compared by {@link ReadOnlyTask#isSameStateAs(ReadOnlyTask)},
+     * so that equivalent Tasks hash to the same bucket.
+     */
+    private static class StateKey {
+
+        private final ReadOnlyTask task;
+        private final int hash;
+
+        StateKey(ReadOnlyTask task) {
+            this.task = task;
+            this.hash = task.stateHashCode();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof StateKey)) {
+                return false;
+            }
+            StateKey o = (StateKey) other;
+            return hash == o.hash && task.isSameStateAs(o.task);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     /**
      * Signals that an operation would have violated the 'no duplicates' property of the list.
      */
@@ -144,26 +449,38 @@ public class UniqueTaskList implements Iterable<Task> {
     /**
      * Mark the given task as completed
      * @param taskToComplete
+     * @return the task in the list after its completion status is toggled
      */
-    public void completeTask(ReadOnlyTask taskToComplete) {
-        int taskIndex = this.internalList.indexOf(taskToComplete);
-        Task completedTask = internalList.get(taskIndex);
+    public Task completeTask(ReadOnlyTask taskToComplete) {
+        int taskIndex = indexOf(taskToComplete);
+        ReadOnlyTask task = internalList.get(taskIndex);
+        Task completedTask = new Task(task);
         completedTask.toggleComplete();
-        internalList.set(taskIndex, completedTask);
+        if (task instanceof Task) {
+            changeTask((Task) task, taskIndex, completedTask);
+            return (Task) task;
+        }
+        // An archived task is replaced by the copy, which can be reopened
+        replaceTask(taskIndex, completedTask);
+        return completedTask;
     }
 
     /**
      * Auto mark the task as completed
-     * if its due time is after the present time point
-     */
-    public void autoComplete() {
-        for (Task task : internalList) {
-            if (!task.isTaskCompleted() &&
-                task.getEndTime().isPresent() &&
-                task.getEndTime().get().outdated()) {
-                task.toggleComplete();
-            }
+     * if its due time is before {@code now}.
+     * Only the tasks that are due are visited, as they are found by the index of end times.
+     * @return the tasks that were marked as completed, earliest due first
+     */
+    public List<Task> autoComplete(LocalDateTime now) {
+        List<Task> completedTasks = new ArrayList<>();
+        for (ReadOnlyTask task : deadlineIndex.getTasksEndingBefore(now)) {
+            assert task instanceof Task : "Tasks that are not completed are held as Tasks";
+            Task completedTask = new Task(task);
+            completedTask.toggleComplete();
+            changeTask((Task) task, positionIndex.get(task), completedTask);
+            completedTasks.add((Task) task);
         }
+        return completedTasks;
     }
 
 }
@@ -0,0 +1,464 @@
+package todolist.storage;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import todolist.commons.core.LogsCenter;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.commons.exceptions.IllegalValueException;
+import todolist.commons.util.FileUtil;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.ArchivedTask;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Time;
+import todolist.model.task.Title;
+import todolist.model.task.UrgencyLevel;
+import todolist.model.task.Venue;
+
+/**
+ * A class to access ToDoList data stored in a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a dictionary of every tag name
+ * and then one length-prefixed record per task. A task refers to its tags by their index in the dictionary,
+ * and its start and end times are stored as epoch seconds and nanoseconds, so loading needs no date parsing.
+ * A reader skips whatever it does not know at the end of a record, so fields can be appended to records
+ * in later versions of the format without breaking older files.
+ *
+ * For very large lists, completed tasks can be left in the memory-mapped file instead of being read into memory.
+ * Saving replaces the file with a new one, while tasks read earlier keep reading the old, mapped file,
+ * so this relies on the platform allowing a mapped file to be replaced, as Linux and macOS do.
+ * Windows does not, so there completed tasks are read into memory like the others.
+ */
+public class BinaryToDoListStorage implements ToDoListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryToDoListStorage.class);
+
+    public static final String FILE_EXTENSION = ".bin";
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private static final int MAGIC = 0x54444C42; // "TDLB"
+    static final int FORMAT_VERSION = 1;
+
+    // Flags in the first byte of a task record
+    static final int HAS_VENUE = 1;
+    static final int HAS_START_TIME = 1 << 1;
+    static final int HAS_END_TIME = 1 << 2;
+    static final int HAS_URGENCY_LEVEL = 1 << 3;
+    static final int HAS_DESCRIPTION = 1 << 4;
+    static final int IS_COMPLETED = 1 << 5;
+    static final int TIME_BYTES = Long.BYTES + Integer.BYTES;
+
+    /** Whether a file may be replaced while it is memory-mapped, which Windows does not allow. */
+    static final boolean CAN_REPLACE_MAPPED_FILE = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private String filePath;
+    private final boolean isCompletedTaskMapped;
+
+    public BinaryToDoListStorage(String filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * @param isCompletedTaskMapped whether completed tasks are left in the memory-mapped file when it is read,
+     *         rather than read into memory, where the platform allows it. See {@link #mapDataFromSaveFile(File)}.
+     */
+    public BinaryToDoListStorage(String filePath, boolean isCompletedTaskMapped) {
+        this(filePath, isCompletedTaskMapped, CAN_REPLACE_MAPPED_FILE);
+    }
+
+    /**
+     * @param canReplaceMappedFile whether the platform allows a memory-mapped file to be replaced.
+     *         If not, completed tasks are read into memory even if {@code isCompletedTaskMapped}, as the file
+     *         they were left in could not be saved over.
+     */
+    BinaryToDoListStorage(String filePath, boolean isCompletedTaskMapped, boolean canReplaceMappedFile) {
+        this.filePath = filePath;
+        if (isCompletedTaskMapped && !canReplaceMappedFile) {
+            logger.warning("Completed tasks cannot be left in the data file on this platform, "
+                    + "as it could not be saved over; reading them into memory instead");
+        }
+        this.isCompletedTaskMapped = isCompletedTaskMapped && canReplaceMappedFile;
+    }
+
+    /**
+     * Returns true if completed tasks are left in the memory-mapped file when it is read.
+     */
+    public boolean isCompletedTaskMapped() {
+        return isCompletedTaskMapped;
+    }
+
+    /**
+     * Returns the path of the binary file kept in place of the xml file at {@code xmlFilePath},
+     * e.g. {@code data/todolist.bin} for {@code data/todolist.xml}.
+     */
+    public static String toBinaryFilePath(String xmlFilePath) {
+        if (xmlFilePath.endsWith(FILE_EXTENSION)) {
+            return xmlFilePath;
+        }
+        String basePath = xmlFilePath.endsWith(XML_FILE_EXTENSION)
+                ? xmlFilePath.substring(0, xmlFilePath.length() - XML_FILE_EXTENSION.length())
+                : xmlFilePath;
+        return basePath + FILE_EXTENSION;
+    }
+
+    @Override
+    public String getToDoListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readToDoList()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+
+        File file = new File(filePath);
+        if (!file.exists()) {
+            logger.info("To-do List file " + file + " not found");
+            return Optional.empty();
+        }
+
+        ReadOnlyToDoList todoList = isCompletedTaskMapped ? mapDataFromSaveFile(file) : loadDataFromSaveFile(file);
+        logger.info("load data from " + filePath);
+        return Optional.of(todoList);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList todoList) throws IOException {
+        saveToDoList(todoList, filePath);
+        logger.info("saved data to " + filePath);
+    }
+
+    /**
+     * Similar to {@link #saveToDoList(ReadOnlyToDoList)}
+     * The data is written to a temporary file first, so a failed save never leaves a half-written file behind.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveToDoList(ReadOnlyToDoList todoList, String filePath) throws IOException {
+        assert todoList != null;
+        assert filePath != null;
+
+        File file = new File(filePath);
+        File tempFile = new File(filePath + TEMP_FILE_SUFFIX);
+        FileUtil.createIfMissing(tempFile);
+        saveDataToFile(tempFile, todoList);
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // ================ Writing ==============================
+
+    /**
+     * Saves the given ToDoList data to the specified file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyToDoList todoList) throws IOException {
+        assert file != null;
+        assert todoList != null;
+
+        // The master tag list normally holds every tag, but tags only found on tasks are kept too
+        Map<String, Integer> tagIndexes = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : todoList.getTagList()) {
+            addToDictionary(tag, tagIndexes, tagNames);
+        }
+        for (ReadOnlyTask task : todoList.getTaskList()) {
+            for (Tag tag : task.getTags()) {
+                addToDictionary(tag, tagIndexes, tagNames);
+            }
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(tagNames.size());
+            for (String tagName : tagNames) {
+                writeString(out, tagName);
+            }
+            out.writeInt(todoList.getTagList().size());
+            for (Tag tag : todoList.getTagList()) {
+                out.writeInt(tagIndexes.get(tag.tagName));
+            }
+
+            out.writeInt(todoList.getTaskList().size());
+            ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+            DataOutputStream record = new DataOutputStream(recordBytes);
+            for (ReadOnlyTask task : todoList.getTaskList()) {
+                recordBytes.reset();
+                writeTask(record, task, tagIndexes);
+                out.writeInt(recordBytes.size());
+                recordBytes.writeTo(out);
+            }
+        }
+    }
+
+    private static void addToDictionary(Tag tag, Map<String, Integer> tagIndexes, List<String> tagNames) {
+        if (!tagIndexes.containsKey(tag.tagName)) {
+            tagIndexes.put(tag.tagName, tagNames.size());
+            tagNames.add(tag.tagName);
+        }
+    }
+
+    private static void writeTask(DataOutputStream out, ReadOnlyTask task, Map<String, Integer> tagIndexes)
+            throws IOException {
+        int flags = (task.getVenue().isPresent() ? HAS_VENUE : 0)
+                | (task.getStartTime().isPresent() ? HAS_START_TIME : 0)
+                | (task.getEndTime().isPresent() ? HAS_END_TIME : 0)
+                | (task.getUrgencyLevel().isPresent() ? HAS_URGENCY_LEVEL : 0)
+                | (task.getDescription().isPresent() ? HAS_DESCRIPTION : 0)
+                | (task.isTaskCompleted() ? IS_COMPLETED : 0);
+        out.writeByte(flags);
+        writeString(out, task.getTitle().toString());
+        if (task.getVenue().isPresent()) {
+            writeString(out, task.getVenue().get().toString());
+        }
+        if (task.getStartTime().isPresent()) {
+            writeTime(out, task.getStartTime().get());
+        }
+        if (task.getEndTime().isPresent()) {
+            writeTime(out, task.getEndTime().get());
+        }
+        if (task.getUrgencyLevel().isPresent()) {
+            writeString(out, task.getUrgencyLevel().get().toString());
+        }
+        if (task.getDescription().isPresent()) {
+            writeString(out, task.getDescription().get().toString());
+        }
+        UniqueTagList tags = task.getTags();
+        out.writeInt(tags.toSet().size());
+        for (Tag tag : tags) {
+            out.writeInt(tagIndexes.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Writes {@code time} as seconds since the epoch, taking the local date-time as if it were UTC,
+     * followed by the nanoseconds within that second.
+     */
+    private static void writeTime(DataOutputStream out, Time time) throws IOException {
+        out.writeLong(time.getEpochSecond());
+        out.writeInt(time.getNano());
+    }
+
+    /**
+     * Writes {@code value} as its length in UTF-8 bytes followed by the bytes.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, this has no limit on the length of the string.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ================ Reading ==============================
+
+    /**
+     * Returns the ToDoList in the file.
+     * The Tasks are not checked for duplicates; that is left to the {@link todolist.model.ToDoList}
+     * the data is copied into. Tasks share the Tag objects of the master tag list.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static ReadOnlyToDoList loadDataFromSaveFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        assert file != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try {
+            return readData(ByteBuffer.wrap(Files.readAllBytes(file.toPath())), false);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the ToDoList in the file, like {@link #loadDataFromSaveFile(File)}, except that the file is
+     * memory-mapped and completed tasks are left in it: they are {@link ArchivedTask}s that read their
+     * details from the mapped file when asked for them. Tasks that are not completed are read into memory.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format, or too large to be mapped.
+     */
+    public static ReadOnlyToDoList mapDataFromSaveFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        assert file != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be mapped: " + channel.size() + " bytes");
+            }
+            // The mapping stays valid after the channel is closed, for as long as the tasks need it
+            return readData(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()), true);
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the to-do list in {@code data}.
+     * If {@code isCompletedTaskMapped}, completed tasks are left in {@code data} in a {@link MappedTaskStore}.
+     */
+    private static ReadOnlyToDoList readData(ByteBuffer data, boolean isCompletedTaskMapped)
+            throws DataConversionException {
+        try {
+            if (data.getInt() != MAGIC) {
+                throw new IOException("Not a to-do list file");
+            }
+            int version = data.getInt();
+            if (version > FORMAT_VERSION) {
+                throw new IOException("Unsupported file format version " + version);
+            }
+
+            Tag[] dictionary = new Tag[readCount(data)];
+            for (int i = 0; i < dictionary.length; i++) {
+                dictionary[i] = new Tag(readString(data));
+            }
+            List<Tag> tags = new ArrayList<>();
+            Set<Tag> tagsRead = new HashSet<>();
+            int tagCount = readCount(data);
+            for (int i = 0; i < tagCount; i++) {
+                Tag tag = dictionary[readCount(data)];
+                if (tagsRead.add(tag)) {
+                    tags.add(tag);
+                }
+            }
+
+            int taskCount = readCount(data);
+            List<ReadOnlyTask> tasks = new ArrayList<>(taskCount);
+            MappedTaskStore store = isCompletedTaskMapped ? new MappedTaskStore(data, dictionary) : null;
+            for (int i = 0; i < taskCount; i++) {
+                int recordLength = readCount(data);
+                if (recordLength > data.remaining()) {
+                    throw new EOFException("Task record runs past the end of the file");
+                }
+                int recordOffset = data.position();
+                ByteBuffer record = data.duplicate();
+                record.limit(recordOffset + recordLength);
+                data.position(recordOffset + recordLength);
+
+                Task task = readTask(record, dictionary);
+                // A mapped task is read here only to check it; afterwards it is read from the file again as needed
+                tasks.add(store != null && task.isTaskCompleted() ? store.add(recordOffset, task) : task);
+            }
+            return new LoadedToDoList(tasks, tags);
+        } catch (IOException | IllegalValueException | BufferUnderflowException
+                | ArrayIndexOutOfBoundsException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads one task record. Anything left in {@code record} after the known fields is ignored.
+     */
+    static Task readTask(ByteBuffer record, Tag[] dictionary) throws IOException, IllegalValueException {
+        int flags = record.get();
+        Title title = new Title(readString(record));
+        Venue venue = (flags & HAS_VENUE) == 0 ? null : new Venue(readString(record));
+        StartTime startTime = (flags & HAS_START_TIME) == 0 ? null : new StartTime(record.getLong(), record.getInt());
+        EndTime endTime = (flags & HAS_END_TIME) == 0 ? null : new EndTime(record.getLong(), record.getInt());
+        UrgencyLevel urgencyLevel = (flags & HAS_URGENCY_LEVEL) == 0 ? null : new UrgencyLevel(readString(record));
+        Description description = (flags & HAS_DESCRIPTION) == 0 ? null : new Description(readString(record));
+        return new Task(title, venue, startTime, endTime, urgencyLevel, description,
+                readTags(record, dictionary), (flags & IS_COMPLETED) != 0);
+    }
+
+    static UniqueTagList readTags(ByteBuffer record, Tag[] dictionary) throws IOException {
+        int tagCount = readCount(record);
+        Set<Tag> taskTags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            taskTags.add(dictionary[readCount(record)]);
+        }
+        return new UniqueTagList(taskTags);
+    }
+
+    /**
+     * Reads a count or an index, which can never exceed the size of the data it is read from.
+     */
+    static int readCount(ByteBuffer data) throws IOException {
+        int count = data.getInt();
+        if (count < 0 || count > data.limit()) {
+            throw new IOException("Invalid count or index " + count);
+        }
+        return count;
+    }
+
+    static String readString(ByteBuffer data) throws IOException {
+        int length = readCount(data);
+        if (length > data.remaining()) {
+            throw new EOFException("String runs past the end of the data");
+        }
+        byte[] bytes = new byte[length];
+        data.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The to-do list data read from a file.
+     */
+    private static class LoadedToDoList implements ReadOnlyToDoList {
+
+        private final List<ReadOnlyTask> tasks;
+        private final List<Tag> tags;
+
+        LoadedToDoList(List<ReadOnlyTask> tasks, List<Tag> tags) {
+            this.tasks = Collections.unmodifiableList(tasks);
+            this.tags = Collections.unmodifiableList(tags);
+        }
+
+        @Override
+        public List<ReadOnlyTask> getTaskList() {
+            return tasks;
+        }
+
+        @Override
+        public List<Tag> getTagList() {
+            return tags;
+        }
+    }
+
+}
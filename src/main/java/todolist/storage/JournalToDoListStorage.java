@@ -0,0 +1,488 @@
+package todolist.storage;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import todolist.commons.core.LogsCenter;
+import todolist.commons.events.model.TaskChange;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.commons.exceptions.IllegalValueException;
+import todolist.commons.util.FileUtil;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.ToDoListSnapshot;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UniqueTaskList;
+import todolist.model.task.UrgencyLevel;
+import todolist.model.task.Venue;
+
+/**
+ * A class to access ToDoList data stored as an xml snapshot plus an append-only journal of changes.
+ *
+ * Each {@link #saveToDoListChanges(ReadOnlyToDoList, List)} appends one line per change to the journal,
+ * so its cost depends only on the number of changes. Once the journal grows past a threshold, it is
+ * compacted in the background into a new snapshot. Reading loads the snapshot and replays the journal.
+ *
+ * Every change is numbered, and each snapshot records the number of the last change it holds, so that
+ * a journal left behind by a compaction or full save that did not finish is replayed exactly: changes already
+ * in the snapshot are skipped, and every other change must apply to the list as replayed so far.
+ */
+public class JournalToDoListStorage implements ToDoListStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JournalToDoListStorage.class);
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_FILE_SUFFIX = ".journal.compacting";
+    private static final String SNAPSHOT_TEMP_FILE_SUFFIX = ".tmp";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+
+    private static final char FIELD_SEPARATOR = '\t';
+    private static final char ESCAPE = '\\';
+    private static final String TAG_SEPARATOR = " ";
+    private static final int FIELDS_PER_TASK = 8;
+    private static final int FIELDS_BEFORE_TASK = 3;
+    private static final long UNKNOWN_SEQUENCE = -1;
+
+    private final String filePath;
+    private final int compactionThreshold;
+    private final XmlToDoListStorage snapshotStorage;
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todolist-journal-compactor");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private int changesSinceSnapshot;
+    private Future<?> pendingCompaction;
+    /** The number of the last change journalled, or {@link #UNKNOWN_SEQUENCE} until the files are read. */
+    private long lastSequence = UNKNOWN_SEQUENCE;
+
+    public JournalToDoListStorage(String filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    public JournalToDoListStorage(String filePath, int compactionThreshold) {
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.snapshotStorage = new XmlToDoListStorage(filePath);
+    }
+
+    @Override
+    public String getToDoListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList() throws DataConversionException, IOException {
+        return readToDoList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readToDoList()}
+     * @param filePath location of the snapshot. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format,
+     *     or a journalled change does not apply to the list it was replayed onto.
+     */
+    @Override
+    public Optional<ReadOnlyToDoList> readToDoList(String filePath) throws DataConversionException, IOException {
+        assert filePath != null;
+        awaitCompaction();
+
+        File compactingFile = new File(filePath + COMPACTING_FILE_SUFFIX);
+        File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+        Optional<ReadOnlyToDoList> snapshot = snapshotStorage.readToDoList(filePath);
+        if (!snapshot.isPresent() && !compactingFile.exists() && !journalFile.exists()) {
+            if (filePath.equals(this.filePath)) {
+                lastSequence = 0;
+            }
+            return Optional.empty();
+        }
+
+        ToDoList todoList = new ToDoList(snapshot.orElseGet(ToDoList::new));
+        long snapshotSequence = snapshot.isPresent()
+                ? XmlStreamFileStorage.readJournalSequence(new File(filePath)) : 0;
+        Replay replay = new Replay(todoList, snapshotSequence);
+        replay.replay(compactingFile);
+        replay.replay(journalFile);
+        logger.info("Replayed " + replay.appliedCount + " journalled changes onto " + filePath);
+        if (filePath.equals(this.filePath)) {
+            lastSequence = replay.lastSequence;
+        }
+        return Optional.of(todoList);
+    }
+
+    @Override
+    public void saveToDoList(ReadOnlyToDoList todoList) throws IOException {
+        saveToDoList(todoList, filePath);
+    }
+
+    /**
+     * Writes a full snapshot of {@code todoList} to {@code filePath} and discards its journal.
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    @Override
+    public void saveToDoList(ReadOnlyToDoList todoList, String filePath) throws IOException {
+        assert todoList != null;
+        assert filePath != null;
+        awaitCompaction();
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        long snapshotSequence = 0;
+        if (isOwnFile) {
+            try {
+                snapshotSequence = getLastSequence();
+            } catch (DataConversionException e) {
+                logger.warning("Journal of " + filePath + " cannot be read and is replaced by a full snapshot: " + e);
+            }
+        }
+        File snapshotFile = new File(filePath);
+        FileUtil.createIfMissing(snapshotFile);
+        // The snapshot holds every change journalled so far, which must not be replayed onto it again
+        XmlStreamFileStorage.saveDataToFile(snapshotFile, todoList, snapshotSequence);
+        Files.deleteIfExists(new File(filePath + COMPACTING_FILE_SUFFIX).toPath());
+        Files.deleteIfExists(new File(filePath + JOURNAL_FILE_SUFFIX).toPath());
+        if (isOwnFile) {
+            lastSequence = snapshotSequence;
+            changesSinceSnapshot = 0;
+        }
+    }
+
+    /**
+     * Appends {@code changes} to the journal, then starts a compaction if the journal has grown too long.
+     * If they cannot all be appended, a full snapshot is saved instead, as the journal may end partway through them.
+     */
+    @Override
+    public void saveToDoListChanges(ReadOnlyToDoList todoList, List<TaskChange> changes) throws IOException {
+        assert todoList != null;
+        assert changes != null;
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        long sequence;
+        try {
+            sequence = getLastSequence();
+        } catch (DataConversionException e) {
+            logger.warning("Journal of " + filePath + " cannot be read, saving a full snapshot instead: " + e);
+            saveToDoList(todoList);
+            return;
+        }
+        StringBuilder records = new StringBuilder();
+        for (TaskChange change : changes) {
+            records.append(encode(++sequence, change)).append('\n');
+        }
+        lastSequence = sequence;
+
+        File journalFile = new File(filePath + JOURNAL_FILE_SUFFIX);
+        try {
+            FileUtil.createIfMissing(journalFile);
+            try (Writer writer = Files.newBufferedWriter(journalFile.toPath(), StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND)) {
+                writer.write(records.toString());
+            }
+        } catch (IOException e) {
+            logger.warning("Failed to journal changes to " + filePath + ", saving a full snapshot instead: " + e);
+            saveToDoList(todoList);
+            return;
+        }
+
+        changesSinceSnapshot += changes.size();
+        if (changesSinceSnapshot >= compactionThreshold) {
+            startCompaction(todoList);
+        }
+    }
+
+    /**
+     * Moves the journal aside and writes a snapshot of {@code todoList} in the background.
+     * The snapshot content is captured on the calling thread, so the model may change while the snapshot is written.
+     */
+    private void startCompaction(ReadOnlyToDoList todoList) throws IOException {
+        if (pendingCompaction != null && !pendingCompaction.isDone()) {
+            return;
+        }
+        File compactingFile = new File(filePath + COMPACTING_FILE_SUFFIX);
+        if (compactingFile.exists()) {
+            logger.warning("Previous journal compaction of " + filePath + " did not complete; "
+                    + "it will be retried on the next full save");
+            return;
+        }
+
+        Files.move(new File(filePath + JOURNAL_FILE_SUFFIX).toPath(), compactingFile.toPath());
+        ReadOnlyToDoList snapshot = ToDoListSnapshot.of(todoList);
+        long snapshotSequence = lastSequence;
+        changesSinceSnapshot = 0;
+
+        pendingCompaction = compactor.submit(() -> {
+            try {
+                writeSnapshot(snapshot, snapshotSequence);
+                Files.delete(compactingFile.toPath());
+                logger.fine("Compacted journal of " + filePath);
+            } catch (IOException e) {
+                logger.warning("Failed to compact journal of " + filePath + ": " + e);
+            }
+        });
+    }
+
+    private void writeSnapshot(ReadOnlyToDoList snapshot, long snapshotSequence) throws IOException {
+        File snapshotFile = new File(filePath);
+        File tempFile = new File(filePath + SNAPSHOT_TEMP_FILE_SUFFIX);
+        FileUtil.createIfMissing(tempFile);
+        XmlStreamFileStorage.saveDataToFile(tempFile, snapshot, snapshotSequence);
+        Files.move(tempFile.toPath(), snapshotFile.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Blocks until any compaction in progress has finished.
+     */
+    public void awaitCompaction() {
+        if (pendingCompaction == null) {
+            return;
+        }
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warning("Journal compaction failed: " + e.getCause());
+        }
+    }
+
+    // ================ Journal replay ==============================
+
+    /**
+     * Returns the number of the last change journalled, reading it from the files the first time.
+     */
+    private long getLastSequence() throws DataConversionException, IOException {
+        if (lastSequence == UNKNOWN_SEQUENCE) {
+            readToDoList();
+            assert lastSequence != UNKNOWN_SEQUENCE;
+        }
+        return lastSequence;
+    }
+
+    /**
+     * Replays journalled changes onto a to-do list read from a snapshot.
+     */
+    private static class Replay {
+        private final ToDoList todoList;
+        private final long snapshotSequence;
+        private long lastSequence;
+        private int appliedCount;
+
+        Replay(ToDoList todoList, long snapshotSequence) {
+            this.todoList = todoList;
+            this.snapshotSequence = snapshotSequence;
+            this.lastSequence = snapshotSequence;
+        }
+
+        /**
+         * Applies the changes recorded in {@code journalFile} that the snapshot does not hold yet, in order.
+         * @throws DataConversionException if a change is not the one after the last change applied,
+         *     or does not apply to the to-do list.
+         */
+        void replay(File journalFile) throws DataConversionException, IOException {
+            if (!journalFile.exists()) {
+                return;
+            }
+            try (BufferedReader reader = Files.newBufferedReader(journalFile.toPath(), StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty()) {
+                        replayRecord(line);
+                    }
+                }
+            }
+        }
+
+        private void replayRecord(String line) throws DataConversionException {
+            List<String> fields = splitFields(line);
+            long sequence;
+            try {
+                sequence = Long.parseLong(fields.get(0));
+            } catch (NumberFormatException e) {
+                throw new DataConversionException(e);
+            }
+            if (sequence <= snapshotSequence) {
+                return;
+            }
+            if (sequence != lastSequence + 1) {
+                throw new DataConversionException(new IllegalStateException(
+                        "Journalled change " + sequence + " does not follow change " + lastSequence));
+            }
+            apply(todoList, fields);
+            lastSequence = sequence;
+            appliedCount++;
+        }
+    }
+
+    private static void apply(ToDoList todoList, List<String> fields) throws DataConversionException {
+        try {
+            TaskChange.Kind kind = TaskChange.Kind.valueOf(fields.get(1));
+            int position = Integer.parseInt(fields.get(2));
+            switch (kind) {
+            case ADDED:
+                Task added = decodeTask(fields, FIELDS_BEFORE_TASK);
+                if (position < 0) {
+                    todoList.addTask(added);
+                } else {
+                    todoList.addTask(position, added);
+                }
+                break;
+            case REMOVED:
+                todoList.removeTask(decodeTask(fields, FIELDS_BEFORE_TASK));
+                break;
+            case UPDATED:
+                Task before = decodeTask(fields, FIELDS_BEFORE_TASK);
+                todoList.getTask(before);
+                todoList.updateTask(before, decodeTask(fields, FIELDS_BEFORE_TASK + FIELDS_PER_TASK));
+                break;
+            case COMPLETED:
+                Task after = decodeTask(fields, FIELDS_BEFORE_TASK);
+                if (todoList.getTask(after).isTaskCompleted().equals(after.isTaskCompleted())) {
+                    throw new IllegalStateException("Task is already " + (after.isTaskCompleted() ? "" : "not ")
+                            + "completed: " + after.getTitleFormattedString());
+                }
+                todoList.completeTask(after);
+                break;
+            default:
+                assert false : "Unknown change kind " + kind;
+            }
+        } catch (UniqueTaskList.TaskNotFoundException | IllegalValueException | IllegalArgumentException
+                | IllegalStateException | IndexOutOfBoundsException e) {
+            // a DuplicateTaskException is an IllegalValueException too
+            throw new DataConversionException(e);
+        }
+    }
+
+    // ================ Record format ==============================
+
+    /**
+     * Encodes {@code change} as a single line of tab-separated fields: the number of the change, its kind
+     * and the position of its task in the to-do list, followed by the fields of each task involved.
+     */
+    static String encode(long sequence, TaskChange change) {
+        StringBuilder sb = new StringBuilder(Long.toString(sequence));
+        sb.append(FIELD_SEPARATOR).append(change.kind.name());
+        sb.append(FIELD_SEPARATOR).append(change.position);
+        if (change.before != null) {
+            appendTask(sb, change.before);
+        }
+        if (change.after != null) {
+            appendTask(sb, change.after);
+        }
+        return sb.toString();
+    }
+
+    private static void appendTask(StringBuilder sb, ReadOnlyTask task) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : task.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        appendField(sb, task.getTitle().toString());
+        appendField(sb, task.getVenue().map(Venue::toString).orElse(""));
+        appendField(sb, task.getStartTime().map(StartTime::toString).orElse(""));
+        appendField(sb, task.getEndTime().map(EndTime::toString).orElse(""));
+        appendField(sb, task.getUrgencyLevel().map(UrgencyLevel::toString).orElse(""));
+        appendField(sb, task.getDescription().map(Description::toString).orElse(""));
+        appendField(sb, task.getIsCompletedToString());
+        appendField(sb, String.join(TAG_SEPARATOR, tagNames));
+    }
+
+    private static void appendField(StringBuilder sb, String value) {
+        sb.append(FIELD_SEPARATOR);
+        for (char c : value.toCharArray()) {
+            switch (c) {
+            case ESCAPE:
+                sb.append(ESCAPE).append(ESCAPE);
+                break;
+            case FIELD_SEPARATOR:
+                sb.append(ESCAPE).append('t');
+                break;
+            case '\n':
+                sb.append(ESCAPE).append('n');
+                break;
+            case '\r':
+                sb.append(ESCAPE).append('r');
+                break;
+            default:
+                sb.append(c);
+            }
+        }
+    }
+
+    private static List<String> splitFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == FIELD_SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == ESCAPE && i + 1 < line.length()) {
+                field.append(unescape(line.charAt(++i)));
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static char unescape(char escaped) {
+        switch (escaped) {
+        case 't':
+            return FIELD_SEPARATOR;
+        case 'n':
+            return '\n';
+        case 'r':
+            return '\r';
+        default:
+            return escaped;
+        }
+    }
+
+    private static Task decodeTask(List<String> fields, int offset) throws IllegalValueException {
+        final List<Tag> tags = new ArrayList<>();
+        String tagField = fields.get(offset + 7);
+        if (!tagField.isEmpty()) {
+            for (String tagName : tagField.split(TAG_SEPARATOR)) {
+                tags.add(new Tag(tagName));
+            }
+        }
+        final Title title = new Title(fields.get(offset));
+        final Venue venue = fields.get(offset + 1).isEmpty() ? null : new Venue(fields.get(offset + 1));
+        final StartTime startTime = fields.get(offset + 2).isEmpty() ? null : new StartTime(fields.get(offset + 2));
+        final EndTime endTime = fields.get(offset + 3).isEmpty() ? null : new EndTime(fields.get(offset + 3));
+        final UrgencyLevel urgencyLevel = fields.get(offset + 4).isEmpty()
+                ? null : new UrgencyLevel(fields.get(offset + 4));
+        final Description description = fields.get(offset + 5).isEmpty()
+                ? null : new Description(fields.get(offset + 5));
+        final boolean isCompleted = Boolean.parseBoolean(fields.get(offset + 6));
+        return new Task(title, venue, startTime, endTime, urgencyLevel, description, new UniqueTagList(tags),
+                isCompleted);
+    }
+
+}
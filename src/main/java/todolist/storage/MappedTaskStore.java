@@ -0,0 +1,220 @@
+package todolist.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+
+import todolist.commons.exceptions.IllegalValueException;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.ArchivedTask;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UrgencyLevel;
+import todolist.model.task.Venue;
+
+/**
+ * Completed tasks left in the memory-mapped data of a binary to-do list file.
+ *
+ * The store keeps the offset of each task record in the data, and hands out {@link ArchivedTask}s that are
+ * flyweights over those records: each holds its position in the store, its title, which sorting compares often,
+ * and its state hash code, but reads every other detail from the mapped data each time it is asked for it.
+ * Records are checked when they are added, so reading them again later cannot fail.
+ *
+ * @see BinaryToDoListStorage#mapDataFromSaveFile(java.io.File)
+ */
+class MappedTaskStore {
+
+    private static final int[] OPTIONAL_FIELDS = {BinaryToDoListStorage.HAS_VENUE,
+        BinaryToDoListStorage.HAS_START_TIME, BinaryToDoListStorage.HAS_END_TIME,
+        BinaryToDoListStorage.HAS_URGENCY_LEVEL, BinaryToDoListStorage.HAS_DESCRIPTION};
+    private static final int TAGS = 0;
+
+    private final ByteBuffer data;
+    private final Tag[] dictionary;
+    private int[] recordOffsets = new int[16];
+    private int size;
+
+    MappedTaskStore(ByteBuffer data, Tag[] dictionary) {
+        // A private view, whose position is never moved, so that tasks can be read from any thread
+        this.data = data.duplicate();
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Adds the record at {@code recordOffset} in the data to the store.
+     * @param task the record, already read and so checked
+     * @return the flyweight for the record
+     */
+    ArchivedTask add(int recordOffset, Task task) {
+        assert task.isTaskCompleted();
+        if (size == recordOffsets.length) {
+            recordOffsets = Arrays.copyOf(recordOffsets, size * 2);
+        }
+        recordOffsets[size] = recordOffset;
+        return new MappedTask(this, size++, task.getTitle(), task.stateHashCode());
+    }
+
+    /**
+     * Returns a view of the record of the task at {@code index}, positioned at {@code field},
+     * one of the optional field flags of {@link BinaryToDoListStorage} or {@link #TAGS},
+     * or {@code null} if the task does not have that field.
+     */
+    private ByteBuffer seek(int index, int field) {
+        ByteBuffer record = data.duplicate();
+        record.position(recordOffsets[index]);
+        int flags = record.get();
+        skipString(record); // title
+        for (int optionalField : OPTIONAL_FIELDS) {
+            boolean isPresent = (flags & optionalField) != 0;
+            if (optionalField == field) {
+                return isPresent ? record : null;
+            }
+            if (isPresent) {
+                skip(record, optionalField);
+            }
+        }
+        return record;
+    }
+
+    private static void skip(ByteBuffer record, int field) {
+        if (field == BinaryToDoListStorage.HAS_START_TIME || field == BinaryToDoListStorage.HAS_END_TIME) {
+            record.position(record.position() + BinaryToDoListStorage.TIME_BYTES);
+        } else {
+            skipString(record);
+        }
+    }
+
+    private static void skipString(ByteBuffer record) {
+        int length = record.getInt();
+        record.position(record.position() + length);
+    }
+
+    private String readString(int index, int field) {
+        ByteBuffer record = seek(index, field);
+        try {
+            return record == null ? null : BinaryToDoListStorage.readString(record);
+        } catch (IOException e) {
+            throw recordChanged(e);
+        }
+    }
+
+    private static IllegalStateException recordChanged(Exception e) {
+        return new IllegalStateException("Task record changed after it was checked", e);
+    }
+
+    /**
+     * A completed task read from the store when its details are needed.
+     */
+    private static class MappedTask implements ArchivedTask {
+
+        private final MappedTaskStore store;
+        private final int index;
+        private final Title title;
+        private final int stateHashCode;
+
+        MappedTask(MappedTaskStore store, int index, Title title, int stateHashCode) {
+            this.store = store;
+            this.index = index;
+            this.title = title;
+            this.stateHashCode = stateHashCode;
+        }
+
+        @Override
+        public Title getTitle() {
+            return title;
+        }
+
+        @Override
+        public Optional<Venue> getVenue() {
+            String venue = store.readString(index, BinaryToDoListStorage.HAS_VENUE);
+            try {
+                return venue == null ? Optional.empty() : Optional.of(new Venue(venue));
+            } catch (IllegalValueException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public Optional<StartTime> getStartTime() {
+            ByteBuffer record = store.seek(index, BinaryToDoListStorage.HAS_START_TIME);
+            try {
+                return record == null ? Optional.empty()
+                        : Optional.of(new StartTime(record.getLong(), record.getInt()));
+            } catch (IllegalValueException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public Optional<EndTime> getEndTime() {
+            ByteBuffer record = store.seek(index, BinaryToDoListStorage.HAS_END_TIME);
+            try {
+                return record == null ? Optional.empty()
+                        : Optional.of(new EndTime(record.getLong(), record.getInt()));
+            } catch (IllegalValueException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public Optional<UrgencyLevel> getUrgencyLevel() {
+            String urgencyLevel = store.readString(index, BinaryToDoListStorage.HAS_URGENCY_LEVEL);
+            try {
+                return urgencyLevel == null ? Optional.empty() : Optional.of(new UrgencyLevel(urgencyLevel));
+            } catch (IllegalValueException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public Optional<Description> getDescription() {
+            String description = store.readString(index, BinaryToDoListStorage.HAS_DESCRIPTION);
+            try {
+                return description == null ? Optional.empty() : Optional.of(new Description(description));
+            } catch (IllegalValueException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public UniqueTagList getTags() {
+            try {
+                return BinaryToDoListStorage.readTags(store.seek(index, TAGS), store.dictionary);
+            } catch (IOException e) {
+                throw recordChanged(e);
+            }
+        }
+
+        @Override
+        public int stateHashCode() {
+            return stateHashCode;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this // short circuit if same object
+                    || (other instanceof ReadOnlyTask // instanceof handles nulls
+                    && isSameStateAs((ReadOnlyTask) other));
+        }
+
+        @Override
+        public int hashCode() {
+            // the same as Task#hashCode(), as an equal Task must have the same hash code
+            return Objects.hash(getTitle(), getVenue().orElse(null), getEndTime().orElse(null),
+                    getDescription().orElse(null), getTagSet());
+        }
+
+        @Override
+        public String toString() {
+            return getAsText();
+        }
+    }
+
+}
@@ -1,8 +1,10 @@
 package todolist.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
+import todolist.commons.events.model.TaskChange;
 import todolist.commons.events.model.ToDoListChangedEvent;
 import todolist.commons.events.storage.DataSavingExceptionEvent;
 import todolist.commons.events.storage.DirectoryChangedEvent;
@@ -30,13 +32,22 @@ public interface Storage extends ToDoListStorage, UserPrefsStorage {
     @Override
     void saveToDoList(ReadOnlyToDoList toDoList) throws IOException;
 
+    @Override
+    void saveToDoListChanges(ReadOnlyToDoList toDoList, List<TaskChange> changes) throws IOException;
+
     /**
      * Saves the current version of the Address Book to the hard disk.
      *   Creates the data file if it is missing.
+     *   The save may happen later, on another thread, together with other changes.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleToDoListChangedEvent(ToDoListChangedEvent abce);
 
+    /**
+     * Saves any changes that are still waiting to be saved, and returns once they are written.
+     */
+    void flush();
+
     //@@author A0110791M
     /**
      * Attempts to change the present working directory to what the user specifies
@@ -1,39 +1,158 @@
 package todolist.storage;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
 import todolist.commons.core.ComponentManager;
 import todolist.commons.core.Config;
+import todolist.commons.core.EventsCenter;
 import todolist.commons.core.LogsCenter;
+import todolist.commons.events.model.TaskChange;
 import todolist.commons.events.model.ToDoListChangedEvent;
 import todolist.commons.events.storage.DataSavingExceptionEvent;
 import todolist.commons.events.storage.DirectoryChangedEvent;
+import todolist.commons.events.ui.ExitAppRequestEvent;
 import todolist.commons.exceptions.DataConversionException;
 import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoListSnapshot;
 import todolist.model.UserPrefs;
 
 /**
  * Manages storage of ToDoList data in local storage.
+ *
+ * Changes to the ToDoList are saved on a background thread. A change is held back for a short window
+ * so that a burst of changes, such as deleting many tasks at once, is saved in a single write.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
-    private ToDoListStorage todoListStorage;
+    private static final long SAVE_THREAD_KEEP_ALIVE_SECONDS = 10;
+    public static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    private volatile ToDoListStorage todoListStorage;
     private UserPrefsStorage userPrefsStorage;
+    private final String storageFormat;
+    private final long saveWindowMillis;
+    private final long saveMaxLatencyMillis;
+
+    private final ScheduledThreadPoolExecutor saveExecutor;
+    private final Object pendingSaveLock = new Object();
+    // The fields below are guarded by pendingSaveLock
+    private ReadOnlyToDoList pendingToDoList;
+    private List<TaskChange> pendingChanges;
+    private boolean isFullSavePending;
+    private long pendingSinceNanos;
+    private ScheduledFuture<?> scheduledSave;
 
 
     public StorageManager(ToDoListStorage todoListStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        this(todoListStorage, userPrefsStorage, new Config());
+    }
+
+    public StorageManager(String todoListFilePath, String userPrefsFilePath) {
+        this(todoListFilePath, userPrefsFilePath, new Config());
+    }
+
+    public StorageManager(String todoListFilePath, String userPrefsFilePath, Config config) {
+        this(createToDoListStorage(config.getStorageFormat(), todoListFilePath),
+                new JsonUserPrefsStorage(userPrefsFilePath), config);
+        migrateToDoList(config.getStorageFormat(), todoListFilePath);
+    }
+
+    private StorageManager(ToDoListStorage todoListStorage, UserPrefsStorage userPrefsStorage, Config config) {
+        super(EventsCenter.Lane.STORAGE);
         this.todoListStorage = todoListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.storageFormat = config.getStorageFormat();
+        this.saveWindowMillis = Math.max(0, config.getSaveWindowMillis());
+        this.saveMaxLatencyMillis = Math.max(saveWindowMillis, config.getSaveMaxLatencyMillis());
+        this.saveExecutor = new ScheduledThreadPoolExecutor(1, runnable -> {
+            Thread thread = new Thread(runnable, "ToDoList saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+        saveExecutor.setKeepAliveTime(SAVE_THREAD_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS);
+        saveExecutor.allowCoreThreadTimeOut(true);
+        saveExecutor.setRemoveOnCancelPolicy(true);
     }
 
-    public StorageManager(String todoListFilePath, String userPrefsFilePath) {
-        this(new XmlToDoListStorage(todoListFilePath), new JsonUserPrefsStorage(userPrefsFilePath));
+    /**
+     * Returns the {@link ToDoListStorage} for {@code storageFormat}, one of the {@code Config.STORAGE_FORMAT_*} values.
+     * Unknown formats fall back to xml. The binary format keeps its data next to {@code filePath},
+     * in the file named by {@link BinaryToDoListStorage#toBinaryFilePath(String)}. The mapped format is
+     * the binary format, with completed tasks left in the memory-mapped file when it is read.
+     */
+    public static ToDoListStorage createToDoListStorage(String storageFormat, String filePath) {
+        if (Config.STORAGE_FORMAT_JOURNAL.equals(storageFormat)) {
+            return new JournalToDoListStorage(filePath);
+        }
+        if (isBinaryFormat(storageFormat)) {
+            return new BinaryToDoListStorage(BinaryToDoListStorage.toBinaryFilePath(filePath),
+                    Config.STORAGE_FORMAT_MAPPED.equals(storageFormat));
+        }
+        return new XmlToDoListStorage(filePath);
+    }
+
+    /**
+     * Converts the to-do list at {@code filePath} to {@code storageFormat} if it is only found in the other format,
+     * i.e. the xml file (and its journal) when switching to binary, or the binary file when switching back.
+     * The files converted from are kept with a {@value #BACKUP_FILE_SUFFIX} suffix, so that data left in the
+     * old format cannot be picked up again the next time the format is switched.
+     */
+    public static void migrateToDoList(String storageFormat, String filePath) {
+        boolean isBinary = isBinaryFormat(storageFormat);
+        String binaryFilePath = BinaryToDoListStorage.toBinaryFilePath(filePath);
+        List<File> xmlFiles = new ArrayList<>();
+        for (String suffix : new String[] {"", JournalToDoListStorage.JOURNAL_FILE_SUFFIX,
+            JournalToDoListStorage.COMPACTING_FILE_SUFFIX}) {
+            File file = new File(filePath + suffix);
+            if (file.exists()) {
+                xmlFiles.add(file);
+            }
+        }
+        boolean hasXmlData = !xmlFiles.isEmpty();
+        boolean hasBinaryData = new File(binaryFilePath).exists();
+        boolean isMigrationNeeded = isBinary ? hasXmlData && !hasBinaryData : hasBinaryData && !hasXmlData;
+        if (!isMigrationNeeded) {
+            return;
+        }
+
+        ToDoListStorage from = createToDoListStorage(isBinary ? Config.STORAGE_FORMAT_JOURNAL
+                : Config.STORAGE_FORMAT_BINARY, filePath);
+        ToDoListStorage to = createToDoListStorage(storageFormat, filePath);
+        try {
+            Optional<ReadOnlyToDoList> todoList = from.readToDoList();
+            if (todoList.isPresent()) {
+                to.saveToDoList(todoList.get());
+            }
+            for (File file : isBinary ? xmlFiles : Collections.singletonList(new File(binaryFilePath))) {
+                Files.move(file.toPath(), new File(file.getPath() + BACKUP_FILE_SUFFIX).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("Migrated to-do list from " + from.getToDoListFilePath() + " to "
+                    + to.getToDoListFilePath());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to migrate to-do list from " + from.getToDoListFilePath() + " to "
+                    + to.getToDoListFilePath() + ": " + e);
+        }
+    }
+
+    private static boolean isBinaryFormat(String storageFormat) {
+        return Config.STORAGE_FORMAT_BINARY.equals(storageFormat) || Config.STORAGE_FORMAT_MAPPED.equals(storageFormat);
     }
 
     // ================ UserPrefs methods ==============================
@@ -78,12 +197,95 @@ public class StorageManager extends ComponentManager implements Storage {
         todoListStorage.saveToDoList(todoList, filePath);
     }
 
+    @Override
+    public void saveToDoListChanges(ReadOnlyToDoList todoList, List<TaskChange> changes) throws IOException {
+        logger.fine("Attempting to write " + changes.size() + " changes to data file: " + getToDoListFilePath());
+        todoListStorage.saveToDoListChanges(todoList, changes);
+    }
+
     @Override
     @Subscribe
     public void handleToDoListChangedEvent(ToDoListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        // Events raised by the model carry a snapshot already; any other is copied so that no save reads a live model
+        ReadOnlyToDoList snapshot = ToDoListSnapshot.of(event.data);
+        if (saveWindowMillis == 0) {
+            saveNow(snapshot, event.changes, !event.isIncremental());
+            return;
+        }
+        synchronized (pendingSaveLock) {
+            if (pendingToDoList == null) {
+                pendingSinceNanos = System.nanoTime();
+                pendingChanges = new ArrayList<>();
+                isFullSavePending = false;
+            }
+            pendingToDoList = snapshot;
+            if (event.isIncremental()) {
+                pendingChanges.addAll(event.changes);
+            } else {
+                isFullSavePending = true;
+            }
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+            }
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pendingSinceNanos);
+            long delayMillis = Math.max(0, Math.min(saveWindowMillis, saveMaxLatencyMillis - waitedMillis));
+            scheduledSave = saveExecutor.schedule(this::savePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @Override
+    public void flush() {
+        synchronized (pendingSaveLock) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+        // Runs on the save thread so that it also waits for any save already in progress
+        Future<?> save = saveExecutor.submit(this::savePending);
+        try {
+            save.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while saving pending changes");
+        } catch (ExecutionException e) {
+            logger.severe("Failed to save pending changes " + e.getCause());
+        }
+    }
+
+    @Subscribe
+    public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Saving pending changes before exit"));
+        flush();
+    }
+
+    /** Writes out the changes collected since the last save, if any. Called on the save thread. */
+    private void savePending() {
+        ReadOnlyToDoList toDoList;
+        List<TaskChange> changes;
+        boolean isFullSave;
+        synchronized (pendingSaveLock) {
+            if (pendingToDoList == null) {
+                return;
+            }
+            toDoList = pendingToDoList;
+            changes = pendingChanges;
+            isFullSave = isFullSavePending;
+            pendingToDoList = null;
+            pendingChanges = null;
+            scheduledSave = null;
+        }
+        saveNow(toDoList, changes, isFullSave);
+    }
+
+    private void saveNow(ReadOnlyToDoList toDoList, List<TaskChange> changes, boolean isFullSave) {
         try {
-            saveToDoList(event.data);
+            if (isFullSave) {
+                saveToDoList(toDoList);
+            } else {
+                saveToDoListChanges(toDoList, changes);
+            }
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
@@ -95,8 +297,9 @@ public class StorageManager extends ComponentManager implements Storage {
     @Subscribe
     public void handleDirectoryChangedEvent(DirectoryChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Attempting to change directory."));
+        flush(); // pending changes belong to the old file
         String filePath = event.targetDirectory;
-        todoListStorage = new XmlToDoListStorage(filePath);
+        todoListStorage = createToDoListStorage(storageFormat, filePath);
         Config.setToDoListFilePath(filePath);
     }
 
@@ -1,8 +1,10 @@
 package todolist.storage;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Optional;
 
+import todolist.commons.events.model.TaskChange;
 import todolist.commons.exceptions.DataConversionException;
 import todolist.model.ReadOnlyToDoList;
 
@@ -41,4 +43,13 @@ public interface ToDoListStorage {
      */
     void saveToDoList(ReadOnlyToDoList todoList, String filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyToDoList}, which differs from what was last saved by exactly {@code changes}.
+     * Implementations may choose to persist only the changes. By default, the whole list is saved.
+     * @see #saveToDoList(ReadOnlyToDoList)
+     */
+    default void saveToDoListChanges(ReadOnlyToDoList todoList, List<TaskChange> changes) throws IOException {
+        saveToDoList(todoList);
+    }
+
 }
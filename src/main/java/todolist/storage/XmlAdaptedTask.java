@@ -77,11 +77,11 @@ public class XmlAdaptedTask {
             taskTags.add(tag.toModelType());
         }
         final Title title = new Title(this.title);
-        final Venue venue = this.venue == "" ? null : new Venue(this.venue);
+        final Venue venue = this.venue.isEmpty() ? null : new Venue(this.venue);
         final StartTime startTime = !this.startTime.isEmpty() ? new StartTime(this.startTime) : null;
         final EndTime endTime = !this.endTime.isEmpty() ? new EndTime(this.endTime) : null;
-        final UrgencyLevel urgencyLevel = this.urgencyLevel != "" ? new UrgencyLevel(this.urgencyLevel) : null;
-        final Description description = this.description != "" ? new Description(this.description) : null;
+        final UrgencyLevel urgencyLevel = !this.urgencyLevel.isEmpty() ? new UrgencyLevel(this.urgencyLevel) : null;
+        final Description description = !this.description.isEmpty() ? new Description(this.description) : null;
         final boolean isCompleted = this.isCompleted.contains("true") ? true : false;
         final UniqueTagList tags = new UniqueTagList(taskTags);
         return new Task(title, venue, startTime, endTime, urgencyLevel, description, tags, isCompleted);
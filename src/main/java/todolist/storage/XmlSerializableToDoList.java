@@ -1,6 +1,7 @@
 package todolist.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -8,10 +9,7 @@ import java.util.stream.Collectors;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
-import javafx.collections.FXCollections;
-import javafx.collections.ObservableList;
 import todolist.commons.core.LogsCenter;
-import todolist.commons.core.UnmodifiableObservableList;
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.model.ReadOnlyToDoList;
 import todolist.model.tag.Tag;
@@ -50,8 +48,8 @@ public class XmlSerializableToDoList implements ReadOnlyToDoList {
     }
     //@@author A0122017Y
     @Override
-    public ObservableList<ReadOnlyTask> getTaskList() {
-        final ObservableList<Task> tasks = this.tasks.stream().map(p -> {
+    public List<ReadOnlyTask> getTaskList() {
+        final List<Task> tasks = this.tasks.stream().map(p -> {
             try {
                 return p.toModelType();
             } catch (IllegalValueException e) {
@@ -59,14 +57,14 @@ public class XmlSerializableToDoList implements ReadOnlyToDoList {
                 logger.info("Task format invalid.");
                 return null;
             }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(tasks);
+        }).collect(Collectors.toList());
+        return Collections.unmodifiableList(tasks);
     }
     //@@
 
     @Override
-    public ObservableList<Tag> getTagList() {
-        final ObservableList<Tag> tags = this.tags.stream().map(t -> {
+    public List<Tag> getTagList() {
+        final List<Tag> tags = this.tags.stream().map(t -> {
             try {
                 return t.toModelType();
             } catch (IllegalValueException e) {
@@ -74,8 +72,8 @@ public class XmlSerializableToDoList implements ReadOnlyToDoList {
                 //TODO: better error handling
                 return null;
             }
-        }).collect(Collectors.toCollection(FXCollections::observableArrayList));
-        return new UnmodifiableObservableList<>(tags);
+        }).collect(Collectors.toList());
+        return Collections.unmodifiableList(tags);
     }
 
 }
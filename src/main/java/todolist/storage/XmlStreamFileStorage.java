@@ -0,0 +1,376 @@
+package todolist.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+
+import todolist.commons.core.LogsCenter;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.commons.exceptions.IllegalValueException;
+import todolist.commons.util.FileUtil;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UrgencyLevel;
+import todolist.model.task.Venue;
+
+/**
+ * Stores ToDoList data in an XML file, streaming it to and from the file with StAX.
+ *
+ * The file format is the one JAXB writes for {@link XmlSerializableToDoList}, byte for byte,
+ * but no intermediate {@link XmlAdaptedTask} objects are created:
+ * tasks are read straight into model Tasks and written straight from the to-do list.
+ */
+public class XmlStreamFileStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlStreamFileStorage.class);
+
+    private static final String XML_DECLARATION = "<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n";
+    private static final String ROOT_ELEMENT = "ToDoList";
+    private static final String TASK_ELEMENT = "tasks";
+    private static final String TAG_ELEMENT = "tags";
+    private static final String TASK_TAG_ELEMENT = "tagged";
+    private static final String JOURNAL_SEQUENCE_ATTRIBUTE = "journalSequence";
+    private static final String TASK_INDENT = "\n    ";
+    private static final String FIELD_INDENT = "\n        ";
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+    private static final XMLOutputFactory outputFactory = XMLOutputFactory.newInstance();
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Saves the given ToDoList data to the specified file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyToDoList todoList) throws IOException {
+        saveDataToFile(file, todoList, 0);
+    }
+
+    /**
+     * Saves the given ToDoList data to the specified file, as {@link #saveDataToFile(File, ReadOnlyToDoList)} does,
+     * recording on the root element that it holds every journalled change up to {@code journalSequence}.
+     * Nothing is recorded if {@code journalSequence} is 0. JAXB ignores the extra attribute when reading the file.
+     */
+    public static void saveDataToFile(File file, ReadOnlyToDoList todoList, long journalSequence)
+            throws IOException {
+        assert file != null;
+        assert todoList != null;
+        assert journalSequence >= 0;
+
+        if (!file.exists()) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(file))) {
+            out.write(XML_DECLARATION.getBytes(StandardCharsets.UTF_8));
+            XMLStreamWriter writer = outputFactory.createXMLStreamWriter(out, StandardCharsets.UTF_8.name());
+            if (todoList.getTaskList().isEmpty() && todoList.getTagList().isEmpty()) {
+                writer.writeEmptyElement(ROOT_ELEMENT);
+                writeJournalSequence(writer, journalSequence);
+            } else {
+                writer.writeStartElement(ROOT_ELEMENT);
+                writeJournalSequence(writer, journalSequence);
+                for (ReadOnlyTask task : todoList.getTaskList()) {
+                    writeTask(writer, task);
+                }
+                for (Tag tag : todoList.getTagList()) {
+                    writer.writeCharacters(TASK_INDENT);
+                    writeElement(writer, TAG_ELEMENT, tag.tagName);
+                }
+                writer.writeCharacters("\n");
+                writer.writeEndElement();
+            }
+            writer.writeCharacters("\n");
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void writeJournalSequence(XMLStreamWriter writer, long journalSequence)
+            throws XMLStreamException {
+        if (journalSequence > 0) {
+            writer.writeAttribute(JOURNAL_SEQUENCE_ATTRIBUTE, Long.toString(journalSequence));
+        }
+    }
+
+    /**
+     * Writes {@code task} with the same elements, in the same order, as {@link XmlAdaptedTask}.
+     */
+    private static void writeTask(XMLStreamWriter writer, ReadOnlyTask task) throws XMLStreamException {
+        writer.writeCharacters(TASK_INDENT);
+        writer.writeStartElement(TASK_ELEMENT);
+        writeField(writer, "title", task.getTitle().toString());
+        writeField(writer, "venue", toText(task.getVenue()));
+        writeField(writer, "startTime", toText(task.getStartTime()));
+        writeField(writer, "endTime", toText(task.getEndTime()));
+        writeField(writer, "urgencyLevel", toText(task.getUrgencyLevel()));
+        writeField(writer, "description", toText(task.getDescription()));
+        writeField(writer, "isCompleted", task.getIsCompletedToString());
+        for (Tag tag : task.getTags()) {
+            writeField(writer, TASK_TAG_ELEMENT, tag.tagName);
+        }
+        writer.writeCharacters(TASK_INDENT);
+        writer.writeEndElement();
+    }
+
+    private static void writeField(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        writer.writeCharacters(FIELD_INDENT);
+        writeElement(writer, name, value);
+    }
+
+    private static void writeElement(XMLStreamWriter writer, String name, String value) throws XMLStreamException {
+        writer.writeStartElement(name);
+        writer.writeCharacters(value);
+        writer.writeEndElement();
+    }
+
+    private static String toText(Optional<?> field) {
+        return field.isPresent() ? field.get().toString() : "";
+    }
+
+    /**
+     * Returns the ToDoList in the file.
+     * The Tasks are not checked for duplicates or linked to the master tag list;
+     * that is left to the {@link ToDoList} the data is copied into.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static ReadOnlyToDoList loadDataFromSaveFile(File file)
+            throws DataConversionException, FileNotFoundException {
+        assert file != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        List<ReadOnlyTask> tasks = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        Set<Tag> tagsRead = new HashSet<>();
+        // Tasks with the same tag share one Tag object, so the ToDoList copying them need not relink them
+        Map<String, Tag> tagsByName = new HashMap<>();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            reader.nextTag();
+            reader.require(XMLStreamConstants.START_ELEMENT, null, ROOT_ELEMENT);
+            while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+                switch (reader.getLocalName()) {
+                case TASK_ELEMENT:
+                    addTask(tasks, reader, tagsByName);
+                    break;
+                case TAG_ELEMENT:
+                    Tag tag = toTag(reader.getElementText(), tagsByName);
+                    if (tagsRead.add(tag)) {
+                        tags.add(tag);
+                    }
+                    break;
+                default:
+                    skipElement(reader);
+                }
+            }
+            reader.close();
+        } catch (XMLStreamException | IllegalValueException | IOException e) {
+            throw new DataConversionException(e);
+        }
+        return new LoadedToDoList(tasks, tags);
+    }
+
+    /**
+     * Returns the journal sequence recorded in the file by {@link #saveDataToFile(File, ReadOnlyToDoList, long)},
+     * or 0 if none was. Only the start of the file is read.
+     *
+     * @throws FileNotFoundException if the file is missing.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public static long readJournalSequence(File file) throws DataConversionException, FileNotFoundException {
+        assert file != null;
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            reader.nextTag();
+            reader.require(XMLStreamConstants.START_ELEMENT, null, ROOT_ELEMENT);
+            String journalSequence = reader.getAttributeValue(null, JOURNAL_SEQUENCE_ATTRIBUTE);
+            reader.close();
+            return journalSequence == null ? 0 : Long.parseLong(journalSequence);
+        } catch (XMLStreamException | NumberFormatException | IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Reads the task element the reader is at into {@code tasks}.
+     * As when the file is read by JAXB, a task with invalid data is left out rather than failing the whole file.
+     */
+    private static void addTask(List<ReadOnlyTask> tasks, XMLStreamReader reader, Map<String, Tag> tagsByName)
+            throws XMLStreamException {
+        try {
+            tasks.add(readTask(reader, tagsByName));
+        } catch (IllegalValueException e) {
+            logger.warning("Task format invalid, leaving it out: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the task element the reader is at, leaving the reader at its end tag.
+     * Fields are converted the same way as in {@link XmlAdaptedTask#toModelType()} for a file read by JAXB,
+     * where an empty venue, start time, end time, urgency level or description is read as absent,
+     * as it is written for a task without one.
+     */
+    private static Task readTask(XMLStreamReader reader, Map<String, Tag> tagsByName)
+            throws XMLStreamException, IllegalValueException {
+        String title = null;
+        String venue = null;
+        String startTime = null;
+        String endTime = null;
+        String urgencyLevel = null;
+        String description = null;
+        String isCompleted = null;
+        List<String> tagNames = new ArrayList<>();
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            switch (reader.getLocalName()) {
+            case "title":
+                title = reader.getElementText();
+                break;
+            case "venue":
+                venue = reader.getElementText();
+                break;
+            case "startTime":
+                startTime = reader.getElementText();
+                break;
+            case "endTime":
+                endTime = reader.getElementText();
+                break;
+            case "urgencyLevel":
+                urgencyLevel = reader.getElementText();
+                break;
+            case "description":
+                description = reader.getElementText();
+                break;
+            case "isCompleted":
+                isCompleted = reader.getElementText();
+                break;
+            case TASK_TAG_ELEMENT:
+                tagNames.add(reader.getElementText());
+                break;
+            default:
+                skipElement(reader);
+            }
+        }
+
+        if (title == null) {
+            throw new IllegalValueException("Task has no title");
+        }
+        List<Tag> taskTags = new ArrayList<>();
+        for (String tagName : tagNames) {
+            taskTags.add(toTag(tagName, tagsByName));
+        }
+        return new Task(new Title(title),
+                isAbsent(venue) ? null : new Venue(venue),
+                isAbsent(startTime) ? null : new StartTime(startTime),
+                isAbsent(endTime) ? null : new EndTime(endTime),
+                isAbsent(urgencyLevel) ? null : new UrgencyLevel(urgencyLevel),
+                isAbsent(description) ? null : new Description(description),
+                new UniqueTagList(taskTags),
+                isCompleted != null && isCompleted.contains("true"));
+    }
+
+    /**
+     * Returns true if the text of an optional field is missing or empty, which is how an absent field is written.
+     */
+    private static boolean isAbsent(String text) {
+        return text == null || text.isEmpty();
+    }
+
+    /**
+     * Returns the Tag named {@code name}, reusing the one in {@code tagsByName} if it was read before.
+     */
+    private static Tag toTag(String name, Map<String, Tag> tagsByName) throws IllegalValueException {
+        Tag tag = tagsByName.get(name);
+        if (tag == null) {
+            tag = new Tag(name);
+            tagsByName.put(name, tag);
+        }
+        return tag;
+    }
+
+    /**
+     * Skips the element the reader is at, and everything in it, leaving the reader at its end tag.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * The to-do list data read from a file.
+     */
+    private static class LoadedToDoList implements ReadOnlyToDoList {
+
+        private final List<ReadOnlyTask> tasks;
+        private final List<Tag> tags;
+
+        LoadedToDoList(List<ReadOnlyTask> tasks, List<Tag> tags) {
+            this.tasks = Collections.unmodifiableList(tasks);
+            this.tags = Collections.unmodifiableList(tags);
+        }
+
+        @Override
+        public List<ReadOnlyTask> getTaskList() {
+            return tasks;
+        }
+
+        @Override
+        public List<Tag> getTagList() {
+            return tags;
+        }
+    }
+
+}
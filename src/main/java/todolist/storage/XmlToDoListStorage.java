@@ -51,7 +51,7 @@ public class XmlToDoListStorage implements ToDoListStorage {
             return Optional.empty();
         }
 
-        ReadOnlyToDoList todoListOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
+        ReadOnlyToDoList todoListOptional = XmlStreamFileStorage.loadDataFromSaveFile(new File(filePath));
 
         logger.info("load data from " + filePath);
 
@@ -75,7 +75,7 @@ public class XmlToDoListStorage implements ToDoListStorage {
 
         File file = new File(filePath);
         FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableToDoList(todoList));
+        XmlStreamFileStorage.saveDataToFile(file, todoList);
     }
 
 }
@@ -180,10 +180,14 @@ public class MainWindow extends UiPart<Region> {
 
     void fillInnerParts() {
         // @@author A0138628W
-        deadlineListPanel = new DeadlineListPanel(getDeadlineListPlaceholder(), logic.getFilteredDeadlineList());
-        eventListPanel = new EventListPanel(getEventListPlaceholder(), logic.getFilteredEventList());
-        floatingListPanel = new FloatingListPanel(getFloatListPlaceholder(), logic.getFilteredFloatList());
-        completeListPanel = new CompletedListPanel(getCompleteListPlaceholder(), logic.getFilteredCompleteList());
+        deadlineListPanel = new DeadlineListPanel(getDeadlineListPlaceholder(),
+                new ObservableListAdapter<>(logic.getFilteredDeadlineList()));
+        eventListPanel = new EventListPanel(getEventListPlaceholder(),
+                new ObservableListAdapter<>(logic.getFilteredEventList()));
+        floatingListPanel = new FloatingListPanel(getFloatListPlaceholder(),
+                new ObservableListAdapter<>(logic.getFilteredFloatList()));
+        completeListPanel = new CompletedListPanel(getCompleteListPlaceholder(),
+                new ObservableListAdapter<>(logic.getFilteredCompleteList()));
         resultDisplay = new ResultDisplay(getResultDisplayPlaceholder());
         new StatusBarFooter(getStatusbarPlaceholder(), Config.getToDoListFilePath());
         new CommandBox(getCommandBoxPlaceholder(), logic);
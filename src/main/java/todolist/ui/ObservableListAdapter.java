@@ -0,0 +1,86 @@
+package todolist.ui;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableListBase;
+import todolist.commons.core.ListObserver;
+import todolist.commons.core.ObservedList;
+
+/**
+ * An unmodifiable JavaFX observable list showing an {@link ObservedList} of the model,
+ * which tells its listeners of each change to that list as a JavaFX change.
+ *
+ * The model keeps, filters and sorts its lists without JavaFX; only the lists shown by the UI are adapted here.
+ * An element changed in place is reported as updated, so that a list view shows it again.
+ */
+public class ObservableListAdapter<E> extends ObservableListBase<E> {
+
+    private final ObservedList<E> source;
+
+    public ObservableListAdapter(ObservedList<E> source) {
+        assert source != null;
+        this.source = source;
+        source.addObserver(new SourceObserver());
+    }
+
+    @Override
+    public E get(int index) {
+        return source.get(index);
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+
+    /**
+     * Tells the listeners of the adapter of each change to the source list.
+     */
+    private class SourceObserver implements ListObserver<E> {
+
+        @Override
+        public void added(int index, E element) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        @Override
+        public void removed(int index, E element) {
+            beginChange();
+            nextRemove(index, element);
+            endChange();
+        }
+
+        @Override
+        public void replaced(int index, E oldElement) {
+            beginChange();
+            nextSet(index, oldElement);
+            endChange();
+        }
+
+        @Override
+        public void updated(int index) {
+            beginChange();
+            nextUpdate(index);
+            endChange();
+        }
+
+        @Override
+        public void reset(List<? extends E> oldElements) {
+            if (oldElements.isEmpty() && source.isEmpty()) {
+                return;
+            }
+            beginChange();
+            if (!oldElements.isEmpty()) {
+                nextRemove(0, new ArrayList<>(oldElements));
+            }
+            if (!source.isEmpty()) {
+                nextAdd(0, source.size());
+            }
+            endChange();
+        }
+    }
+
+}
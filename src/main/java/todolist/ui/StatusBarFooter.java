@@ -14,6 +14,7 @@ import todolist.commons.core.LogsCenter;
 import todolist.commons.events.model.ToDoListChangedEvent;
 import todolist.commons.events.storage.DirectoryChangedEvent;
 import todolist.commons.util.FxViewUtil;
+import todolist.model.task.ReadOnlyTask;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -28,6 +29,11 @@ public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
 
+    private int numberOfTasks;
+    private int numberOfCompletedTasks;
+    /** Whether the numbers of tasks are known, so that they may be kept up to date by the changes made. */
+    private boolean isCountKnown = false;
+
     public StatusBarFooter(AnchorPane placeHolder, String saveLocation) {
         super(FXML);
         addToPlaceholder(placeHolder);
@@ -52,8 +58,31 @@ public class StatusBarFooter extends UiPart<Region> {
     @Subscribe
     public void handleToDoListChangedEvent(ToDoListChangedEvent tdlce) {
         String lastUpdated = (new Date()).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(tdlce, "Setting last updated status to " + lastUpdated));
-        setSyncStatus("Last Updated: " + lastUpdated);
+        logger.info(() -> LogsCenter.getEventHandlingLogMessage(tdlce,
+                "Setting last updated status to " + lastUpdated));
+        updateTaskCount(tdlce);
+        setSyncStatus("Last Updated: " + lastUpdated + " | " + numberOfTasks + " tasks, "
+                + numberOfCompletedTasks + " completed");
+    }
+
+    /**
+     * Updates the numbers of tasks by the changes carried by {@code tdlce},
+     * or counts the tasks again if they are not known or the whole to-do list has changed.
+     */
+    private void updateTaskCount(ToDoListChangedEvent tdlce) {
+        if (isCountKnown && tdlce.isIncremental()) {
+            numberOfTasks += tdlce.getTaskCountChange();
+            numberOfCompletedTasks += tdlce.getCompletedCountChange();
+            return;
+        }
+        numberOfTasks = tdlce.data.getTaskList().size();
+        numberOfCompletedTasks = 0;
+        for (ReadOnlyTask task : tdlce.data.getTaskList()) {
+            if (task.isTaskCompleted()) {
+                numberOfCompletedTasks++;
+            }
+        }
+        isCountKnown = true;
     }
 
     /** Event handler for when user wants to change directory. */
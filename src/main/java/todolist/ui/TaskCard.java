@@ -1,14 +1,25 @@
 package todolist.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Circle;
+import todolist.model.tag.Tag;
 import todolist.model.task.ReadOnlyTask;
 
+/**
+ * A card showing the details of a task.
+ * A card can be given a different task to show in place, so that list cells need to load only one card each.
+ * A list cell gives its card the task again when the task is changed in place, to show its new details.
+ */
 public class TaskCard extends UiPart<Region> {
 
     private static final String FXML = "TaskListCard.fxml";
@@ -33,10 +44,27 @@ public class TaskCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /** Labels for tags, of which the first ones are shown; the rest are kept for tasks with more tags */
+    private final List<Label> tagLabels = new ArrayList<>();
+
     private ReadOnlyTask task;
 
-    public TaskCard(ReadOnlyTask task, String displayedIndex) {
+    /**
+     * Creates a card that shows no task until {@link #setTask(ReadOnlyTask, String)} is called.
+     */
+    public TaskCard() {
         super(FXML);
+    }
+
+    public TaskCard(ReadOnlyTask task, String displayedIndex) {
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Shows {@code task} on this card in place of the task shown before, or the details of the same task again.
+     */
+    public void setTask(ReadOnlyTask task, String displayedIndex) {
         this.task = task;
         title.setText(task.getTitle().toString());
         id.setText(displayedIndex + ". ");
@@ -49,46 +77,29 @@ public class TaskCard extends UiPart<Region> {
     }
 
     private void initialiseVenue() {
-        if (task.getVenue().isPresent()
-                && !task.getVenue().get().toString().isEmpty()) {
-            venue.setManaged(true);
-            venue.setText(task.getVenueString().trim());
-        } else {
-            venue.setManaged(false);
-        }
+        setShownText(venue, task.getVenue().isPresent()
+                && !task.getVenue().get().toString().isEmpty() ? task.getVenueString().trim() : "");
     }
 
     private void initialiseStartTime() {
-        startTime.setText(task.getStartTimeString().trim());
-        if (task.getStartTime().isPresent()) {
-            startTime.setManaged(true);
-        } else {
-            startTime.setManaged(false);
-        }
+        setShownText(startTime, task.getStartTimeString().trim());
     }
 
     private void initialiseEndTime() {
-        endTime.setText(task.getEndTimeString().trim());
-        if (task.getEndTime().isPresent()) {
-            endTime.setManaged(true);
-        } else {
-            endTime.setManaged(false);
-        }
+        setShownText(endTime, task.getEndTimeString().trim());
     }
 
     //@@ author: A0138628W
     private void initialiseUrgencyLevel() {
-        if (task.getUrgencyLevel().isPresent()) {
+        int level = task.getUrgencyLevelInt();
+        if (task.getUrgencyLevel().isPresent() && level >= 1 && level <= 3) {
             urgencyLevel.setVisible(true);
-            int level = task.getUrgencyLevelInt();
             if (level == 1) {
                 urgencyLevel.setFill(Color.YELLOW);
             } else if (level == 2) {
                 urgencyLevel.setFill(Color.ORANGE);
-            } else if (level == 3) {
-                urgencyLevel.setFill(Color.RED);
             } else {
-                urgencyLevel.setVisible(false);
+                urgencyLevel.setFill(Color.RED);
             }
         } else {
             urgencyLevel.setVisible(false);
@@ -96,17 +107,39 @@ public class TaskCard extends UiPart<Region> {
     }
 
     private void initialiseDescription() {
-        if (task.getDescription().isPresent()
-                && !task.getDescription().get().toString().isEmpty()) {
-            description.setManaged(true);
-            description.setText(task.getDescriptionString().trim());
-        } else {
-            description.setManaged(false);
-        }
+        setShownText(description, task.getDescription().isPresent()
+                && !task.getDescription().get().toString().isEmpty() ? task.getDescriptionString().trim() : "");
     }
 
+    /**
+     * Shows the tags of {@code task}, reusing the labels of the tags shown before.
+     */
     private void initTags(ReadOnlyTask task) {
-        task.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
+        int tagCount = 0;
+        for (Tag tag : task.getTagSet()) {
+            if (tagCount == tagLabels.size()) {
+                tagLabels.add(new Label());
+            }
+            tagLabels.get(tagCount++).setText(tag.tagName);
+        }
+        ObservableList<Node> shownTagLabels = tags.getChildren();
+        if (shownTagLabels.size() > tagCount) {
+            shownTagLabels.remove(tagCount, shownTagLabels.size());
+        } else if (shownTagLabels.size() < tagCount) {
+            shownTagLabels.addAll(tagLabels.subList(shownTagLabels.size(), tagCount));
+        }
+    }
+
+    /**
+     * Sets the text of {@code label} to {@code text}, and shows the label only when the text is not empty,
+     * leaving no space for it when hidden.
+     * It is hidden as well as unmanaged, as it would otherwise still show the text of a task shown before.
+     */
+    private static void setShownText(Label label, String text) {
+        label.setText(text);
+        boolean isShown = !text.isEmpty();
+        label.setManaged(isShown);
+        label.setVisible(isShown);
     }
     //@@
 }
@@ -75,8 +75,13 @@ public class TaskListPanel extends UiPart<Region> {
         });
     }
 
+    /**
+     * A cell that shows its tasks on one card, loaded when the cell is first given a task.
+     */
     class TaskListViewCell extends ListCell<ReadOnlyTask> {
 
+        private TaskCard taskCard;
+
         @Override
         protected void updateItem(ReadOnlyTask task, boolean empty) {
             super.updateItem(task, empty);
@@ -85,7 +90,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, task.getTaskChar().toString() + (getIndex() + 1)).getRoot());
+                if (taskCard == null) {
+                    taskCard = new TaskCard();
+                }
+                taskCard.setTask(task, task.getTaskChar().toString() + (getIndex() + 1));
+                setGraphic(taskCard.getRoot());
             }
         }
     }
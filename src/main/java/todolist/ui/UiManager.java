@@ -26,6 +26,7 @@ import javafx.stage.Stage;
 import todolist.MainApp;
 import todolist.commons.core.ComponentManager;
 import todolist.commons.core.Config;
+import todolist.commons.core.EventsCenter;
 import todolist.commons.core.LogsCenter;
 import todolist.commons.events.storage.DataSavingExceptionEvent;
 import todolist.commons.events.ui.ClearAllSelectionsEvent;
@@ -53,7 +54,7 @@ public class UiManager extends ComponentManager implements Ui {
     private static Semaphore semaphore = new Semaphore(1);
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(EventsCenter.Lane.UI);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -233,7 +234,14 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait("Could not save data", "Could not save data to file", event.exception);
+        // Saves happen on a background thread, so the alert may have to be moved onto the JavaFX thread
+        Runnable showAlert = () -> showFileOperationAlertAndWait("Could not save data", "Could not save data to file",
+                event.exception);
+        if (Platform.isFxApplicationThread()) {
+            showAlert.run();
+        } else {
+            Platform.runLater(showAlert);
+        }
     }
 
     @Subscribe
@@ -61,11 +61,11 @@ public abstract class UiPart<T> {
     }
 
     /**
-     * Registers the object as an event handler at the {@link EventsCenter}
+     * Registers the object as an event handler at the {@link EventsCenter}, to be called on the JavaFX thread
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, EventsCenter.Lane.UI);
     }
 
     /**
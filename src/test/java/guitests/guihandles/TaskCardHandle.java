@@ -73,7 +73,7 @@ public class TaskCardHandle extends GuiHandle {
 
     private List<String> getTags(UniqueTagList tags) {
         return tags
-                .asObservableList()
+                .asList()
                 .stream()
                 .map(tag -> tag.tagName)
                 .collect(Collectors.toList());
@@ -0,0 +1,86 @@
+package todolist;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.google.common.eventbus.Subscribe;
+
+import todolist.commons.core.EventsCenter;
+import todolist.commons.core.Messages;
+import todolist.commons.events.model.ToDoListChangedEvent;
+import todolist.logic.LogicManager;
+import todolist.logic.commands.AddCommand;
+import todolist.model.ModelManager;
+import todolist.storage.StorageManager;
+
+public class BatchRunnerTest {
+
+    @Rule
+    public TemporaryFolder saveFolder = new TemporaryFolder();
+
+    private final List<ToDoListChangedEvent> changedEvents = new ArrayList<>();
+    private ModelManager model;
+    private BatchRunner runner;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager();
+        String tempToDoListFile = saveFolder.getRoot().getPath() + "TempToDoList.xml";
+        String tempPreferencesFile = saveFolder.getRoot().getPath() + "TempPreferences.json";
+        runner = new BatchRunner(new LogicManager(model, new StorageManager(tempToDoListFile, tempPreferencesFile)),
+                model);
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Subscribe
+    public void collectToDoListChangedEvent(ToDoListChangedEvent event) {
+        changedEvents.add(event);
+    }
+
+    @Test
+    public void run_someCommandsFail_restRunAndOneEventRaised() throws Exception {
+        String script = "# groceries\n"
+                + "add Buy milk\n"
+                + "\n"
+                + "fly to the moon\n"
+                + "add Buy bread\n"
+                + "add Buy milk\n";
+
+        BatchRunner.Result result = runner.run(new BufferedReader(new StringReader(script)));
+
+        assertEquals(4, result.getCommandCount());
+        assertEquals(2, result.getFailures().size());
+        assertEquals(4, result.getFailures().get(0).lineNumber);
+        assertEquals(Messages.MESSAGE_UNKNOWN_COMMAND, result.getFailures().get(0).message);
+        assertEquals(6, result.getFailures().get(1).lineNumber);
+        assertEquals(AddCommand.MESSAGE_DUPLICATE_TASK, result.getFailures().get(1).message);
+        assertEquals(2, model.getToDoListSnapshot().getTaskList().size());
+        assertEquals(1, changedEvents.size());
+        assertEquals(2, changedEvents.get(0).data.getTaskList().size());
+    }
+
+    @Test
+    public void run_noCommands_noEvent() throws Exception {
+        BatchRunner.Result result = runner.run(new BufferedReader(new StringReader("# nothing to do\n\n")));
+
+        assertEquals(0, result.getCommandCount());
+        assertEquals(0, result.getFailures().size());
+        assertEquals(0, changedEvents.size());
+    }
+
+}
@@ -8,7 +8,6 @@ import todolist.commons.core.Config;
 import todolist.commons.core.GuiSettings;
 import todolist.model.ReadOnlyToDoList;
 import todolist.model.UserPrefs;
-import todolist.storage.XmlSerializableToDoList;
 import todolist.testutil.TestUtil;
 
 /**
@@ -35,9 +34,7 @@ public class TestApp extends MainApp {
 
         // If some initial local data has been provided, write those to the file
         if (initialDataSupplier.get() != null) {
-            TestUtil.createDataFileWithData(
-                    new XmlSerializableToDoList(this.initialDataSupplier.get()),
-                    this.saveFileLocation);
+            TestUtil.createDataFileWithData(this.initialDataSupplier.get(), this.saveFileLocation);
         }
     }
 
@@ -48,6 +45,8 @@ public class TestApp extends MainApp {
         Config.setToDoListFilePath(saveFileLocation);
         Config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
         config.setToDoListName(TODO_LIST_NAME);
+        // The tests check the effects of commands as soon as they are executed
+        config.setAsyncEventDispatch(false);
         return config;
     }
 
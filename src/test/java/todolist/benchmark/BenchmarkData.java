@@ -0,0 +1,65 @@
+package todolist.benchmark;
+
+import java.time.LocalDateTime;
+
+import todolist.model.ToDoList;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
+
+/**
+ * Generates the to-do lists that the benchmarks run on.
+ */
+public class BenchmarkData {
+
+    /** The time the first task generated by {@link #createTask(int)} starts or ends at. */
+    public static final LocalDateTime BASE = LocalDateTime.of(2017, 1, 1, 9, 0);
+
+    /**
+     * Creates the task at {@code index} of a generated list.
+     */
+    @FunctionalInterface
+    public interface TaskFactory {
+        Task create(int index) throws Exception;
+    }
+
+    /**
+     * Returns a list of {@code size} tasks created by {@link #createTask(int)}.
+     */
+    public static ToDoList createToDoList(int size) {
+        return createToDoList(size, BenchmarkData::createTask);
+    }
+
+    /**
+     * Returns a list of {@code size} tasks created by {@code factory}, with every tag they have.
+     */
+    public static ToDoList createToDoList(int size, TaskFactory factory) {
+        ToDoList toDoList = new ToDoList();
+        try {
+            for (int i = 0; i < size; i++) {
+                toDoList.addTask(factory.create(i));
+            }
+        } catch (Exception e) {
+            throw new AssertionError("Generated tasks should be valid", e);
+        }
+        return toDoList;
+    }
+
+    /**
+     * Returns a task with a venue, a description and one of 20 tags, an hour after the task before it.
+     * A third of the tasks are floating tasks, a third deadlines and a third events.
+     */
+    public static Task createTask(int index) throws Exception {
+        LocalDateTime time = BASE.plusHours(index);
+        StartTime startTime = index % 3 == 2 ? new StartTime(time) : null;
+        EndTime endTime = index % 3 == 0 ? null : new EndTime(time.plusHours(2));
+        return new Task(new Title("task " + index), new Venue("venue " + index), startTime, endTime, null,
+                new Description("description of task " + index), new UniqueTagList(new Tag("tag" + (index % 20))));
+    }
+
+}
@@ -0,0 +1,56 @@
+package todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UrgencyLevel;
+
+/**
+ * Measures the time taken to sort a list of events with {@link ReadOnlyTask#getEventComparator()},
+ * which compares start times, then urgency levels, then end times, then titles.
+ * Many events share a start time, so the later comparisons are made as well.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class EventSortBenchmark {
+
+    private static final int TASK_COUNT = 50000;
+    private static final int RUNS = 10;
+
+    public static void main(String[] args) throws Exception {
+        List<ReadOnlyTask> events = createEvents(TASK_COUNT);
+
+        System.out.println(TASK_COUNT + " events");
+        System.out.println("run\tsort time (ms)");
+        for (int i = 0; i < RUNS; i++) {
+            List<ReadOnlyTask> toSort = new ArrayList<>(events);
+            Collections.shuffle(toSort, new Random(i));
+            long start = System.nanoTime();
+            toSort.sort(ReadOnlyTask.getEventComparator());
+            long time = System.nanoTime() - start;
+            System.out.println(i + "\t" + time / 1000000);
+        }
+    }
+
+    private static List<ReadOnlyTask> createEvents(int size) throws Exception {
+        LocalDateTime base = LocalDateTime.of(2017, 1, 1, 9, 0);
+        List<ReadOnlyTask> events = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            LocalDateTime startTime = base.plusHours(i / 10);
+            events.add(new Task(new Title("event " + i), null, new StartTime(startTime),
+                    new EndTime(startTime.plusHours(i % 5 + 1)), new UrgencyLevel(String.valueOf(i % 3 + 1)),
+                    null, new UniqueTagList()));
+        }
+        return events;
+    }
+
+}
@@ -0,0 +1,97 @@
+package todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+import todolist.model.Model;
+import todolist.model.ModelManager;
+import todolist.model.UserPrefs;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
+
+/**
+ * Measures the time taken to find the tasks in a large to-do list that contain a keyword,
+ * by checking every detail of every task as {@code find} used to, and through the model,
+ * which looks the keyword up in the text index of the to-do list and then filters its task lists.
+ * The keywords range from one in a single task, to one in many tasks, to one too short to be indexed.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class FindBenchmark {
+
+    private static final int TASK_COUNT = 100000;
+    private static final int RUNS = 5;
+    private static final String[] KEYWORDS = { "report 4242", "meeting", "ro" };
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    public static void main(String[] args) throws Exception {
+        LogManager.getLogManager().getLogger("").setLevel(Level.OFF);
+        Model model = new ModelManager(BenchmarkData.createToDoList(TASK_COUNT, FindBenchmark::createTask),
+                new UserPrefs());
+        List<ReadOnlyTask> tasks = model.getToDoList().getTaskList();
+
+        System.out.println(TASK_COUNT + " tasks");
+        System.out.println("run\tkeyword\tmatches\tscan (ms)\tfind (ms)");
+        for (int run = 0; run < RUNS; run++) {
+            for (String keyword : KEYWORDS) {
+                long start = System.nanoTime();
+                int matches = scan(tasks, keyword);
+                long scanTime = System.nanoTime() - start;
+
+                Set<String> keywords = Collections.singleton(keyword);
+                start = System.nanoTime();
+                model.updateFilteredTaskList(keywords);
+                long findTime = System.nanoTime() - start;
+                System.out.println(run + "\t" + keyword + "\t" + matches + "\t" + scanTime / 1000000
+                        + "\t" + findTime / 1000000);
+            }
+        }
+    }
+
+    /**
+     * Counts the tasks with a detail containing {@code keyword}, checking each as {@code find} used to.
+     */
+    private static int scan(List<ReadOnlyTask> tasks, String keyword) {
+        int matches = 0;
+        for (ReadOnlyTask task : tasks) {
+            if (hasContainedKeyword(task.getTitle().toString(), keyword)
+                    || hasContainedKeyword(task.getStartTimeString(), keyword)
+                    || hasContainedKeyword(task.getEndTimeString(), keyword)
+                    || hasContainedKeyword(task.getDescriptionString(), keyword)
+                    || hasContainedKeyword(task.getVenueString(), keyword)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    private static boolean hasContainedKeyword(String searchMe, String findMe) {
+        searchMe = searchMe.toLowerCase();
+        findMe = findMe.toLowerCase();
+        for (int i = 0; i <= searchMe.length() - findMe.length(); i++) {
+            if (searchMe.regionMatches(true, i, findMe, 0, findMe.length())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Task createTask(int index) throws Exception {
+        String[] kinds = { "report", "meeting", "review", "call" };
+        LocalDateTime startTime = BASE.plusHours(index);
+        return new Task(new Title(kinds[index % kinds.length] + " " + index), new Venue("room " + (index % 500)),
+                index % 2 == 0 ? new StartTime(startTime) : null, new EndTime(startTime.plusHours(2)), null,
+                new Description("notes for item " + index), new UniqueTagList());
+    }
+
+}
@@ -0,0 +1,79 @@
+package todolist.benchmark;
+
+import java.io.File;
+import java.time.LocalDateTime;
+
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
+import todolist.storage.BinaryToDoListStorage;
+
+/**
+ * Measures loading a binary to-do list file holding many completed tasks, reading every task into memory
+ * ({@link BinaryToDoListStorage#loadDataFromSaveFile}) against leaving the completed tasks in the
+ * memory-mapped file ({@link BinaryToDoListStorage#mapDataFromSaveFile}).
+ * Both loads end with the copy that {@code ModelManager} makes of the data it is given.
+ *
+ * Reports the time taken and the heap still in use afterwards.
+ * Not a unit test; run the main method directly, e.g. with -Xmx2g.
+ */
+public class MappedStorageBenchmark {
+
+    private static final int COMPLETED_TASK_COUNT = 300000;
+    private static final int ACTIVE_TASK_COUNT = 1000;
+    private static final int RUNS = 3;
+    private static final LocalDateTime BASE = LocalDateTime.of(2010, 1, 1, 9, 0);
+
+    private interface Loader {
+        ReadOnlyToDoList load(File file) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("MappedStorageBenchmark", ".bin");
+        file.deleteOnExit();
+        BinaryToDoListStorage.saveDataToFile(file, BenchmarkData.createToDoList(
+                COMPLETED_TASK_COUNT + ACTIVE_TASK_COUNT, MappedStorageBenchmark::createTask));
+        System.out.println(COMPLETED_TASK_COUNT + " completed and " + ACTIVE_TASK_COUNT + " active tasks, file size "
+                + file.length() / 1024 + " KB");
+        System.out.println("load\ttime (ms)\tretained (MB)");
+
+        for (int i = 0; i < RUNS; i++) {
+            measure("read", file, BinaryToDoListStorage::loadDataFromSaveFile);
+            measure("mapped", file, BinaryToDoListStorage::mapDataFromSaveFile);
+        }
+    }
+
+    private static void measure(String name, File file, Loader loader) throws Exception {
+        long heapBefore = usedHeapAfterGc();
+        long start = System.nanoTime();
+
+        ToDoList model = new ToDoList(loader.load(file)); // the copy ModelManager makes
+
+        long time = System.nanoTime() - start;
+        long retained = usedHeapAfterGc() - heapBefore;
+        System.out.println(name + "\t" + time / 1000000 + "\t" + retained / (1024 * 1024)
+                + "\t(" + model.getTaskList().size() + " tasks)");
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static Task createTask(int index) throws Exception {
+        return new Task(new Title("task " + index), new Venue("venue " + index), null,
+                new EndTime(BASE.plusHours(index)), null, new Description("description of task " + index),
+                new UniqueTagList(new Tag("tag" + (index % 20))), index < COMPLETED_TASK_COUNT);
+    }
+
+}
@@ -0,0 +1,52 @@
+package todolist.benchmark;
+
+import java.io.File;
+
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.storage.BinaryToDoListStorage;
+import todolist.storage.XmlStreamFileStorage;
+
+/**
+ * Compares the size of the data file and the time taken to load it for the xml format
+ * ({@link XmlStreamFileStorage}) and the binary format ({@link BinaryToDoListStorage}).
+ * A third of the tasks are floating, a third have a deadline and a third are events,
+ * so the cost of reading times, which the xml format stores as text to be parsed, is included.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class StorageFormatBenchmark {
+
+    private static final int TASK_COUNT = 10000;
+    private static final int RUNS = 3;
+
+    private interface Loader {
+        ReadOnlyToDoList load(File file) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        ToDoList toDoList = BenchmarkData.createToDoList(TASK_COUNT);
+        File xmlFile = File.createTempFile("StorageFormatBenchmark", ".xml");
+        xmlFile.deleteOnExit();
+        File binaryFile = File.createTempFile("StorageFormatBenchmark", ".bin");
+        binaryFile.deleteOnExit();
+        XmlStreamFileStorage.saveDataToFile(xmlFile, toDoList);
+        BinaryToDoListStorage.saveDataToFile(binaryFile, toDoList);
+
+        System.out.println(TASK_COUNT + " tasks");
+        System.out.println("format\tfile size (KB)\tload time (ms)");
+        for (int i = 0; i < RUNS; i++) {
+            measure("xml", xmlFile, XmlStreamFileStorage::loadDataFromSaveFile);
+            measure("binary", binaryFile, BinaryToDoListStorage::loadDataFromSaveFile);
+        }
+    }
+
+    private static void measure(String name, File file, Loader loader) throws Exception {
+        long start = System.nanoTime();
+        ToDoList model = new ToDoList(loader.load(file)); // the copy ModelManager makes
+        long time = System.nanoTime() - start;
+        System.out.println(name + "\t" + file.length() / 1024 + "\t" + time / 1000000
+                + "\t(" + model.getTaskList().size() + " tasks)");
+    }
+
+}
@@ -0,0 +1,70 @@
+package todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+
+import todolist.model.Model;
+import todolist.model.ModelManager;
+import todolist.model.UserPrefs;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
+
+/**
+ * Measures the time taken to edit a task in a large to-do list through the model,
+ * whose sorted deadline list is kept up to date as the tasks are edited.
+ * Each edit either changes the venue of a deadline, which does not move it in the sorted list,
+ * or changes its deadline, which does.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class TaskEditBenchmark {
+
+    private static final int TASK_COUNT = 20000;
+    private static final int EDITS = 2000;
+    private static final int RUNS = 5;
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 9, 0);
+
+    public static void main(String[] args) throws Exception {
+        LogManager.getLogManager().getLogger("").setLevel(Level.OFF);
+        Model model = new ModelManager(BenchmarkData.createToDoList(TASK_COUNT, TaskEditBenchmark::createTask),
+                new UserPrefs());
+        List<ReadOnlyTask> deadlines = model.getFilteredDeadlineList();
+        Random random = new Random(0);
+
+        System.out.println(TASK_COUNT + " deadlines");
+        System.out.println("run\tvenue edit (us)\tdeadline edit (us)");
+        for (int run = 0; run < RUNS; run++) {
+            long venueTime = 0;
+            long deadlineTime = 0;
+            for (int i = 0; i < EDITS; i++) {
+                ReadOnlyTask task = deadlines.get(random.nextInt(deadlines.size()));
+                Task editedVenue = new Task(task);
+                editedVenue.setVenue(new Venue("venue " + run + " " + i));
+                long start = System.nanoTime();
+                model.updateTask(task, editedVenue);
+                venueTime += System.nanoTime() - start;
+
+                task = deadlines.get(random.nextInt(deadlines.size()));
+                Task editedDeadline = new Task(task);
+                editedDeadline.setEndTime(new EndTime(BASE.plusMinutes(random.nextInt(TASK_COUNT * 60))));
+                start = System.nanoTime();
+                model.updateTask(task, editedDeadline);
+                deadlineTime += System.nanoTime() - start;
+            }
+            System.out.println(run + "\t" + venueTime / EDITS / 1000 + "\t" + deadlineTime / EDITS / 1000);
+        }
+    }
+
+    private static Task createTask(int index) throws Exception {
+        return new Task(new Title("deadline " + index), new Venue("venue " + index), null,
+                new EndTime(BASE.plusHours(index)), null, null, new UniqueTagList("tag" + (index % 7)));
+    }
+
+}
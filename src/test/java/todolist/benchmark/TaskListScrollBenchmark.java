@@ -0,0 +1,135 @@
+package todolist.benchmark;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+import org.testfx.api.FxToolkit;
+import org.testfx.util.WaitForAsyncUtils;
+
+import javafx.application.Application;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.stage.Stage;
+import javafx.util.Callback;
+import todolist.TestApp;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
+import todolist.ui.TaskCard;
+
+/**
+ * Measures the time taken to lay out the deadline list of the app after scrolling it and after refreshing it,
+ * with the cells of the task list panels, which each show their tasks on one card, and with cells that
+ * load a new card for every task they are given to show, as the panels once did.
+ *
+ * The app is run with the TestFX harness, headless with Monocle unless {@code -Dtestfx.headless=false} is given.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class TaskListScrollBenchmark {
+
+    private static final int TASK_COUNT = 2000;
+    private static final int SCROLL_STEPS = 200;
+    private static final int TASKS_PER_SCROLL_STEP = 3;
+    private static final int REFRESHES = 100;
+    private static final int RUNS = 3;
+
+    public static void main(String[] args) throws Exception {
+        setHeadlessUnlessDisabled();
+        Stage stage = FxToolkit.registerPrimaryStage();
+        Application app = FxToolkit.setupApplication(() -> new TestApp(() -> BenchmarkData.createToDoList(
+                TASK_COUNT, TaskListScrollBenchmark::createTask), TestApp.SAVE_LOCATION_FOR_TESTING));
+        FxToolkit.showStage();
+
+        @SuppressWarnings("unchecked")
+        ListView<ReadOnlyTask> deadlineListView = WaitForAsyncUtils.asyncFx(
+            () -> (ListView<ReadOnlyTask>) stage.getScene().lookup("#deadlineListView")).get();
+        Callback<ListView<ReadOnlyTask>, ListCell<ReadOnlyTask>> reusedCardCells = deadlineListView.getCellFactory();
+        Callback<ListView<ReadOnlyTask>, ListCell<ReadOnlyTask>> newCardCells = listView -> new NewCardCell();
+
+        System.out.println(deadlineListView.getItems().size() + " deadlines");
+        System.out.println("cells\taction\tmean (ms)\t95th percentile (ms)\tmax (ms)");
+        for (int i = 0; i < RUNS; i++) {
+            measure("reused card", reusedCardCells, deadlineListView);
+            measure("new card", newCardCells, deadlineListView);
+        }
+
+        FxToolkit.cleanupApplication(app);
+        System.exit(0);
+    }
+
+    private static void measure(String name, Callback<ListView<ReadOnlyTask>, ListCell<ReadOnlyTask>> cellFactory,
+            ListView<ReadOnlyTask> listView) throws Exception {
+        WaitForAsyncUtils.asyncFx(() -> listView.setCellFactory(cellFactory)).get();
+        WaitForAsyncUtils.waitForFxEvents();
+        report(name, "scroll", measureFrames(listView, SCROLL_STEPS,
+            step -> listView.scrollTo(step * TASKS_PER_SCROLL_STEP)));
+        report(name, "refresh", measureFrames(listView, REFRESHES, step -> listView.refresh()));
+    }
+
+    /**
+     * Returns the time taken by each of {@code frames} frames, in each of which {@code action} is done
+     * and the list is laid out.
+     */
+    private static long[] measureFrames(ListView<ReadOnlyTask> listView, int frames, IntConsumer action)
+            throws Exception {
+        long[] frameTimes = new long[frames];
+        for (int i = 0; i < frames; i++) {
+            int frame = i;
+            frameTimes[i] = WaitForAsyncUtils.asyncFx(() -> {
+                long start = System.nanoTime();
+                action.accept(frame);
+                listView.applyCss();
+                listView.layout();
+                return System.nanoTime() - start;
+            }).get();
+        }
+        return frameTimes;
+    }
+
+    private static void report(String name, String action, long[] frameTimes) {
+        Arrays.sort(frameTimes);
+        double mean = Arrays.stream(frameTimes).average().getAsDouble();
+        long percentile = frameTimes[frameTimes.length * 95 / 100];
+        long max = frameTimes[frameTimes.length - 1];
+        System.out.printf("%s\t%s\t%.2f\t%.2f\t%.2f%n", name, action, mean / 1e6, percentile / 1e6, max / 1e6);
+    }
+
+    private static void setHeadlessUnlessDisabled() {
+        if (Boolean.parseBoolean(System.getProperty("testfx.headless", "true"))) {
+            // The properties set by the headless task of the build
+            System.setProperty("java.awt.robot", "true");
+            System.setProperty("testfx.robot", "glass");
+            System.setProperty("testfx.headless", "true");
+            System.setProperty("prism.order", "sw");
+            System.setProperty("prism.text", "t2k");
+        }
+    }
+
+    private static Task createTask(int index) throws Exception {
+        return new Task(new Title("deadline " + index), new Venue("venue " + index), null,
+                new EndTime(BenchmarkData.BASE.plusHours(index)), null, null,
+                new UniqueTagList("tag" + (index % 7), "tag" + (index % 5 + 7)));
+    }
+
+    /**
+     * A cell that loads a new card every time it is given a task to show.
+     */
+    private static class NewCardCell extends ListCell<ReadOnlyTask> {
+
+        @Override
+        protected void updateItem(ReadOnlyTask task, boolean empty) {
+            super.updateItem(task, empty);
+            if (empty || task == null) {
+                setGraphic(null);
+                setText(null);
+            } else {
+                setGraphic(new TaskCard(task, task.getTaskChar().toString() + (getIndex() + 1)).getRoot());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package todolist.benchmark;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+
+import org.ocpsoft.prettytime.nlp.PrettyTimeParser;
+
+import todolist.commons.util.StringUtil;
+
+/**
+ * Compares the number of times parsed per second by {@link StringUtil#parseStringToTime(String)}
+ * with parsing every time with a new {@link PrettyTimeParser}, as was done before,
+ * for text in the stored {@link StringUtil#DATE_FORMATTER} format, DD/MM/YYYY text and natural language text.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class TimeParseBenchmark {
+
+    private static final int TIME_COUNT = 500;
+    private static final int RUNS = 3;
+
+    private interface Parser {
+        LocalDateTime parse(String timeArg) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String[] formattedTimes = new String[TIME_COUNT];
+        String[] numberDates = new String[TIME_COUNT];
+        String[] naturalLanguageTimes = new String[TIME_COUNT];
+        LocalDateTime base = LocalDateTime.of(2017, 1, 1, 9, 0);
+        for (int i = 0; i < TIME_COUNT; i++) {
+            LocalDateTime time = base.plusHours(i);
+            formattedTimes[i] = time.format(StringUtil.DATE_FORMATTER);
+            numberDates[i] = time.getDayOfMonth() + "/" + time.getMonthValue() + "/" + time.getYear() + " "
+                    + time.getHour() + ":00";
+            naturalLanguageTimes[i] = "tomorrow " + time.getHour() + ":00";
+        }
+
+        System.out.println(TIME_COUNT + " times");
+        System.out.println("input\tparser\ttimes per second");
+        for (int i = 0; i < RUNS; i++) {
+            measure("formatted", "new PrettyTimeParser", formattedTimes, TimeParseBenchmark::parseWithNewParser);
+            measure("formatted", "parseStringToTime", formattedTimes, StringUtil::parseStringToTime);
+            measure("DD/MM/YYYY", "parseStringToTime", numberDates, StringUtil::parseStringToTime);
+            measure("natural", "new PrettyTimeParser", naturalLanguageTimes,
+                    TimeParseBenchmark::parseWithNewParser);
+            measure("natural", "parseStringToTime", naturalLanguageTimes, StringUtil::parseStringToTime);
+        }
+    }
+
+    private static void measure(String input, String name, String[] times, Parser parser) throws Exception {
+        long start = System.nanoTime();
+        for (String time : times) {
+            parser.parse(time);
+        }
+        long time = System.nanoTime() - start;
+        System.out.println(input + "\t" + name + "\t" + times.length * 1000000000L / time);
+    }
+
+    private static LocalDateTime parseWithNewParser(String timeArg) {
+        List<Date> parsedResult = new PrettyTimeParser().parse(timeArg);
+        return LocalDateTime.ofInstant(parsedResult.get(0).toInstant(), ZoneId.systemDefault());
+    }
+
+}
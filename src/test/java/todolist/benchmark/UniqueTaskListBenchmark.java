@@ -0,0 +1,74 @@
+package todolist.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import todolist.commons.exceptions.IllegalValueException;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UniqueTaskList;
+
+/**
+ * Measures the cost of {@link UniqueTaskList} add, contains and remove as the list grows.
+ * With the hash index, the average cost per operation should stay roughly flat across sizes.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class UniqueTaskListBenchmark {
+
+    private static final int[] LIST_SIZES = {1000, 10000, 50000, 100000};
+    private static final int OPERATIONS = 1000;
+
+    public static void main(String[] args) throws Exception {
+        for (int size : LIST_SIZES) {
+            run(size); // warm up
+        }
+        System.out.println("size\tadd (ns/op)\tcontains (ns/op)\tremove (ns/op)");
+        for (int size : LIST_SIZES) {
+            long[] result = run(size);
+            System.out.println(size + "\t" + result[0] + "\t" + result[1] + "\t" + result[2]);
+        }
+    }
+
+    /**
+     * Fills a list with {@code size} tasks, then times {@link #OPERATIONS} adds, lookups and removals on it.
+     */
+    private static long[] run(int size) throws Exception {
+        UniqueTaskList list = new UniqueTaskList();
+        for (Task task : createTasks("existing", size)) {
+            list.add(task);
+        }
+        List<Task> extraTasks = createTasks("extra", OPERATIONS);
+
+        long start = System.nanoTime();
+        for (Task task : extraTasks) {
+            list.add(task);
+        }
+        long addCost = (System.nanoTime() - start) / OPERATIONS;
+
+        start = System.nanoTime();
+        for (Task task : extraTasks) {
+            list.contains(task);
+        }
+        long containsCost = (System.nanoTime() - start) / OPERATIONS;
+
+        start = System.nanoTime();
+        for (Task task : extraTasks) {
+            list.remove(task);
+        }
+        long removeCost = (System.nanoTime() - start) / OPERATIONS;
+
+        return new long[] {addCost, containsCost, removeCost};
+    }
+
+    private static List<Task> createTasks(String prefix, int count) throws IllegalValueException {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new Task(new Title(prefix + " task " + i), null, null, null, null, null,
+                    new UniqueTagList()));
+        }
+        return tasks;
+    }
+
+}
@@ -0,0 +1,69 @@
+package todolist.benchmark;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.storage.XmlStreamFileStorage;
+import todolist.testutil.JaxbUtil;
+
+/**
+ * Measures loading a 100k-task todolist.xml at startup, through JAXB ({@link JaxbUtil})
+ * and through the streaming StAX codec ({@link XmlStreamFileStorage}).
+ * Both loads end with the copy that {@code ModelManager} makes of the data it is given.
+ *
+ * Reports the time taken, the bytes allocated while loading and the heap still in use afterwards.
+ * Not a unit test; run the main method directly, e.g. with -Xmx2g.
+ */
+public class XmlLoadBenchmark {
+
+    private static final int TASK_COUNT = 100000;
+    private static final int RUNS = 3;
+
+    private interface Loader {
+        ReadOnlyToDoList load(File file) throws Exception;
+    }
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("XmlLoadBenchmark", ".xml");
+        file.deleteOnExit();
+        XmlStreamFileStorage.saveDataToFile(file, BenchmarkData.createToDoList(TASK_COUNT));
+        System.out.println(TASK_COUNT + " tasks, file size " + file.length() / 1024 + " KB");
+        System.out.println("codec\ttime (ms)\tallocated (MB)\tretained (MB)");
+
+        for (int i = 0; i < RUNS; i++) {
+            measure("jaxb", file, JaxbUtil::loadDataFromFile);
+            measure("stax", file, XmlStreamFileStorage::loadDataFromSaveFile);
+        }
+    }
+
+    private static void measure(String name, File file, Loader loader) throws Exception {
+        long heapBefore = usedHeapAfterGc();
+        long allocatedBefore = allocatedBytes();
+        long start = System.nanoTime();
+
+        ToDoList model = new ToDoList(loader.load(file)); // the copy ModelManager makes
+
+        long time = System.nanoTime() - start;
+        long allocated = allocatedBytes() - allocatedBefore;
+        long retained = usedHeapAfterGc() - heapBefore;
+        System.out.println(name + "\t" + time / 1000000 + "\t" + allocated / (1024 * 1024) + "\t"
+                + retained / (1024 * 1024) + "\t(" + model.getTaskList().size() + " tasks)");
+    }
+
+    private static long usedHeapAfterGc() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private static long allocatedBytes() {
+        return ((com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean())
+                .getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+}
@@ -0,0 +1,56 @@
+package todolist.benchmark;
+
+import java.io.File;
+
+import todolist.commons.util.FileUtil;
+import todolist.model.ToDoList;
+import todolist.storage.XmlStreamFileStorage;
+import todolist.testutil.JaxbUtil;
+
+/**
+ * Compares the latency of saving a to-do list through JAXB with a new context per save ({@link JaxbUtil}),
+ * as the app used to, against streaming it with StAX ({@link XmlStreamFileStorage}).
+ * The small list shows the fixed cost of creating a context; on the 10k-task list marshalling dominates.
+ *
+ * Not a unit test; run the main method directly.
+ */
+public class XmlSaveBenchmark {
+
+    private static final int[] TASK_COUNTS = {100, 10000};
+    private static final int WARM_UP_RUNS = 5;
+    private static final int MEASURED_RUNS = 20;
+
+    public static void main(String[] args) throws Exception {
+        File file = File.createTempFile("XmlSaveBenchmark", ".xml");
+        file.deleteOnExit();
+        System.out.println("tasks\tfile size (chars)\tjaxb (ms/save)\tstax (ms/save)");
+        for (int taskCount : TASK_COUNTS) {
+            run(file, taskCount);
+        }
+    }
+
+    private static void run(File file, int taskCount) throws Exception {
+        ToDoList data = BenchmarkData.createToDoList(taskCount);
+
+        for (int i = 0; i < WARM_UP_RUNS; i++) {
+            JaxbUtil.saveDataToFile(file, data);
+            XmlStreamFileStorage.saveDataToFile(file, data);
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            JaxbUtil.saveDataToFile(file, data);
+        }
+        long jaxbCost = (System.nanoTime() - start) / MEASURED_RUNS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURED_RUNS; i++) {
+            XmlStreamFileStorage.saveDataToFile(file, data);
+        }
+        long staxCost = (System.nanoTime() - start) / MEASURED_RUNS;
+
+        System.out.println(taskCount + "\t" + FileUtil.readFromFile(file).length() + "\t"
+                + jaxbCost / 1000000.0 + "\t" + staxCost / 1000000.0);
+    }
+
+}
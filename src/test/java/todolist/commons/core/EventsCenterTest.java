@@ -0,0 +1,148 @@
+package todolist.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import todolist.commons.events.ui.NewResultAvailableEvent;
+
+public class EventsCenterTest {
+
+    private final ExecutorService uiThread = Executors.newSingleThreadExecutor();
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+        uiThread.shutdownNow();
+    }
+
+    @Test
+    public void post_synchronous_handledOnPostingThread() {
+        Recorder recorder = new Recorder(0);
+        EventsCenter.getInstance().registerHandler(recorder, EventsCenter.Lane.STORAGE);
+
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("1"));
+
+        assertEquals(Collections.singletonList("1"), recorder.messages);
+        assertEquals(Thread.currentThread(), recorder.threads.get(0));
+    }
+
+    @Test
+    public void post_asynchronous_handledInOrderOnThreadOfLane() throws Exception {
+        Recorder uiRecorder = new Recorder(100);
+        Recorder storageRecorder = new Recorder(100);
+        EventsCenter.getInstance().registerHandler(uiRecorder, EventsCenter.Lane.UI);
+        EventsCenter.getInstance().registerHandler(storageRecorder, EventsCenter.Lane.STORAGE);
+        EventsCenter.getInstance().startAsyncDispatch(uiThread::execute);
+
+        List<String> posted = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            posted.add(Integer.toString(i));
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(Integer.toString(i)));
+        }
+
+        assertTrue(uiRecorder.await());
+        assertTrue(storageRecorder.await());
+        assertEquals(posted, uiRecorder.messages);
+        assertEquals(posted, storageRecorder.messages);
+        assertTrue(uiRecorder.threads.stream().noneMatch(Thread.currentThread()::equals));
+        assertTrue(uiRecorder.threads.stream().noneMatch(storageRecorder.threads::contains));
+    }
+
+    @Test
+    public void getQueueDepth_handlerBlocked_eventsWaiting() throws Exception {
+        CountDownLatch unblock = new CountDownLatch(1);
+        Recorder recorder = new Recorder(3) {
+            @Override
+            @Subscribe
+            public void handleNewResultAvailableEvent(NewResultAvailableEvent event) throws InterruptedException {
+                unblock.await();
+                super.handleNewResultAvailableEvent(event);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(recorder);
+        EventsCenter.getInstance().startAsyncDispatch(uiThread::execute);
+
+        for (int i = 0; i < 3; i++) {
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(Integer.toString(i)));
+        }
+        assertEquals(3, EventsCenter.getInstance().getQueueDepth(EventsCenter.Lane.GENERAL));
+
+        unblock.countDown();
+        assertTrue(recorder.await());
+        assertEquals(3, EventsCenter.getInstance().getMaxQueueDepth(EventsCenter.Lane.GENERAL));
+    }
+
+    @Test
+    public void post_asynchronous_onlyLanesWithHandlerUsed() throws Exception {
+        List<Runnable> uiTasks = Collections.synchronizedList(new ArrayList<>());
+        Recorder recorder = new Recorder(1);
+        EventsCenter.getInstance().registerHandler(recorder, EventsCenter.Lane.STORAGE);
+        EventsCenter.getInstance().startAsyncDispatch(uiTasks::add);
+
+        EventsCenter.getInstance().post(new NewResultAvailableEvent("1"));
+
+        assertTrue(recorder.await());
+        assertTrue(uiTasks.isEmpty());
+        assertEquals(0, EventsCenter.getInstance().getMaxQueueDepth(EventsCenter.Lane.UI));
+        assertEquals(0, EventsCenter.getInstance().getMaxQueueDepth(EventsCenter.Lane.GENERAL));
+    }
+
+    @Test
+    public void stopAsyncDispatch_eventsWaiting_handledBeforeReturning() throws Exception {
+        Recorder recorder = new Recorder(50) {
+            @Override
+            @Subscribe
+            public void handleNewResultAvailableEvent(NewResultAvailableEvent event) throws InterruptedException {
+                Thread.sleep(2);
+                super.handleNewResultAvailableEvent(event);
+            }
+        };
+        EventsCenter.getInstance().registerHandler(recorder, EventsCenter.Lane.STORAGE);
+        EventsCenter.getInstance().startAsyncDispatch(uiThread::execute);
+        for (int i = 0; i < 50; i++) {
+            EventsCenter.getInstance().post(new NewResultAvailableEvent(Integer.toString(i)));
+        }
+
+        EventsCenter.getInstance().stopAsyncDispatch();
+
+        assertEquals(50, recorder.messages.size());
+    }
+
+    /**
+     * Records the events it handles and the threads it handles them on.
+     */
+    public static class Recorder {
+        final List<String> messages = Collections.synchronizedList(new ArrayList<>());
+        final List<Thread> threads = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch handled;
+
+        Recorder(int expectedEvents) {
+            handled = new CountDownLatch(expectedEvents);
+        }
+
+        @Subscribe
+        public void handleNewResultAvailableEvent(NewResultAvailableEvent event) throws InterruptedException {
+            messages.add(event.message);
+            threads.add(Thread.currentThread());
+            handled.countDown();
+        }
+
+        boolean await() throws InterruptedException {
+            return handled.await(5, TimeUnit.SECONDS);
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package todolist.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.testutil.ListChangeRecorder;
+
+public class IncrementalSortedListTest {
+
+    private static final Comparator<Item> BY_KEY_THEN_ID =
+            Comparator.comparingInt((Item item) -> item.key).thenComparingInt(item -> item.id);
+
+    private UpdatableList<Item> source;
+    private IncrementalSortedList<Item> sorted;
+    private ListChangeRecorder<Item> recorder;
+
+    @Before
+    public void setUp() {
+        source = new UpdatableList<>();
+        source.setAll(Arrays.asList(new Item(0, 30), new Item(1, 10), new Item(2, 20)));
+        sorted = new IncrementalSortedList<>(source, BY_KEY_THEN_ID);
+        recorder = new ListChangeRecorder<>(sorted);
+    }
+
+    @Test
+    public void constructor_unsortedSource_sorted() {
+        assertKeys(10, 20, 30);
+    }
+
+    @Test
+    public void add_item_addedInPlace() {
+        source.append(new Item(3, 15));
+        assertKeys(10, 15, 20, 30);
+        assertEquals(Arrays.asList("added 1"), recorder.getChanges());
+    }
+
+    @Test
+    public void remove_item_removedFromPlace() {
+        source.delete(2);
+        assertKeys(10, 30);
+        assertEquals(Arrays.asList("removed 1"), recorder.getChanges());
+    }
+
+    @Test
+    public void updated_samePlace_reportedAsUpdated() {
+        source.get(2).key = 25;
+        source.updated(2);
+        assertKeys(10, 25, 30);
+        assertEquals(Arrays.asList("updated 1"), recorder.getChanges());
+    }
+
+    @Test
+    public void updated_newPlace_movedToNewPlace() {
+        source.get(0).key = 5;
+        source.updated(0);
+        assertKeys(5, 10, 20);
+        assertEquals(Arrays.asList("removed 2", "added 0"), recorder.getChanges());
+    }
+
+    @Test
+    public void replace_item_oldRemovedNewAdded() {
+        source.replace(0, new Item(3, 15));
+        assertKeys(10, 15, 20);
+        assertEquals(Arrays.asList("removed 2", "added 1"), recorder.getChanges());
+    }
+
+    @Test
+    public void setPredicate_someItems_onlyThoseShown() {
+        sorted.setPredicate(item -> item.key >= 20);
+        assertKeys(20, 30);
+        assertEquals(Arrays.asList("reset"), recorder.getChanges());
+
+        sorted.setPredicate(null);
+        assertKeys(10, 20, 30);
+    }
+
+    @Test
+    public void updated_predicateNoLongerSatisfied_removed() {
+        sorted.setPredicate(item -> item.key >= 20);
+        recorder.clear();
+
+        source.get(2).key = 5;
+        source.updated(2);
+        assertKeys(30);
+        assertEquals(Arrays.asList("removed 0"), recorder.getChanges());
+
+        source.get(2).key = 25;
+        source.updated(2);
+        assertKeys(25, 30);
+        assertEquals(Arrays.asList("removed 0", "added 0"), recorder.getChanges());
+    }
+
+    @Test
+    public void add_predicateNotSatisfied_notShown() {
+        sorted.setPredicate(item -> item.key >= 20);
+        recorder.clear();
+
+        source.append(new Item(3, 15));
+        source.delete(1);
+        assertKeys(20, 30);
+        assertEquals(Arrays.asList(), recorder.getChanges());
+    }
+
+    @Test
+    public void setAll_manyItems_sortedAgain() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new Item(i, 100 - i));
+        }
+        source.setAll(items);
+
+        assertEquals(100, sorted.size());
+        assertEquals(1, sorted.get(0).key);
+        assertEquals(recorder.getMirror(), sorted);
+    }
+
+    @Test
+    public void randomChanges_keptSortedAndReported() {
+        Random random = new Random(0);
+        int nextId = source.size();
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 || source.isEmpty()) {
+                source.insert(random.nextInt(source.size() + 1), new Item(nextId++, random.nextInt(50)));
+            } else if (operation == 1) {
+                source.delete(random.nextInt(source.size()));
+            } else if (operation == 2) {
+                source.replace(random.nextInt(source.size()), new Item(nextId++, random.nextInt(50)));
+            } else {
+                int index = random.nextInt(source.size());
+                source.get(index).key = random.nextInt(50);
+                source.updated(index);
+            }
+
+            List<Item> expected = new ArrayList<>(source);
+            expected.sort(BY_KEY_THEN_ID);
+            assertEquals(expected, sorted);
+            assertEquals(expected, recorder.getMirror());
+            for (int j = 0; j < source.size(); j++) {
+                assertEquals(expected.indexOf(source.get(j)), sorted.getViewIndex(j));
+            }
+        }
+    }
+
+    @Test
+    public void manyItemsAddedInOrderThenMoved_keptSortedAndFound() {
+        for (int i = 0; i < 1000; i++) {
+            source.append(new Item(source.size(), 100 + i));
+        }
+        for (int i = source.size() - 1; i >= 0; i -= 7) {
+            source.get(i).key = -i;
+            source.updated(i);
+        }
+        for (int i = 0; i < 300; i++) {
+            source.delete(source.size() - 1);
+        }
+
+        List<Item> expected = new ArrayList<>(source);
+        expected.sort(BY_KEY_THEN_ID);
+        assertEquals(expected, sorted);
+        assertEquals(expected, recorder.getMirror());
+        for (int j = 0; j < source.size(); j++) {
+            assertEquals(expected.indexOf(source.get(j)), sorted.getViewIndex(j));
+        }
+    }
+
+    private void assertKeys(int... expected) {
+        int[] keys = sorted.stream().mapToInt(item -> item.key).toArray();
+        assertEquals(Arrays.toString(expected), Arrays.toString(keys));
+        assertEquals(recorder.getMirror(), sorted);
+    }
+
+    /**
+     * An element whose key can change while it is in a list.
+     */
+    private static class Item {
+
+        private final int id;
+        private int key;
+
+        Item(int id, int key) {
+            this.id = id;
+            this.key = key;
+        }
+
+        @Override
+        public String toString() {
+            return id + ":" + key;
+        }
+    }
+
+}
@@ -0,0 +1,87 @@
+package todolist.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void of_elements_sameElementsInOrder() {
+        List<Integer> elements = Arrays.asList(3, 1, 4, 1, 5, 9, 2, 6);
+        assertEquals(elements, PersistentList.of(elements));
+        assertEquals(Collections.emptyList(), PersistentList.of(Collections.emptyList()));
+    }
+
+    @Test
+    public void plus_element_earlierListUnchanged() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "c"));
+        PersistentList<String> added = list.plus(1, "b").plus("d");
+
+        assertEquals(Arrays.asList("a", "c"), list);
+        assertEquals(Arrays.asList("a", "b", "c", "d"), added);
+    }
+
+    @Test
+    public void withAndMinus_element_earlierListUnchanged() {
+        PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+        assertEquals(Arrays.asList("a", "x", "c"), list.with(1, "x"));
+        assertEquals(Arrays.asList("a", "c"), list.minus(1));
+        assertEquals(Arrays.asList("a", "b", "c"), list);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList.of(Arrays.asList("a")).get(1);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void plus_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        PersistentList.<String>empty().plus(1, "a");
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayListAndEveryVersionKept() {
+        Random random = new Random(0);
+        PersistentList<Integer> list = PersistentList.empty();
+        List<Integer> expected = new ArrayList<>();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(3);
+            if (operation == 0 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                list = list.plus(index, i);
+                expected.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                list = list.with(index, i);
+                expected.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                list = list.minus(index);
+                expected.remove(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list);
+        assertEquals(expected.size(), list.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        assertEquals(expectedVersions, versions);
+    }
+
+}
@@ -2,15 +2,20 @@ package todolist.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import todolist.commons.exceptions.IllegalValueException;
+
 public class StringUtilTest {
 
     @Rule
@@ -148,5 +153,50 @@ public class StringUtilTest {
         StringUtil.getDetails(null);
     }
 
+    //---------------- Tests for parseStringToTime --------------------------------------
+
+    /*
+     * Equivalence Partitions: DATE_FORMATTER output, DD/MM/YYYY with HH:MM, with HHam/pm and without a time,
+     * natural language, invalid
+     */
+
+    @Test
+    public void parseStringToTimeFormattedTimeSameTime() throws Exception {
+        LocalDateTime time = LocalDateTime.of(2017, 4, 17, 12, 0);
+        assertEquals(time, StringUtil.parseStringToTime(time.format(StringUtil.DATE_FORMATTER)));
+    }
+
+    @Test
+    public void parseStringToTimeNumberDateReadAsDayMonthYear() throws Exception {
+        assertEquals(LocalDateTime.of(2017, 2, 1, 10, 0), StringUtil.parseStringToTime("01/02/2017 10:00"));
+        assertEquals(LocalDateTime.of(2017, 12, 31, 23, 59), StringUtil.parseStringToTime("31/12/2017 23:59"));
+        assertEquals(LocalDateTime.of(2017, 3, 4, 23, 0), StringUtil.parseStringToTime("4/3/2017 11pM"));
+        assertEquals(LocalDateTime.of(2017, 12, 25, 0, 0), StringUtil.parseStringToTime("25/12/2017 12am"));
+        assertEquals(LocalDateTime.of(2017, 12, 25, 12, 0), StringUtil.parseStringToTime("25/12/2017 12pm"));
+        assertEquals(LocalDate.of(2017, 3, 20), StringUtil.parseStringToTime("20/03/2017").toLocalDate());
+    }
+
+    @Test
+    public void parseStringToTimeNaturalLanguageParsed() throws Exception {
+        assertEquals(LocalDate.now().plusDays(1), StringUtil.parseStringToTime("tomorrow 4:18").toLocalDate());
+    }
+
+    @Test
+    public void parseStringToTimeInvalidNumberDateExceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        StringUtil.parseStringToTime("31/02/2017 10:00");
+    }
+
+    @Test
+    public void parseStringToTimeInvalidHourExceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        StringUtil.parseStringToTime("1/2/2017 24:00");
+    }
+
+    @Test
+    public void parseStringToTimeNullExceptionThrown() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        StringUtil.parseStringToTime(null);
+    }
 
 }
@@ -69,6 +69,8 @@ public class TimeUtilTest {
         //Test isValidMonthDay for DD/MM/YYYY HH:MM or HHam/pm
         assertTrue(TimeUtil.isValidMonthDay("20/03/2017 06:00"));
         assertFalse(TimeUtil.isValidMonthDay("32/03/2017 06:00"));
+        assertTrue(TimeUtil.isValidMonthDay("29/02/2016 06:00"));
+        assertFalse(TimeUtil.isValidMonthDay("29/02/2017 06:00"));
 
         //Test isValidMonthDay for DD MM YYYY HH:MM or HHam/pm
         assertFalse(TimeUtil.isValidMonthDay("31 Feb 2017"));
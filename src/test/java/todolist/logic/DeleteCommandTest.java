@@ -1,10 +1,16 @@
 package todolist.logic;
 
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
 import java.util.List;
 
 import org.junit.Test;
 
+import com.google.common.eventbus.Subscribe;
+
 import todolist.commons.core.Messages;
+import todolist.commons.events.model.ToDoListChangedEvent;
 import todolist.logic.commands.DeleteCommand;
 import todolist.model.ToDoList;
 import todolist.model.task.Task;
@@ -14,6 +20,13 @@ public class DeleteCommandTest extends LogicManagerTest {
     public static final int INDEX_FIRST_TASK = 1;
     public static final String LINE_BREAK = "\n";
 
+    private final List<ToDoListChangedEvent> changedEvents = new ArrayList<>();
+
+    @Subscribe
+    public void collectToDoListChangedEvent(ToDoListChangedEvent event) {
+        changedEvents.add(event);
+    }
+
     @Test
     public void executeDeleteInvalidArgsFormatErrorMessageShown() throws Exception {
         String expectedMessageNoIndex = Messages.MESSAGE_NO_TASK_SELECTED;
@@ -38,4 +51,21 @@ public class DeleteCommandTest extends LogicManagerTest {
                 expectedAB.getFilteredEvents(), Task.EVENT_CHAR);
     }
 
+    @Test
+    public void executeDeleteManyTasksChangedAndSavedOnce() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        model.beginTransaction();
+        helper.addToModel(model, 500);
+        model.commitTransaction();
+        assertEquals(1, changedEvents.size());
+        changedEvents.clear();
+
+        logic.execute("delete e1-e500");
+
+        assertEquals(1, changedEvents.size());
+        assertEquals(500, changedEvents.get(0).changes.size());
+        assertEquals(0, model.getToDoList().getTaskList().size());
+        assertEquals(0, latestSavedToDoList.getTaskList().size());
+    }
+
 }
@@ -0,0 +1,54 @@
+package todolist.logic;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import todolist.commons.events.model.ToDoListChangedEvent;
+import todolist.logic.commands.EditCommand;
+import todolist.model.ToDoList;
+
+public class EditCommandTest extends LogicManagerTest {
+
+    private final List<ToDoListChangedEvent> changedEvents = new ArrayList<>();
+
+    @Subscribe
+    public void collectToDoListChangedEvent(ToDoListChangedEvent event) {
+        changedEvents.add(event);
+    }
+
+    @Test
+    public void executeEditManyTasksChangedAndSavedOnce() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(model, 3);
+        changedEvents.clear();
+
+        logic.execute("edit e1-e3 /venue Office");
+
+        assertEquals(1, changedEvents.size());
+        assertEquals(3, changedEvents.get(0).changes.size());
+        model.getToDoList().getTaskList()
+                .forEach(task -> assertEquals("Office", task.getVenue().get().toString()));
+    }
+
+    @Test
+    public void executeEditDuplicateHalfwayNoTaskChanged() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(model, 3);
+        ToDoList expected = new ToDoList(model.getToDoList());
+        changedEvents.clear();
+
+        assertCommandFailure("edit e1-e2 /title Same /venue Office /from 1/5/2030 9:00 /to 1/5/2030 10:00",
+                EditCommand.MESSAGE_DUPLICATE_TASK);
+
+        assertEquals(0, changedEvents.size());
+        assertEquals(expected, model.getToDoList());
+        assertEquals("Task 1", model.getToDoList().getTaskList().get(0).getTitle().toString());
+    }
+
+}
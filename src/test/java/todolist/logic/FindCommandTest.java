@@ -1,7 +1,9 @@
 package todolist.logic;
 
+import static org.junit.Assert.assertFalse;
 import static todolist.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Test;
@@ -9,6 +11,8 @@ import org.junit.Test;
 import todolist.logic.commands.Command;
 import todolist.logic.commands.FindCommand;
 import todolist.model.ToDoList;
+import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
 import todolist.model.task.Task;
 
 public class FindCommandTest extends LogicManagerTest {
@@ -76,4 +80,41 @@ public class FindCommandTest extends LogicManagerTest {
                 expectedList, Task.EVENT_CHAR);
     }
 
+    @Test
+    public void executeFindByTagOnlyMatchesTasksWithThatTag() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task pTarget1 = helper.generateEventTaskWithTitle("bla bla KEY bla");
+        Task pTarget2 = helper.generateEventTaskWithTitle("bla rAnDoM bla bceofeia");
+        Task p1 = helper.generateEventTaskWithTitle("exams");
+        Task p2 = helper.generateEventTaskWithTitle("sduauo");
+        pTarget1.setTags(new UniqueTagList("exams"));
+        pTarget2.setTags(new UniqueTagList("exams", "tag"));
+        p2.setTags(new UniqueTagList("Exams"));
+
+        List<Task> fourTasks = helper.generateTaskList(pTarget1, p1, pTarget2, p2);
+        ToDoList expectedAB = helper.generateToDoList(fourTasks);
+        List<Task> expectedList = helper.generateTaskList(pTarget1, pTarget2);
+        helper.addToModel(model, fourTasks);
+
+        assertCommandSuccess("find #exams",
+                Command.getMessageForTaskListShownSummary(expectedList.size()),
+                expectedAB,
+                expectedList, Task.EVENT_CHAR);
+    }
+
+    @Test
+    public void executeFindByUnnamedTagNoTasksAndTagNotNamed() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task p1 = helper.generateEventTaskWithTitle("findCommandTestNeverNamed");
+        List<Task> tasks = helper.generateTaskList(p1);
+        ToDoList expectedAB = helper.generateToDoList(tasks);
+        helper.addToModel(model, tasks);
+
+        assertCommandSuccess("find #findCommandTestNeverNamed",
+                Command.getMessageForTaskListShownSummary(0),
+                expectedAB,
+                Collections.emptyList(), Task.EVENT_CHAR);
+        assertFalse(Tag.find("findCommandTestNeverNamed").isPresent());
+    }
+
 }
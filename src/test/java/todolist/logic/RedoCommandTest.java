@@ -0,0 +1,133 @@
+package todolist.logic;
+
+import java.util.Collections;
+
+import org.junit.After;
+import org.junit.Test;
+
+import todolist.commons.core.Config;
+import todolist.logic.commands.AddCommand;
+import todolist.logic.commands.ClearCommand;
+import todolist.logic.commands.EditCommand;
+import todolist.logic.commands.RedoCommand;
+import todolist.logic.commands.UndoCommand;
+import todolist.logic.commands.UndoableCommand;
+import todolist.model.ToDoList;
+import todolist.model.task.Task;
+import todolist.model.task.Venue;
+
+public class RedoCommandTest extends LogicManagerTest {
+
+    @After
+    public void resetUndoHistory() {
+        UndoableCommand.setUndoHistorySize(Config.DEFAULT_UNDO_HISTORY_SIZE);
+        UndoableCommand.resetLists();
+    }
+
+    @Test
+    public void executeRedoCommandFailure() {
+        UndoableCommand.resetLists();
+        assertCommandFailure("redo", RedoCommand.MESSAGE_REDO_FAILURE);
+    }
+
+    @Test
+    public void executeUndoRedoAdd() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task toBeAdded = helper.generateFloatingTask(1);
+        ToDoList emptyTDL = new ToDoList();
+        ToDoList expectedTDL = new ToDoList();
+        expectedTDL.addTask(toBeAdded);
+        String feedbackToUser = String.format(AddCommand.MESSAGE_SUCCESS, toBeAdded);
+        UndoableCommand.resetLists();
+
+        assertCommandSuccess(helper.generateAddCommand(toBeAdded), feedbackToUser,
+                expectedTDL, expectedTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS + feedbackToUser,
+                emptyTDL, emptyTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("redo", RedoCommand.MESSAGE_REDO_SUCCESS + feedbackToUser,
+                expectedTDL, expectedTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+
+        // the command redone can be undone again
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS + feedbackToUser,
+                emptyTDL, emptyTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+    }
+
+    @Test
+    public void executeUndoRedoEdit() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task toBeEdited = helper.generateFloatingTask(1);
+        model.addTask(toBeEdited);
+        ToDoList originalTDL = new ToDoList(model.getToDoList());
+        Task edited = new Task(toBeEdited);
+        edited.setVenue(new Venue("there"));
+        ToDoList editedTDL = new ToDoList(originalTDL);
+        editedTDL.updateTask(toBeEdited, edited);
+        String feedbackToUser = EditCommand.MESSAGE_EDIT_TASK_SUCCESS + "[" + edited.getTitle().toString() + "] ";
+        UndoableCommand.resetLists();
+
+        assertCommandSuccess("edit f1 /venue there", feedbackToUser,
+                editedTDL, editedTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS + feedbackToUser,
+                originalTDL, originalTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("redo", RedoCommand.MESSAGE_REDO_SUCCESS + feedbackToUser,
+                editedTDL, editedTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+    }
+
+    @Test
+    public void executeUndoDelete_taskRestoredToItsPosition() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(model, helper.generateFloatTaskList(3));
+        ToDoList originalTDL = new ToDoList(model.getToDoList());
+        UndoableCommand.resetLists();
+
+        String feedbackToUser = logic.execute("delete f2").feedbackToUser;
+        ToDoList deletedTDL = new ToDoList(model.getToDoList());
+
+        // the list is compared in order, so the task must be back at the position it was deleted from
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS + feedbackToUser,
+                originalTDL, originalTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("redo", RedoCommand.MESSAGE_REDO_SUCCESS + feedbackToUser,
+                deletedTDL, deletedTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+    }
+
+    @Test
+    public void executeUndoRedoClear() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        helper.addToModel(model, helper.generateFloatTaskList(3));
+        ToDoList originalTDL = new ToDoList(model.getToDoList());
+        UndoableCommand.resetLists();
+
+        assertCommandSuccess("clear", ClearCommand.MESSAGE_SUCCESS,
+                new ToDoList(), Collections.emptyList(), Task.ALL_CHAR);
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS + ClearCommand.MESSAGE_SUCCESS,
+                originalTDL, originalTDL.getFilteredFloats(), Task.FLOAT_CHAR);
+        assertCommandSuccess("redo", RedoCommand.MESSAGE_REDO_SUCCESS + ClearCommand.MESSAGE_SUCCESS,
+                new ToDoList(), Collections.emptyList(), Task.ALL_CHAR);
+    }
+
+    @Test
+    public void executeRedoAfterNewCommand_failure() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        UndoableCommand.resetLists();
+
+        logic.execute(helper.generateAddCommand(helper.generateFloatingTask(1)));
+        logic.execute("undo");
+        logic.execute(helper.generateAddCommand(helper.generateFloatingTask(2)));
+
+        assertCommandFailure("redo", RedoCommand.MESSAGE_REDO_FAILURE);
+    }
+
+    @Test
+    public void executeUndo_beyondHistorySize_failure() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        UndoableCommand.resetLists();
+        UndoableCommand.setUndoHistorySize(1);
+
+        logic.execute(helper.generateAddCommand(helper.generateFloatingTask(1)));
+        logic.execute(helper.generateAddCommand(helper.generateFloatingTask(2)));
+        logic.execute("undo");
+
+        assertCommandFailure("undo", UndoCommand.MESSAGE_UNDO_FAILURE);
+    }
+
+}
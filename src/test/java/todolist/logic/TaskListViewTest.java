@@ -0,0 +1,106 @@
+package todolist.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.Test;
+
+import todolist.commons.core.IncrementalSortedList;
+import todolist.commons.core.ObservedList;
+import todolist.logic.commands.exceptions.CommandException;
+import todolist.model.ToDoList;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.testutil.TestUtil;
+
+/**
+ * Checks that the task lists shown by the model are the same views, with the same observers of the tasks,
+ * however many commands are executed.
+ */
+public class TaskListViewTest extends LogicManagerTest {
+
+    private static final int ROUNDS = 50;
+
+    @Test
+    public void execute_manyCommands_sameViewsAndObserverCounts() throws Exception {
+        List<ObservedList<ReadOnlyTask>> views = getViews();
+        List<ObservedList<?>> sources = getSources(views, (ToDoList) model.getToDoList());
+        int[] observerCounts = getObserverCounts(sources);
+
+        for (int i = 0; i < ROUNDS; i++) {
+            execute("add Event " + i + " /from 1/5/2030 9:00 /to 1/5/2030 10:00");
+            execute("add Deadline " + i + " /to 2/5/2030 9:00");
+            execute("add Float " + i);
+            execute("select e1");
+            execute("edit d1 /venue " + i);
+            execute("done f1");
+            execute("find Task");
+            execute("list");
+            execute("delete c1");
+            for (Character taskChar : Arrays.asList(Task.DEADLINE_CHAR, Task.EVENT_CHAR, Task.FLOAT_CHAR,
+                    Task.COMPLETE_CHAR)) {
+                model.getListFromChar(taskChar);
+            }
+        }
+
+        assertEquals(views, getViews());
+        for (int i = 0; i < views.size(); i++) {
+            assertSame(views.get(i), getViews().get(i));
+        }
+        assertEquals(Arrays.toString(observerCounts), Arrays.toString(getObserverCounts(sources)));
+
+        // the views are kept sorted as the tasks change
+        ToDoList toDoList = (ToDoList) model.getToDoList();
+        assertSorted(toDoList.getFilteredDeadlines(), ReadOnlyTask.getDeadlineComparator(), views.get(0));
+        assertSorted(toDoList.getFilteredEvents(), ReadOnlyTask.getEventComparator(), views.get(1));
+        assertSorted(toDoList.getFilteredFloats(), ReadOnlyTask.getFloatingComparator(), views.get(2));
+        assertSorted(toDoList.getCompletedTasks(), ReadOnlyTask.getCompleteComparator(), views.get(3));
+    }
+
+    private static void assertSorted(List<ReadOnlyTask> tasks, Comparator<ReadOnlyTask> comparator,
+            List<ReadOnlyTask> view) {
+        List<ReadOnlyTask> expected = new ArrayList<>(tasks);
+        expected.sort(comparator);
+        assertEquals(expected, view);
+    }
+
+    private void execute(String command) {
+        try {
+            logic.execute(command);
+        } catch (CommandException e) {
+            throw new AssertionError(command + " should succeed", e);
+        }
+    }
+
+    private List<ObservedList<ReadOnlyTask>> getViews() {
+        return Arrays.asList(model.getFilteredDeadlineList(), model.getFilteredEventList(),
+                model.getFilteredFloatList(), model.getCompletedList());
+    }
+
+    /**
+     * Returns the views of the model, and the lists that they observe: the lists of the to-do list.
+     */
+    private static List<ObservedList<?>> getSources(List<ObservedList<ReadOnlyTask>> views, ToDoList toDoList) {
+        List<ObservedList<?>> sources = new ArrayList<>(views);
+        for (ObservedList<ReadOnlyTask> view : views) {
+            sources.add(((IncrementalSortedList<?>) view).getSource());
+        }
+        sources.addAll(Arrays.asList(toDoList.getTaskList(), toDoList.getFilteredDeadlines(),
+                toDoList.getFilteredEvents(), toDoList.getFilteredFloats(), toDoList.getCompletedTasks()));
+        return sources;
+    }
+
+    private static int[] getObserverCounts(List<ObservedList<?>> lists) throws ReflectiveOperationException {
+        int[] observerCounts = new int[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            observerCounts[i] = TestUtil.getObserverCount(lists.get(i));
+        }
+        return observerCounts;
+    }
+
+}
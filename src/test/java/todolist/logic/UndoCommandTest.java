@@ -1,12 +1,16 @@
 package todolist.logic;
 
+import static org.junit.Assert.assertEquals;
+
 import org.junit.Test;
 
+import todolist.commons.core.Messages;
 import todolist.logic.commands.AddCommand;
 import todolist.logic.commands.EditCommand;
 import todolist.logic.commands.UndoCommand;
 import todolist.model.ToDoList;
 import todolist.model.task.Task;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
 import todolist.model.task.Venue;
 
 //@@author A0122017Y
@@ -19,6 +23,39 @@ public class UndoCommandTest extends LogicManagerTest {
         assertCommandFailure("undo", expectedMessage);
     }
 
+    @Test
+    public void executeUndoCommandTaskChangedSince_keptToUndoLater() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task floating = helper.cs2103Float();
+        model.resetData(new ToDoList());
+        AddCommand.resetLists();
+        logic.execute(helper.generateAddCommand(floating));
+
+        // taken out by something other than a command since it was added
+        model.deleteTask(floating);
+        assertCommandFailure("undo", UndoCommand.MESSAGE_UNDO_CONFLICT
+                + new TaskNotFoundException().getMessage());
+
+        model.addTask(new Task(floating));
+        assertCommandSuccess("undo", UndoCommand.MESSAGE_UNDO_SUCCESS
+                + String.format(AddCommand.MESSAGE_SUCCESS, floating), new ToDoList(),
+                new ToDoList().getFilteredFloats(), Task.FLOAT_CHAR);
+    }
+
+    @Test
+    public void executeCommandFailed_changesNoLongerRecorded() throws Exception {
+        TestDataHelper helper = new TestDataHelper();
+        Task floating = helper.cs2103Float();
+        model.resetData(new ToDoList());
+        logic.execute(helper.generateAddCommand(floating));
+        assertCommandFailure(helper.generateAddCommand(floating), AddCommand.MESSAGE_DUPLICATE_TASK);
+        assertCommandFailure("delete e9", Messages.MESSAGE_INVALID_TASK_DISPLAYED_INDEX);
+
+        // made by something other than a command, after the commands that failed
+        model.addTask(helper.cs2103Deadline());
+        assertEquals(0, model.stopRecordingChanges().size());
+    }
+
     @Test
     public void executeMultipleUndoCommand() throws Exception {
      // setup expectations
@@ -0,0 +1,84 @@
+package todolist.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.commons.core.EventsCenter;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+
+public class DeadlineSchedulerTest {
+
+    private final BlockingQueue<Runnable> modelThreadTasks = new LinkedBlockingQueue<>();
+    private ModelManager model;
+    private DeadlineScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        model = new ModelManager();
+        scheduler = new DeadlineScheduler(model, modelThreadTasks::add);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.stop();
+        EventsCenter.clearSubscribers();
+    }
+
+    @Test
+    public void start_overdueTask_completedStraightAway() throws Exception {
+        model.addTask(createDeadline("overdue", LocalDateTime.now().minusDays(1)));
+        model.addTask(createDeadline("later", LocalDateTime.now().plusDays(1)));
+        scheduler.start();
+
+        runNextOnModelThread();
+
+        assertTrue(getTask("overdue").isTaskCompleted());
+        assertFalse(getTask("later").isTaskCompleted());
+    }
+
+    @Test
+    public void taskAdded_deadlinePasses_completedWhenItPasses() throws Exception {
+        scheduler.start();
+        LocalDateTime deadline = LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(300));
+        model.addTask(createDeadline("soon", deadline));
+        assertFalse(getTask("soon").isTaskCompleted());
+
+        runNextOnModelThread();
+
+        assertFalse(LocalDateTime.now().isBefore(deadline));
+        assertTrue(getTask("soon").isTaskCompleted());
+        assertEquals(0, modelThreadTasks.size());
+    }
+
+    private void runNextOnModelThread() throws InterruptedException {
+        Runnable completion = modelThreadTasks.poll(5, TimeUnit.SECONDS);
+        assertNotNull("The overdue tasks were not completed in time", completion);
+        completion.run();
+    }
+
+    private ReadOnlyTask getTask(String title) {
+        return model.getToDoList().getTaskList().stream()
+                .filter(task -> task.getTitle().toString().equals(title))
+                .findFirst().get();
+    }
+
+    private static Task createDeadline(String title, LocalDateTime endTime) throws Exception {
+        return new Task(new Title(title), null, null, new EndTime(endTime), null, null, new UniqueTagList());
+    }
+
+}
@@ -0,0 +1,155 @@
+package todolist.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Test;
+
+import todolist.commons.core.EventsCenter;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.testutil.ListChangeRecorder;
+import todolist.testutil.TaskBuilder;
+
+/**
+ * Changes a model from many threads at once, while other threads query it.
+ */
+public class ModelManagerConcurrencyTest {
+
+    private static final int WRITERS = 4;
+    private static final int READERS = 4;
+    private static final int PAIRS_PER_WRITER = 150;
+
+    private final ExecutorService threads = Executors.newFixedThreadPool(WRITERS + READERS);
+
+    @After
+    public void tearDown() {
+        threads.shutdownNow();
+        EventsCenter.clearSubscribers();
+    }
+
+    /**
+     * Each writer adds pairs of tasks in transactions, completing the first of each pair, and deletes every third
+     * pair in another. Readers must only ever see whole pairs, with their first task completed.
+     */
+    @Test
+    public void transactions_manyWritersAndReaders_readersOnlySeeCommittedChanges() throws Exception {
+        ModelManager model = new ModelManager();
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean isWriting = new AtomicBoolean(true);
+
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int writer = w;
+            writers.add(threads.submit(() -> {
+                start.await();
+                for (int i = 0; i < PAIRS_PER_WRITER; i++) {
+                    Task first = new TaskBuilder().withTitle("Pair " + writer + " " + i + " a").buildTask();
+                    Task second = new TaskBuilder().withTitle("Pair " + writer + " " + i + " b").buildTask();
+                    model.beginTransaction();
+                    model.addTask(first);
+                    model.addTask(second);
+                    model.completeTask(first);
+                    model.commitTransaction();
+                    if (i % 3 == 0) {
+                        model.beginTransaction();
+                        model.deleteTask(model.getToDoList().getTaskList().stream()
+                                .filter(task -> task.getTitle().equals(first.getTitle())).findFirst().get());
+                        model.deleteTask(second);
+                        model.commitTransaction();
+                    }
+                }
+                return null;
+            }));
+        }
+        List<Future<Integer>> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            readers.add(threads.submit(() -> {
+                start.await();
+                int reads = 0;
+                do {
+                    assertWholePairsCompleted(model.getToDoListSnapshot());
+                    model.getEarliestDeadline();
+                    reads++;
+                } while (isWriting.get());
+                return reads;
+            }));
+        }
+
+        start.countDown();
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        isWriting.set(false);
+        for (Future<Integer> reader : readers) {
+            assertTrue(reader.get(60, TimeUnit.SECONDS) > 0);
+        }
+
+        int pairsKept = PAIRS_PER_WRITER - (PAIRS_PER_WRITER + 2) / 3;
+        assertEquals(WRITERS * pairsKept * 2, model.getToDoListSnapshot().getTaskList().size());
+        assertWholePairsCompleted(model.getToDoListSnapshot());
+    }
+
+    @Test
+    public void submitChanges_manyThreads_listsChangedOnModelThreadOnly() throws Exception {
+        ExecutorService modelThread = Executors.newSingleThreadExecutor();
+        try {
+            Thread modelThreadItself = modelThread.submit(Thread::currentThread).get();
+            ModelManager model = new ModelManager(new ToDoList(), new UserPrefs(), modelThread);
+            List<Thread> publishingThreads = Collections.synchronizedList(new ArrayList<>());
+            new ListChangeRecorder<ReadOnlyTask>(model.getAllTaskList()) {
+                @Override
+                public void added(int index, ReadOnlyTask element) {
+                    publishingThreads.add(Thread.currentThread());
+                }
+            };
+
+            List<Future<CompletableFuture<Void>>> submissions = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                Task task = new TaskBuilder().withTitle("Submitted " + i).buildTask();
+                submissions.add(threads.submit(() -> model.submitChanges(changed -> changed.addTask(task))));
+            }
+            for (Future<CompletableFuture<Void>> submission : submissions) {
+                submission.get(60, TimeUnit.SECONDS).get(60, TimeUnit.SECONDS);
+            }
+
+            assertEquals(200, model.getToDoListSnapshot().getTaskList().size());
+            assertEquals(200, publishingThreads.size());
+            assertTrue(publishingThreads.stream().allMatch(modelThreadItself::equals));
+        } finally {
+            modelThread.shutdownNow();
+        }
+    }
+
+    /**
+     * Asserts that {@code snapshot} only holds whole pairs of tasks, the first of which is completed.
+     */
+    private static void assertWholePairsCompleted(ReadOnlyToDoList snapshot) {
+        Map<String, Integer> tasksOfPair = new HashMap<>();
+        for (ReadOnlyTask task : snapshot.getTaskList()) {
+            String title = task.getTitle().toString();
+            if (title.endsWith(" a")) {
+                assertTrue(title + " should be completed", task.isTaskCompleted());
+            }
+            tasksOfPair.merge(title.substring(0, title.length() - 2), 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> pair : tasksOfPair.entrySet()) {
+            assertEquals(pair.getKey() + " should be whole", 2, (int) pair.getValue());
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package todolist.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import todolist.commons.core.EventsCenter;
+import todolist.commons.events.model.TaskChange;
+import todolist.commons.events.model.ToDoListChangedEvent;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.model.task.UniqueTaskList;
+import todolist.testutil.TaskBuilder;
+
+public class ModelManagerTest {
+
+    private final List<ToDoListChangedEvent> changedEvents = new ArrayList<>();
+    private ModelManager model;
+    private Task lunch;
+
+    @Before
+    public void setUp() throws Exception {
+        model = new ModelManager();
+        lunch = new TaskBuilder().withTitle("Lunch").withTags("food").buildTask();
+        model.addTask(lunch);
+        EventsCenter.getInstance().registerHandler(this);
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+    }
+
+    @Subscribe
+    public void collectToDoListChangedEvent(ToDoListChangedEvent event) {
+        changedEvents.add(event);
+    }
+
+    @Test
+    public void commitTransaction_changesMade_oneEventWithAllChanges() throws Exception {
+        model.beginTransaction();
+        model.addTask(new TaskBuilder().withTitle("Dinner").buildTask());
+        model.updateTask(lunch, new TaskBuilder().withTitle("Brunch").withTags("food").buildTask());
+        model.completeTask(lunch);
+        assertEquals(0, changedEvents.size());
+
+        model.commitTransaction();
+
+        assertEquals(1, changedEvents.size());
+        assertEquals(3, changedEvents.get(0).changes.size());
+        assertEquals(2, changedEvents.get(0).data.getTaskList().size());
+    }
+
+    @Test
+    public void commitTransaction_noChanges_noEvent() {
+        model.beginTransaction();
+        model.commitTransaction();
+        assertEquals(0, changedEvents.size());
+    }
+
+    @Test
+    public void rollbackTransaction_changesMade_reverted() throws Exception {
+        ToDoList original = new ToDoList(model.getToDoList());
+        model.beginTransaction();
+        model.addTask(new TaskBuilder().withTitle("Dinner").withTags("meals").buildTask());
+        model.updateTask(lunch, new TaskBuilder().withTitle("Brunch").withTags("food").buildTask());
+        model.deleteTask(lunch);
+
+        model.rollbackTransaction();
+
+        assertEquals(0, changedEvents.size());
+        assertEquals(original, model.getToDoList());
+        List<ReadOnlyTask> tasks = model.getToDoList().getTaskList();
+        assertEquals("Lunch", tasks.get(0).getTitle().toString());
+    }
+
+    @Test
+    public void recordingChanges_transactionCommitted_changesRecorded() throws Exception {
+        model.startRecordingChanges();
+        model.beginTransaction();
+        model.addTask(new TaskBuilder().withTitle("Dinner").buildTask());
+        model.deleteTask(lunch);
+        model.commitTransaction();
+
+        assertEquals(2, model.stopRecordingChanges().size());
+    }
+
+    @Test
+    public void changeEvent_tasksChanged_deltasOfEachKind() throws Exception {
+        Task dinner = new TaskBuilder().withTitle("Dinner").buildTask();
+        model.beginTransaction();
+        model.addTask(dinner);
+        model.completeTask(dinner);
+        model.updateTask(lunch, new TaskBuilder().withTitle("Brunch").withTags("food").buildTask());
+        model.commitTransaction();
+
+        ToDoListChangedEvent event = changedEvents.get(0);
+        assertEquals(1, event.getTaskCountChange());
+        assertEquals(1, event.getCompletedCountChange());
+        List<TaskChange> updates = event.getChanges(TaskChange.Kind.UPDATED);
+        assertEquals(1, updates.size());
+        assertEquals(0, updates.get(0).position);
+        assertEquals("Lunch", updates.get(0).before.getTitle().toString());
+        assertEquals("Brunch", updates.get(0).after.getTitle().toString());
+        assertEquals(1, event.getChanges(TaskChange.Kind.COMPLETED).get(0).position);
+    }
+
+    @Test
+    public void updateTask_completedTask_completedCountUnchanged() throws Exception {
+        model.completeTask(lunch);
+        changedEvents.clear();
+
+        model.updateTask(lunch, new TaskBuilder().withTitle("Brunch").withTags("food").buildTask());
+
+        ToDoListChangedEvent event = changedEvents.get(0);
+        assertEquals(0, event.getCompletedCountChange());
+        TaskChange update = event.getChanges(TaskChange.Kind.UPDATED).get(0);
+        assertTrue(update.before.isTaskCompleted());
+        assertTrue(update.after.isTaskCompleted());
+        assertEquals("Lunch", update.before.getTitle().toString());
+        assertEquals("Brunch", update.after.getTitle().toString());
+    }
+
+    @Test
+    public void endBatch_transactionsCommittedAndRolledBack_oneEventWithCommittedChanges() throws Exception {
+        model.beginBatch();
+        model.beginTransaction();
+        model.addTask(new TaskBuilder().withTitle("Dinner").buildTask());
+        model.commitTransaction();
+        model.beginTransaction();
+        model.deleteTask(lunch);
+        model.rollbackTransaction();
+        model.completeTask(lunch);
+        assertEquals(0, changedEvents.size());
+
+        model.endBatch();
+
+        assertEquals(1, changedEvents.size());
+        assertEquals(2, changedEvents.get(0).changes.size());
+        assertEquals(2, changedEvents.get(0).data.getTaskList().size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void beginBatch_batchInProgress_throwsIllegalStateException() {
+        model.beginBatch();
+        model.beginBatch();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void endBatch_noBatch_throwsIllegalStateException() {
+        model.endBatch();
+    }
+
+    @Test
+    public void undoChanges_oneChangeCannotBeReverted_noneReverted() throws Exception {
+        Task dinner = new TaskBuilder().withTitle("Dinner").withTags("meals").buildTask();
+        Task brunch = new TaskBuilder().withTitle("Brunch").withTags("food").buildTask();
+        model.startRecordingChanges();
+        model.addTask(dinner);
+        model.updateTask(lunch, brunch);
+        List<TaskChange> changes = model.stopRecordingChanges();
+        model.deleteTask(dinner);
+        ToDoList before = new ToDoList(model.getToDoList());
+        changedEvents.clear();
+
+        try {
+            model.undoChanges(changes);
+            fail("The dinner added is no longer there to be taken out");
+        } catch (UniqueTaskList.TaskNotFoundException e) {
+            assertEquals(before, model.getToDoList());
+            assertEquals(0, changedEvents.size());
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void beginTransaction_transactionInProgress_throwsIllegalStateException() {
+        model.beginTransaction();
+        model.beginTransaction();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void commitTransaction_noTransaction_throwsIllegalStateException() {
+        model.commitTransaction();
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void rollbackTransaction_noTransaction_throwsIllegalStateException() {
+        model.rollbackTransaction();
+    }
+
+}
@@ -15,8 +15,11 @@ import org.junit.rules.ExpectedException;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import todolist.model.tag.Tag;
+import todolist.model.tag.UniqueTagList;
 import todolist.model.task.ReadOnlyTask;
 import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.Venue;
 import todolist.testutil.TypicalTestTasks;
 
 public class ToDoListTest {
@@ -50,7 +53,7 @@ public class ToDoListTest {
         TypicalTestTasks td = new TypicalTestTasks();
         // Repeat td.alice twice
         List<Task> newTasks = Arrays.asList(new Task(td.cs2103Tutorial), new Task(td.cs2103Tutorial));
-        List<Tag> newTags = td.cs2103Tutorial.getTags().asObservableList();
+        List<Tag> newTags = td.cs2103Tutorial.getTags().asList();
         ToDoListStub newData = new ToDoListStub(newTasks, newTags);
 
         thrown.expect(AssertionError.class);
@@ -70,6 +73,54 @@ public class ToDoListTest {
         todooList.resetData(newData);
     }
 
+    @Test
+    public void snapshot_toDoListChangedAfterwards_snapshotUnchanged() throws Exception {
+        todooList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        ReadOnlyToDoList snapshot = todooList.snapshot();
+        List<Task> tasksBefore = copyOf(todooList.getTaskList());
+        List<Tag> tagsBefore = new ArrayList<>(todooList.getTagList());
+
+        changeEveryWay(todooList);
+
+        assertEquals(tasksBefore, snapshot.getTaskList());
+        assertEquals(tagsBefore, snapshot.getTagList());
+    }
+
+    @Test
+    public void snapshot_toDoListChangedSinceLastSnapshot_followsChanges() throws Exception {
+        todooList.resetData(new TypicalTestTasks().getTypicalTaskList());
+        todooList.snapshot();
+
+        changeEveryWay(todooList);
+
+        ReadOnlyToDoList snapshot = todooList.snapshot();
+        assertEquals(copyOf(todooList.getTaskList()), snapshot.getTaskList());
+        assertEquals(todooList.getTagList(), snapshot.getTagList());
+        assertEquals(todooList, new ToDoList(snapshot));
+    }
+
+    /**
+     * Adds, edits, completes and removes a task of {@code toDoList}, which must have at least three tasks.
+     */
+    private static void changeEveryWay(ToDoList toDoList) throws Exception {
+        Task added = new Task(toDoList.getTaskList().get(0));
+        added.setTitle(new Title("Snapshot test task"));
+        added.setTags(new UniqueTagList("snapshot"));
+        toDoList.addTask(added);
+
+        Task edited = new Task(toDoList.getTaskList().get(0));
+        edited.setVenue(new Venue("Somewhere else"));
+        toDoList.updateTask(toDoList.getTaskList().get(0), edited);
+        toDoList.completeTask(toDoList.getTaskList().get(1));
+        toDoList.removeTask(toDoList.getTaskList().get(2));
+    }
+
+    private static List<Task> copyOf(List<ReadOnlyTask> tasks) {
+        List<Task> copies = new ArrayList<>();
+        tasks.forEach(task -> copies.add(new Task(task)));
+        return copies;
+    }
+
     /**
      * A stub ReadOnlyToDoList whose tasks and tags lists can violate interface constraints.
      */
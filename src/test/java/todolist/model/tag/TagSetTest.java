@@ -0,0 +1,58 @@
+package todolist.model.tag;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+public class TagSetTest {
+
+    @Test
+    public void of_equalTags_heldOnce() throws Exception {
+        TagSet tags = TagSet.of(Arrays.asList(new Tag("friends"), new Tag("friends"), new Tag("work")));
+        assertEquals(2, tags.size());
+        assertTrue(tags.contains(new Tag("friends")));
+        assertTrue(tags.contains(new Tag("work")));
+        assertFalse(tags.contains(new Tag("Friends")));
+    }
+
+    @Test
+    public void of_noTags_empty() {
+        TagSet tags = TagSet.of(Collections.emptyList());
+        assertTrue(tags.isEmpty());
+        assertSame(TagSet.empty(), tags);
+        assertFalse(tags.iterator().hasNext());
+    }
+
+    @Test
+    public void iterator_manyTags_sameTagObjectsInOrderFirstNamed() throws Exception {
+        List<Tag> named = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            named.add(new Tag("tagSetTest" + i));
+        }
+        List<Tag> reversed = new ArrayList<>(named);
+        Collections.reverse(reversed);
+
+        List<Tag> visited = new ArrayList<>();
+        TagSet.of(reversed).forEach(visited::add);
+        assertEquals(named, visited);
+        assertSame(visited.get(0), TagSet.of(Collections.singletonList(new Tag("tagSetTest0"))).iterator().next());
+    }
+
+    @Test
+    public void equals_sameTagsInAnyOrder_equal() throws Exception {
+        TagSet tags = TagSet.of(Arrays.asList(new Tag("a1"), new Tag("b2")));
+        assertEquals(tags, TagSet.of(Arrays.asList(new Tag("b2"), new Tag("a1"))));
+        assertEquals(tags.hashCode(), TagSet.of(Arrays.asList(new Tag("b2"), new Tag("a1"))).hashCode());
+        assertNotEquals(tags, TagSet.of(Collections.singletonList(new Tag("a1"))));
+    }
+
+}
@@ -0,0 +1,80 @@
+package todolist.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.testutil.TaskBuilder;
+
+public class TaskDeadlineIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2017, 4, 17, 9, 0);
+
+    private UniqueTaskList uniqueTaskList;
+    private Task deadline;
+    private Task event;
+    private Task laterDeadline;
+    private Task floating;
+
+    @Before
+    public void setUp() throws Exception {
+        uniqueTaskList = new UniqueTaskList();
+        deadline = new TaskBuilder().withTitle("deadline").withEndTime(MONDAY.plusDays(1)).buildTask();
+        event = new TaskBuilder().withTitle("event").withStartTime(MONDAY).withEndTime(MONDAY.plusHours(2)).buildTask();
+        laterDeadline = new TaskBuilder().withTitle("later deadline").withEndTime(MONDAY.plusDays(3)).buildTask();
+        floating = new TaskBuilder().withTitle("floating").buildTask();
+        for (Task task : Arrays.asList(deadline, event, laterDeadline, floating)) {
+            uniqueTaskList.add(task);
+        }
+    }
+
+    @Test
+    public void getEarliestEndTime_tasks_earliestEndTime() {
+        assertEquals(Optional.of(MONDAY.plusHours(2)), getDeadlineIndex().getEarliestEndTime());
+    }
+
+    @Test
+    public void getTasksEndingBefore_time_tasksEndedBeforeItEarliestFirst() {
+        assertEquals(Collections.emptyList(), getDeadlineIndex().getTasksEndingBefore(MONDAY.plusHours(2)));
+        assertEquals(Arrays.asList(event, deadline), getDeadlineIndex().getTasksEndingBefore(MONDAY.plusDays(2)));
+    }
+
+    @Test
+    public void autoComplete_time_onlyTasksEndedBeforeItCompleted() {
+        assertEquals(Arrays.asList(event, deadline), uniqueTaskList.autoComplete(MONDAY.plusDays(2)));
+
+        assertTrue(event.isTaskCompleted());
+        assertTrue(deadline.isTaskCompleted());
+        assertFalse(laterDeadline.isTaskCompleted());
+        assertEquals(Optional.of(MONDAY.plusDays(3)), getDeadlineIndex().getEarliestEndTime());
+        assertEquals(Collections.emptyList(), uniqueTaskList.autoComplete(MONDAY.plusDays(2)));
+    }
+
+    @Test
+    public void updateTask_newEndTime_indexedByNewEndTime() throws Exception {
+        uniqueTaskList.updateTask(event, new TaskBuilder().withTitle("event").withStartTime(MONDAY)
+                .withEndTime(MONDAY.plusDays(5)).buildTask());
+        assertEquals(Optional.of(MONDAY.plusDays(1)), getDeadlineIndex().getEarliestEndTime());
+    }
+
+    @Test
+    public void remove_allTasksWithEndTimes_noEarliestEndTime() throws Exception {
+        for (Task task : Arrays.asList(deadline, event, laterDeadline)) {
+            uniqueTaskList.remove(task);
+        }
+        assertEquals(Optional.empty(), getDeadlineIndex().getEarliestEndTime());
+    }
+
+    private TaskDeadlineIndex getDeadlineIndex() {
+        return uniqueTaskList.getDeadlineIndex();
+    }
+
+}
@@ -0,0 +1,65 @@
+package todolist.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.model.tag.Tag;
+import todolist.testutil.TaskBuilder;
+
+public class TaskTagIndexTest {
+
+    private UniqueTaskList uniqueTaskList;
+    private Task revision;
+    private Task essay;
+    private Task dinner;
+
+    @Before
+    public void setUp() throws Exception {
+        uniqueTaskList = new UniqueTaskList();
+        revision = new TaskBuilder().withTitle("Revision").withTags("exams", "school").buildTask();
+        essay = new TaskBuilder().withTitle("Essay").withTags("school").buildTask();
+        dinner = new TaskBuilder().withTitle("Dinner").buildTask();
+        for (Task task : Arrays.asList(revision, essay, dinner)) {
+            uniqueTaskList.add(task);
+        }
+    }
+
+    @Test
+    public void getTasksTagged_tag_tasksWithThatTag() throws Exception {
+        assertEquals(asSet(revision, essay), getTasksTagged("school"));
+        assertEquals(asSet(revision), getTasksTagged("exams"));
+        assertEquals(Collections.emptySet(), getTasksTagged("School"));
+        assertEquals(Collections.emptySet(), getTasksTagged("friends"));
+    }
+
+    @Test
+    public void updateTask_newTags_indexedByNewTagsOnly() throws Exception {
+        uniqueTaskList.updateTask(revision, new TaskBuilder().withTitle("Revision").withTags("friends").buildTask());
+
+        assertEquals(asSet(essay), getTasksTagged("school"));
+        assertEquals(Collections.emptySet(), getTasksTagged("exams"));
+        assertEquals(asSet(revision), getTasksTagged("friends"));
+    }
+
+    @Test
+    public void remove_task_noLongerIndexed() throws Exception {
+        uniqueTaskList.remove(essay);
+        assertEquals(asSet(revision), getTasksTagged("school"));
+    }
+
+    private Set<ReadOnlyTask> getTasksTagged(String tagName) throws Exception {
+        return new HashSet<>(uniqueTaskList.getTagIndex().getTasksTagged(new Tag(tagName)));
+    }
+
+    private static Set<ReadOnlyTask> asSet(ReadOnlyTask... tasks) {
+        return new HashSet<>(Arrays.asList(tasks));
+    }
+
+}
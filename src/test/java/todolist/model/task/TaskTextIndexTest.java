@@ -0,0 +1,100 @@
+package todolist.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.testutil.TaskBuilder;
+
+public class TaskTextIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2017, 4, 17, 9, 0);
+
+    private UniqueTaskList uniqueTaskList;
+    private Task meeting;
+    private Task report;
+    private Task lunch;
+
+    @Before
+    public void setUp() throws Exception {
+        uniqueTaskList = new UniqueTaskList();
+        meeting = new TaskBuilder().withTitle("Project meeting").withVenue("Meeting Room 3")
+                .withEndTime(MONDAY).buildTask();
+        report = new TaskBuilder().withTitle("Write report").withDescription("Quarterly figures")
+                .withEndTime(MONDAY.plusDays(1)).buildTask();
+        lunch = new TaskBuilder().withTitle("Lunch").withVenue("Canteen")
+                .withDescription("with the project team").buildTask();
+        for (Task task : Arrays.asList(meeting, report, lunch)) {
+            uniqueTaskList.add(task);
+        }
+    }
+
+    @Test
+    public void getTasksContaining_keyword_tasksWithAnyDetailContainingIt() {
+        assertEquals(asSet(meeting, lunch), getTasksContaining("project"));
+        assertEquals(asSet(meeting), getTasksContaining("ROOM"));
+        assertEquals(asSet(report), getTasksContaining("terl"));
+        assertEquals(Collections.emptySet(), getTasksContaining("projector"));
+    }
+
+    @Test
+    public void getTasksContaining_keywordAcrossDetails_noTasks() {
+        // "meeting" ends the title and "At: " begins the venue, but a keyword is matched within one detail
+        assertEquals(Collections.emptySet(), getTasksContaining("meetingat"));
+    }
+
+    @Test
+    public void getTasksContaining_keywordInLabelOfDetail_tasksWithThatDetail() {
+        assertEquals(asSet(meeting, lunch), getTasksContaining("at: "));
+        assertEquals(asSet(report, lunch), getTasksContaining("description"));
+    }
+
+    @Test
+    public void getTasksContaining_keywordShorterThanTrigram_tasksContainingIt() {
+        assertEquals(asSet(lunch), getTasksContaining("nt"));
+        assertEquals(asSet(meeting, report, lunch), getTasksContaining("e"));
+    }
+
+    @Test
+    public void updateTask_newTitle_foundByNewTitleOnly() throws Exception {
+        int version = getTextIndex().getVersion();
+        uniqueTaskList.updateTask(lunch, new TaskBuilder().withTitle("Dinner").withVenue("Canteen").buildTask());
+
+        assertEquals(asSet(meeting), getTasksContaining("project"));
+        assertEquals(asSet(lunch), getTasksContaining("dinner"));
+        assertEquals(Collections.emptySet(), getTasksContaining("lunch"));
+        assertNotEquals(version, getTextIndex().getVersion());
+    }
+
+    @Test
+    public void remove_manyTasks_remainingTasksStillFound() throws Exception {
+        for (int i = 0; i < 100; i++) {
+            Task task = new TaskBuilder().withTitle("Project task " + i).buildTask();
+            uniqueTaskList.add(task);
+            uniqueTaskList.remove(task);
+        }
+        assertEquals(asSet(meeting, lunch), getTasksContaining("project"));
+        assertEquals(asSet(lunch), getTasksContaining("canteen"));
+    }
+
+    private Set<ReadOnlyTask> getTasksContaining(String keyword) {
+        return new HashSet<>(getTextIndex().getTasksContaining(keyword));
+    }
+
+    private TaskTextIndex getTextIndex() {
+        return uniqueTaskList.getTextIndex();
+    }
+
+    private static Set<ReadOnlyTask> asSet(ReadOnlyTask... tasks) {
+        return new HashSet<>(Arrays.asList(tasks));
+    }
+
+}
@@ -0,0 +1,113 @@
+package todolist.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import todolist.testutil.TaskBuilder;
+
+public class TaskTimeIndexTest {
+
+    private static final LocalDateTime MONDAY = LocalDateTime.of(2017, 4, 17, 9, 0);
+
+    private UniqueTaskList uniqueTaskList;
+    private Task deadline;
+    private Task event;
+    private Task longEvent;
+    private Task floatingWithStart;
+    private Task floating;
+
+    @Before
+    public void setUp() throws Exception {
+        uniqueTaskList = new UniqueTaskList();
+        deadline = new TaskBuilder().withTitle("deadline").withEndTime(MONDAY.plusDays(1)).buildTask();
+        event = new TaskBuilder().withTitle("event").withStartTime(MONDAY).withEndTime(MONDAY.plusHours(2)).buildTask();
+        longEvent = new TaskBuilder().withTitle("long event").withStartTime(MONDAY.plusDays(1))
+                .withEndTime(MONDAY.plusDays(5)).buildTask();
+        floatingWithStart = new TaskBuilder().withTitle("floating with start")
+                .withStartTime(MONDAY.plusDays(2)).buildTask();
+        floating = new TaskBuilder().withTitle("floating").buildTask();
+        for (Task task : Arrays.asList(deadline, event, longEvent, floatingWithStart, floating)) {
+            uniqueTaskList.add(task);
+        }
+    }
+
+    @Test
+    public void getTasksWithin_days_returnsTasksWithinTheDays() {
+        assertTasks(getTasksWithin(0, 0), event);
+        assertTasks(getTasksWithin(0, 2), event, deadline, floatingWithStart);
+        assertTasks(getTasksWithin(1, 5), deadline, longEvent, floatingWithStart);
+        assertTasks(getTasksWithin(Long.MIN_VALUE, Long.MAX_VALUE), event, deadline, longEvent, floatingWithStart);
+        assertTasks(getTasksWithin(3, 4));
+    }
+
+    @Test
+    public void getTasksOnDay_day_returnsTasksByStartOrDeadline() {
+        assertTasks(getTasksOnDay(0), event);
+        assertTasks(getTasksOnDay(1), deadline, longEvent);
+        assertTasks(getTasksOnDay(5));
+    }
+
+    @Test
+    public void completeTask_task_removedFromAndReturnedToIndex() {
+        int version = uniqueTaskList.getTimeIndex().getVersion();
+        uniqueTaskList.completeTask(deadline);
+        assertNotEquals(version, uniqueTaskList.getTimeIndex().getVersion());
+        assertTasks(getTasksOnDay(1), longEvent);
+
+        uniqueTaskList.completeTask(deadline);
+        assertTasks(getTasksOnDay(1), deadline, longEvent);
+    }
+
+    @Test
+    public void updateTask_newTime_indexedByNewTime() throws Exception {
+        Task movedEvent = new TaskBuilder().withTitle("event").withStartTime(MONDAY.plusDays(3))
+                .withEndTime(MONDAY.plusDays(3).plusHours(2)).buildTask();
+        uniqueTaskList.updateTask(event, movedEvent);
+
+        assertTasks(getTasksOnDay(0));
+        assertEquals(1, getTasksOnDay(3).size());
+        assertTrue(getTasksOnDay(3).iterator().next().isSameStateAs(movedEvent));
+    }
+
+    @Test
+    public void remove_task_removedFromIndex() throws Exception {
+        uniqueTaskList.remove(longEvent);
+        assertTasks(getTasksOnDay(1), deadline);
+    }
+
+    @Test
+    public void setTasks_replacement_indexRebuilt() throws Exception {
+        uniqueTaskList.setTasks(Arrays.asList(floating, longEvent));
+        assertEquals(1, getTasksWithin(Long.MIN_VALUE, Long.MAX_VALUE).size());
+        assertTrue(getTasksOnDay(1).iterator().next().isSameStateAs(longEvent));
+    }
+
+    private Set<ReadOnlyTask> getTasksWithin(long fromDay, long toDay) {
+        return uniqueTaskList.getTimeIndex().getTasksWithin(dayAfterMonday(fromDay), dayAfterMonday(toDay));
+    }
+
+    private Set<ReadOnlyTask> getTasksOnDay(long day) {
+        return uniqueTaskList.getTimeIndex().getTasksOnDay(dayAfterMonday(day));
+    }
+
+    private static long dayAfterMonday(long days) {
+        if (days == Long.MIN_VALUE || days == Long.MAX_VALUE) {
+            return days;
+        }
+        return new StartTime(MONDAY).getEpochDay() + days;
+    }
+
+    private static void assertTasks(Set<ReadOnlyTask> actual, ReadOnlyTask... expected) {
+        assertEquals(new HashSet<>(Arrays.asList(expected)), new HashSet<>(actual));
+    }
+
+}
@@ -1,8 +1,11 @@
 package todolist.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDateTime;
+
 import org.junit.Test;
 
 import todolist.commons.exceptions.IllegalValueException;
@@ -38,4 +41,63 @@ public class TimeTest {
         assertFalse(TimeUtil.isValidDuration(start3, end2));
     }
 
+    @Test
+    public void compareTo_startAndEndTimes_comparedByTime() {
+        LocalDateTime time = LocalDateTime.of(2017, 4, 17, 12, 0);
+        StartTime start = new StartTime(time);
+        EndTime end = new EndTime(time.plusNanos(1));
+
+        assertTrue(start.compareTo(end) < 0);
+        assertTrue(end.compareTo(start) > 0);
+        assertEquals(0, start.compareTo(new EndTime(time)));
+    }
+
+    @Test
+    public void isSameDay_endTimes_comparedByDay() {
+        EndTime end = new EndTime(LocalDateTime.of(2017, 4, 17, 0, 0));
+
+        assertTrue(end.isSameDay(new EndTime(LocalDateTime.of(2017, 4, 17, 23, 59))));
+        assertTrue(end.isSameDay(new StartTime(LocalDateTime.of(2017, 4, 17, 12, 0))));
+        assertFalse(end.isSameDay(new EndTime(LocalDateTime.of(2017, 4, 16, 23, 59))));
+        assertFalse(end.isSameDay(new EndTime(LocalDateTime.of(2018, 4, 17, 0, 0))));
+        assertTrue(new EndTime(LocalDateTime.of(1969, 12, 31, 23, 0))
+                .isSameDay(new EndTime(LocalDateTime.of(1969, 12, 31, 0, 0)))); // before the epoch
+    }
+
+    @Test
+    public void isBefore_sameDay_treatedAsEqual() {
+        StartTime morning = new StartTime(LocalDateTime.of(2017, 4, 17, 9, 0));
+        StartTime evening = new StartTime(LocalDateTime.of(2017, 4, 17, 21, 0));
+        StartTime nextDay = new StartTime(LocalDateTime.of(2017, 4, 18, 9, 0));
+
+        assertTrue(evening.isBefore(morning));
+        assertTrue(morning.isAfter(evening));
+        assertTrue(morning.isBefore(nextDay));
+        assertFalse(nextDay.isBefore(morning));
+        assertFalse(morning.isAfter(nextDay));
+    }
+
+    @Test
+    public void epochTime_sameTime_equalAndSameValue() throws IllegalValueException {
+        LocalDateTime time = LocalDateTime.of(2017, 4, 17, 12, 0, 30, 123456789);
+        StartTime fromTime = new StartTime(time);
+        StartTime fromEpochTime = new StartTime(fromTime.getEpochSecond(), fromTime.getNano());
+
+        assertEquals(fromTime, fromEpochTime);
+        assertEquals(fromTime.hashCode(), fromEpochTime.hashCode());
+        assertEquals(time, fromEpochTime.getTimeValue());
+        assertEquals(fromTime.toString(), fromEpochTime.toString());
+        assertEquals(new EndTime(time), new EndTime(fromTime.getEpochSecond(), fromTime.getNano()));
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void epochTime_invalidNano_exceptionThrown() throws IllegalValueException {
+        new EndTime(0, Time.NANOS_PER_SECOND);
+    }
+
+    @Test(expected = IllegalValueException.class)
+    public void epochTime_outOfRange_exceptionThrown() throws IllegalValueException {
+        new StartTime(Long.MAX_VALUE, 0);
+    }
+
 }
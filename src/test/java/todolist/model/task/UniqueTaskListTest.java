@@ -0,0 +1,194 @@
+package todolist.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import todolist.model.task.ReadOnlyTask.Category;
+import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.UniqueTaskList.TaskNotFoundException;
+import todolist.testutil.ListChangeRecorder;
+import todolist.testutil.TypicalTestTasks;
+
+public class UniqueTaskListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private UniqueTaskList uniqueTaskList;
+    private TypicalTestTasks td;
+
+    @Before
+    public void setUp() throws Exception {
+        uniqueTaskList = new UniqueTaskList();
+        td = new TypicalTestTasks();
+        uniqueTaskList.add(new Task(td.cs2103Tutorial));
+        uniqueTaskList.add(new Task(td.cs2103Submission));
+        uniqueTaskList.add(new Task(td.planGradTrip));
+    }
+
+    @Test
+    public void contains_equivalentTask_returnsTrue() {
+        assertTrue(uniqueTaskList.contains(td.cs2103Tutorial));
+        assertTrue(uniqueTaskList.contains(new Task(td.planGradTrip)));
+        assertFalse(uniqueTaskList.contains(td.learnJava));
+    }
+
+    @Test
+    public void add_duplicateTask_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.add(new Task(td.cs2103Submission));
+    }
+
+    @Test
+    public void remove_middleTask_keepsLaterPositionsConsistent() throws Exception {
+        uniqueTaskList.remove(td.cs2103Submission);
+        assertFalse(uniqueTaskList.contains(td.cs2103Submission));
+
+        uniqueTaskList.completeTask(td.planGradTrip);
+        assertTrue(uniqueTaskList.asList().get(1).isTaskCompleted());
+
+        uniqueTaskList.remove(td.planGradTrip);
+        assertEquals(1, uniqueTaskList.asList().size());
+        assertTrue(uniqueTaskList.contains(td.cs2103Tutorial));
+    }
+
+    @Test
+    public void remove_missingTask_throwsTaskNotFoundException() throws Exception {
+        thrown.expect(TaskNotFoundException.class);
+        uniqueTaskList.remove(td.learnJava);
+    }
+
+    @Test
+    public void updateTask_validEdit_reindexesEditedTask() throws Exception {
+        uniqueTaskList.updateTask(td.cs2103Submission, td.learnJava);
+        assertFalse(uniqueTaskList.contains(td.cs2103Submission));
+        assertTrue(uniqueTaskList.contains(td.learnJava));
+        assertEquals(td.learnJava.getTitle(), uniqueTaskList.asList().get(1).getTitle());
+
+        uniqueTaskList.remove(td.learnJava);
+        assertEquals(2, uniqueTaskList.asList().size());
+    }
+
+    @Test
+    public void updateTask_toExistingTask_throwsDuplicateTaskException() throws Exception {
+        thrown.expect(DuplicateTaskException.class);
+        uniqueTaskList.updateTask(td.cs2103Submission, td.planGradTrip);
+    }
+
+    @Test
+    public void setTasks_replacement_copiesIndex() throws Exception {
+        UniqueTaskList replacement = new UniqueTaskList();
+        replacement.add(new Task(td.goGym));
+        uniqueTaskList.setTasks(replacement);
+
+        assertTrue(uniqueTaskList.contains(td.goGym));
+        assertFalse(uniqueTaskList.contains(td.cs2103Tutorial));
+        uniqueTaskList.remove(td.goGym);
+        assertTrue(uniqueTaskList.asList().isEmpty());
+    }
+
+    @Test
+    public void getFilteredTaskList_category_tasksOfCategory() {
+        assertCategory(Category.EVENT, td.cs2103Tutorial);
+        assertCategory(Category.DEADLINE, td.cs2103Submission);
+        assertCategory(Category.FLOAT, td.planGradTrip);
+        assertCategory(Category.COMPLETED);
+        assertSame(uniqueTaskList.getFilteredTaskList(Category.EVENT),
+                uniqueTaskList.getFilteredTaskList(Category.EVENT));
+    }
+
+    @Test
+    public void completeTask_task_movedToCompletedInListOrder() {
+        uniqueTaskList.completeTask(td.planGradTrip);
+        uniqueTaskList.completeTask(td.cs2103Tutorial);
+        assertCategory(Category.COMPLETED, td.cs2103Tutorial, td.planGradTrip);
+        assertCategory(Category.EVENT);
+        assertCategory(Category.FLOAT);
+
+        uniqueTaskList.completeTask(td.cs2103Tutorial);
+        assertCategory(Category.COMPLETED, td.planGradTrip);
+        assertCategory(Category.EVENT, td.cs2103Tutorial);
+    }
+
+    @Test
+    public void updateTask_newCategory_movedToNewCategoryInListOrder() throws Exception {
+        uniqueTaskList.updateTask(td.cs2103Submission, td.learnJava);
+        assertCategory(Category.DEADLINE);
+        assertCategory(Category.FLOAT, td.learnJava, td.planGradTrip);
+    }
+
+    @Test
+    public void remove_task_removedFromCategory() throws Exception {
+        uniqueTaskList.add(new Task(td.goGym));
+        uniqueTaskList.remove(td.planGradTrip);
+        assertCategory(Category.FLOAT, td.goGym);
+    }
+
+    @Test
+    public void setTasks_replacement_categoriesReplaced() throws Exception {
+        List<ReadOnlyTask> events = uniqueTaskList.getFilteredTaskList(Category.EVENT);
+        uniqueTaskList.setTasks(Arrays.asList(td.dbsInterview, td.goGym, td.hangOutJoe));
+
+        assertSame(events, uniqueTaskList.getFilteredTaskList(Category.EVENT));
+        assertCategory(Category.EVENT, td.dbsInterview, td.hangOutJoe);
+        assertCategory(Category.DEADLINE);
+        assertCategory(Category.FLOAT, td.goGym);
+    }
+
+    @Test
+    public void updateTask_sameCategory_taskUpdatedInPlace() throws Exception {
+        ReadOnlyTask submission = uniqueTaskList.get(td.cs2103Submission);
+        List<String> deadlineChanges = recordChanges(Category.DEADLINE);
+        List<String> taskChanges = new ListChangeRecorder<>(uniqueTaskList.asList()).getChanges();
+
+        Task edited = new Task(submission);
+        edited.setVenue(new Venue("COM2"));
+        uniqueTaskList.updateTask(submission, edited);
+
+        assertSame(submission, uniqueTaskList.asList().get(1));
+        assertEquals("COM2", submission.getVenue().get().toString());
+        assertEquals(Arrays.asList("updated 0"), deadlineChanges);
+        assertEquals(Arrays.asList("updated 1"), taskChanges);
+    }
+
+    @Test
+    public void completeTask_task_sameTaskMovedToCompleted() throws Exception {
+        ReadOnlyTask tutorial = uniqueTaskList.get(td.cs2103Tutorial);
+        List<String> eventChanges = recordChanges(Category.EVENT);
+        List<String> completedChanges = recordChanges(Category.COMPLETED);
+
+        assertSame(tutorial, uniqueTaskList.completeTask(tutorial));
+        assertTrue(tutorial.isTaskCompleted());
+        assertSame(tutorial, uniqueTaskList.getFilteredTaskList(Category.COMPLETED).get(0));
+        assertEquals(Arrays.asList("removed 0"), eventChanges);
+        assertEquals(Arrays.asList("added 0"), completedChanges);
+    }
+
+    /**
+     * Returns the list to which the changes to the tasks of {@code category} are to be recorded.
+     */
+    private List<String> recordChanges(Category category) {
+        return new ListChangeRecorder<>(uniqueTaskList.getFilteredTaskList(category)).getChanges();
+    }
+
+    /**
+     * Asserts that the tasks of {@code category} have the titles of {@code expected}, in order.
+     */
+    private void assertCategory(Category category, ReadOnlyTask... expected) {
+        assertEquals(Arrays.stream(expected).map(ReadOnlyTask::getTitle).collect(Collectors.toList()),
+                uniqueTaskList.getFilteredTaskList(category).stream().map(ReadOnlyTask::getTitle)
+                        .collect(Collectors.toList()));
+    }
+
+}
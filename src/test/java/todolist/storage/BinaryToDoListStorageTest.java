@@ -0,0 +1,277 @@
+package todolist.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.RandomAccessFile;
+import java.time.LocalDateTime;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import todolist.commons.core.Config;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.ArchivedTask;
+import todolist.model.task.Description;
+import todolist.model.task.EndTime;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.StartTime;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UrgencyLevel;
+import todolist.model.task.Venue;
+import todolist.testutil.TypicalTestTasks;
+
+public class BinaryToDoListStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void toBinaryFilePath_xmlFile_extensionReplaced() {
+        assertEquals("data/todolist.bin", BinaryToDoListStorage.toBinaryFilePath("data/todolist.xml"));
+        assertEquals("data/todolist.bin", BinaryToDoListStorage.toBinaryFilePath("data/todolist.bin"));
+        assertEquals("data/todolist.bin", BinaryToDoListStorage.toBinaryFilePath("data/todolist"));
+    }
+
+    @Test
+    public void readToDoList_missingFile_emptyResult() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "missing.bin").getPath();
+        assertFalse(new BinaryToDoListStorage(filePath).readToDoList().isPresent());
+    }
+
+    @Test
+    public void readAndSaveToDoList_typicalList_sameData() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "todolist.bin").getPath();
+        BinaryToDoListStorage storage = new BinaryToDoListStorage(filePath);
+        ToDoList original = new TypicalTestTasks().getTypicalTaskList();
+        original.addTask(new Task(new Title("Unicode é☃"), new Venue(""), null,
+                new EndTime(LocalDateTime.of(2017, 4, 17, 12, 0, 30, 123456789)), new UrgencyLevel(""),
+                new Description(""), new UniqueTagList("tag1", "tag2"), true));
+
+        storage.saveToDoList(original);
+        ReadOnlyToDoList readBack = storage.readToDoList().get();
+
+        assertEquals(original, new ToDoList(readBack));
+        assertEquals(original.getTagList(), new ToDoList(readBack).getTagList());
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            ReadOnlyTask expected = original.getTaskList().get(i);
+            ReadOnlyTask actual = readBack.getTaskList().get(i);
+            assertEquals(expected.getVenue(), actual.getVenue());
+            assertEquals(expected.getStartTime().map(StartTime::getTimeValue),
+                    actual.getStartTime().map(StartTime::getTimeValue));
+            assertEquals(expected.getEndTime().map(EndTime::getTimeValue),
+                    actual.getEndTime().map(EndTime::getTimeValue));
+            assertEquals(expected.getUrgencyLevel(), actual.getUrgencyLevel());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.isTaskCompleted(), actual.isTaskCompleted());
+            assertEquals(expected.getTags(), actual.getTags());
+        }
+        assertFalse(new File(filePath + ".tmp").exists());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_newerVersionWithLongerRecord_extraFieldsSkipped() throws Exception {
+        File file = testFolder.newFile();
+        ToDoList original = new TypicalTestTasks().getTypicalTaskList();
+        BinaryToDoListStorage.saveDataToFile(file, original);
+        File extendedFile = testFolder.newFile();
+        appendFieldToEveryRecord(file, extendedFile, original);
+
+        assertEquals(original, new ToDoList(BinaryToDoListStorage.loadDataFromSaveFile(extendedFile)));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_notBinary_dataConversionException() throws Exception {
+        File file = testFolder.newFile();
+        XmlStreamFileStorage.saveDataToFile(file, new TypicalTestTasks().getTypicalTaskList());
+        thrown.expect(DataConversionException.class);
+        BinaryToDoListStorage.loadDataFromSaveFile(file);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_unsupportedVersion_dataConversionException() throws Exception {
+        File file = testFolder.newFile();
+        BinaryToDoListStorage.saveDataToFile(file, new TypicalTestTasks().getTypicalTaskList());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.seek(4);
+            raf.writeInt(BinaryToDoListStorage.FORMAT_VERSION + 1);
+        }
+        thrown.expect(DataConversionException.class);
+        BinaryToDoListStorage.loadDataFromSaveFile(file);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_truncatedFile_dataConversionException() throws Exception {
+        File file = testFolder.newFile();
+        BinaryToDoListStorage.saveDataToFile(file, new TypicalTestTasks().getTypicalTaskList());
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            raf.setLength(raf.length() - 10);
+        }
+        thrown.expect(DataConversionException.class);
+        BinaryToDoListStorage.loadDataFromSaveFile(file);
+    }
+
+    @Test
+    public void mapDataFromSaveFile_completedTasks_leftInFile() throws Exception {
+        File file = testFolder.newFile();
+        ToDoList original = createListWithCompletedTasks();
+        BinaryToDoListStorage.saveDataToFile(file, original);
+
+        ReadOnlyToDoList mapped = BinaryToDoListStorage.mapDataFromSaveFile(file);
+        for (int i = 0; i < original.getTaskList().size(); i++) {
+            ReadOnlyTask expected = original.getTaskList().get(i);
+            ReadOnlyTask actual = mapped.getTaskList().get(i);
+            assertEquals(expected.isTaskCompleted(), actual instanceof ArchivedTask);
+            assertEquals(expected, actual);
+            assertEquals(expected.getVenue(), actual.getVenue());
+            assertEquals(expected.getStartTime(), actual.getStartTime());
+            assertEquals(expected.getEndTime(), actual.getEndTime());
+            assertEquals(expected.getUrgencyLevel(), actual.getUrgencyLevel());
+            assertEquals(expected.getDescription(), actual.getDescription());
+            assertEquals(expected.getTags(), actual.getTags());
+            assertEquals(expected.isTaskCompleted(), actual.isTaskCompleted());
+            assertEquals(expected.getTaskCategory(), actual.getTaskCategory());
+            assertEquals(expected.hashCode(), actual.hashCode());
+            assertEquals(expected.stateHashCode(), actual.stateHashCode());
+        }
+
+        // Archived tasks are shared, not copied, by the model
+        ToDoList model = new ToDoList(mapped);
+        assertEquals(original, model);
+        assertSame(mapped.getTaskList().get(0), model.getTaskList().get(0));
+    }
+
+    @Test
+    public void mapDataFromSaveFile_archivedTaskReopened_copiedIntoTask() throws Exception {
+        File file = testFolder.newFile();
+        BinaryToDoListStorage.saveDataToFile(file, createListWithCompletedTasks());
+        ToDoList model = new ToDoList(BinaryToDoListStorage.mapDataFromSaveFile(file));
+        ReadOnlyTask archivedTask = model.getTaskList().get(0);
+
+        ReadOnlyTask reopenedTask = model.completeTask(archivedTask);
+        assertTrue(reopenedTask instanceof Task);
+        assertFalse(reopenedTask.isTaskCompleted());
+        assertEquals(archivedTask, reopenedTask);
+        assertSame(reopenedTask, model.getTask(archivedTask));
+        assertEquals(1, model.getCompletedTasks().size());
+    }
+
+    @Test
+    public void readAndSaveToDoList_mappedFileReplaced_archivedTasksStillReadable() throws Exception {
+        assumeTrue(BinaryToDoListStorage.CAN_REPLACE_MAPPED_FILE);
+        String filePath = new File(testFolder.getRoot(), "todolist.bin").getPath();
+        BinaryToDoListStorage storage = new BinaryToDoListStorage(filePath, true);
+        ToDoList original = createListWithCompletedTasks();
+        storage.saveToDoList(original);
+        ToDoList model = new ToDoList(storage.readToDoList().get());
+
+        storage.saveToDoList(new ToDoList());
+        storage.saveToDoList(model);
+        assertEquals(original, model);
+        assertEquals(original, new ToDoList(storage.readToDoList().get()));
+    }
+
+    @Test
+    public void readAndSaveToDoList_mappedFileCannotBeReplaced_completedTasksReadIntoMemory() throws Exception {
+        String filePath = new File(testFolder.getRoot(), "todolist.bin").getPath();
+        BinaryToDoListStorage storage = new BinaryToDoListStorage(filePath, true, false);
+        assertFalse(storage.isCompletedTaskMapped());
+        ToDoList original = createListWithCompletedTasks();
+        storage.saveToDoList(original);
+
+        ReadOnlyToDoList read = storage.readToDoList().get();
+        assertTrue(read.getTaskList().stream().noneMatch(task -> task instanceof ArchivedTask));
+        ToDoList model = new ToDoList(read);
+        storage.saveToDoList(new ToDoList());
+        storage.saveToDoList(model);
+        assertEquals(original, new ToDoList(storage.readToDoList().get()));
+    }
+
+    /**
+     * Returns a list whose first and last tasks are completed.
+     */
+    private ToDoList createListWithCompletedTasks() throws Exception {
+        ToDoList toDoList = new ToDoList();
+        toDoList.addTask(new Task(new Title("Archived event"), new Venue("Hall"),
+                new StartTime(LocalDateTime.of(2017, 3, 1, 10, 0)), new EndTime(LocalDateTime.of(2017, 3, 1, 12, 0)),
+                new UrgencyLevel("2"), new Description("notes"), new UniqueTagList("tag1", "tag2"), true));
+        toDoList.addTask(new Task(new Title("Active float"), null, null, null, null, null, new UniqueTagList("tag1")));
+        toDoList.addTask(new Task(new Title("Archived float"), null, null, null, null, null, new UniqueTagList(),
+                true));
+        return toDoList;
+    }
+
+    @Test
+    public void migrateToDoList_xmlFileOnly_convertedToBinaryAndBack() throws Exception {
+        String xmlFilePath = new File(testFolder.getRoot(), "todolist.xml").getPath();
+        String binaryFilePath = BinaryToDoListStorage.toBinaryFilePath(xmlFilePath);
+        ToDoList original = new TypicalTestTasks().getTypicalTaskList();
+        new XmlToDoListStorage(xmlFilePath).saveToDoList(original);
+
+        StorageManager.migrateToDoList(Config.STORAGE_FORMAT_BINARY, xmlFilePath);
+        assertFalse(new File(xmlFilePath).exists());
+        assertTrue(new File(xmlFilePath + StorageManager.BACKUP_FILE_SUFFIX).exists());
+        assertEquals(original, new ToDoList(new BinaryToDoListStorage(binaryFilePath).readToDoList().get()));
+
+        // Already migrated
+        StorageManager.migrateToDoList(Config.STORAGE_FORMAT_BINARY, xmlFilePath);
+        assertTrue(new File(binaryFilePath).exists());
+
+        StorageManager.migrateToDoList(Config.STORAGE_FORMAT_XML, xmlFilePath);
+        assertFalse(new File(binaryFilePath).exists());
+        assertTrue(new File(binaryFilePath + StorageManager.BACKUP_FILE_SUFFIX).exists());
+        assertEquals(original, new ToDoList(new XmlToDoListStorage(xmlFilePath).readToDoList().get()));
+    }
+
+    /**
+     * Copies the binary file {@code from} to {@code to}, adding a field unknown to this version at the end
+     * of each task record, as a later version of the format might.
+     */
+    private void appendFieldToEveryRecord(File from, File to, ReadOnlyToDoList toDoList) throws Exception {
+        try (RandomAccessFile in = new RandomAccessFile(from, "r");
+             DataOutputStream out = new DataOutputStream(new FileOutputStream(to))) {
+            out.writeInt(in.readInt()); // magic
+            in.readInt();
+            out.writeInt(BinaryToDoListStorage.FORMAT_VERSION);
+            int dictionarySize = in.readInt();
+            out.writeInt(dictionarySize);
+            for (int i = 0; i < dictionarySize; i++) {
+                byte[] name = new byte[in.readInt()];
+                in.readFully(name);
+                out.writeInt(name.length);
+                out.write(name);
+            }
+            int tagCount = in.readInt();
+            out.writeInt(tagCount);
+            for (int i = 0; i < tagCount; i++) {
+                out.writeInt(in.readInt());
+            }
+            int taskCount = in.readInt();
+            assertEquals(toDoList.getTaskList().size(), taskCount);
+            out.writeInt(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                byte[] record = new byte[in.readInt()];
+                in.readFully(record);
+                out.writeInt(record.length + Long.BYTES);
+                out.write(record);
+                out.writeLong(Long.MAX_VALUE);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package todolist.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import todolist.commons.events.model.TaskChange;
+import todolist.commons.exceptions.DataConversionException;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.testutil.TypicalTestTasks;
+
+public class JournalToDoListStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String getTempFilePath(String fileName) {
+        return testFolder.getRoot().getPath() + File.separator + fileName;
+    }
+
+    @Test
+    public void readMissingFileEmptyResult() throws Exception {
+        assertFalse(new JournalToDoListStorage(getTempFilePath("missing.xml")).readToDoList().isPresent());
+    }
+
+    @Test
+    public void saveChangesThenRead_journalReplayed() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+        storage.saveToDoList(original);
+
+        Task added = new Task(td.ma3269Quiz);
+        original.addTask(added);
+        original.removeTask(td.goGym);
+        original.updateTask(td.cs2103Demo, td.cs2010PS6);
+        ReadOnlyTask completed = original.completeTask(td.learnJava);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.added(added), TaskChange.removed(td.goGym),
+                TaskChange.updated(td.cs2103Demo, td.cs2010PS6), TaskChange.completed(completed)));
+
+        assertTrue(new File(filePath + JournalToDoListStorage.JOURNAL_FILE_SUFFIX).exists());
+        ReadOnlyToDoList readBack = new JournalToDoListStorage(filePath).readToDoList().get();
+        assertEquals(original, new ToDoList(readBack));
+        assertTrue(new ToDoList(readBack).getTask(td.learnJava).isTaskCompleted());
+    }
+
+    @Test
+    public void saveChangesThenRead_taskAddedBack_positionKept() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+        storage.saveToDoList(original);
+
+        int position = original.indexOf(td.cs2103Demo);
+        original.removeTask(td.cs2103Demo);
+        Task addedBack = new Task(td.cs2103Demo);
+        original.addTask(position, addedBack);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.removed(td.cs2103Demo, position),
+                TaskChange.added(addedBack, position)));
+
+        ReadOnlyToDoList readBack = new JournalToDoListStorage(filePath).readToDoList().get();
+        assertEquals(original, new ToDoList(readBack));
+        assertEquals(position, new ToDoList(readBack).indexOf(td.cs2103Demo));
+    }
+
+    @Test
+    public void replayAfterFullSaveNotFinished_changesInSnapshotSkipped() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        File journalFile = new File(filePath + JournalToDoListStorage.JOURNAL_FILE_SUFFIX);
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+        storage.saveToDoList(original);
+
+        Task added = new Task(td.ma3269Quiz);
+        original.addTask(added);
+        original.updateTask(added, td.cs2010PS6);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.added(added),
+                TaskChange.updated(added, td.cs2010PS6)));
+        byte[] journal = Files.readAllBytes(journalFile.toPath());
+        // simulate a full save whose snapshot was written but whose journal was not yet deleted
+        storage.saveToDoList(original);
+        Files.write(journalFile.toPath(), journal);
+
+        ReadOnlyToDoList readBack = new JournalToDoListStorage(filePath).readToDoList().get();
+        assertEquals(original, new ToDoList(readBack));
+    }
+
+    @Test
+    public void saveChangesAfterRead_numberingContinued() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        new JournalToDoListStorage(filePath).saveToDoList(original);
+        original.removeTask(td.goGym);
+        new JournalToDoListStorage(filePath).saveToDoListChanges(original,
+                Arrays.asList(TaskChange.removed(td.goGym)));
+
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+        ToDoList readBack = new ToDoList(storage.readToDoList().get());
+        ReadOnlyTask completed = readBack.completeTask(td.learnJava);
+        storage.saveToDoListChanges(readBack, Arrays.asList(TaskChange.completed(completed)));
+
+        assertEquals(readBack, new ToDoList(new JournalToDoListStorage(filePath).readToDoList().get()));
+    }
+
+    @Test(expected = DataConversionException.class)
+    public void read_changeDoesNotApply_throwsDataConversionException() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+        storage.saveToDoList(original);
+
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.removed(td.ma3269Quiz)));
+
+        new JournalToDoListStorage(filePath).readToDoList();
+    }
+
+    @Test
+    public void compaction_foldsJournalIntoSnapshot() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath, 2);
+        storage.saveToDoList(original);
+
+        original.removeTask(td.goGym);
+        original.removeTask(td.learnJava);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.removed(td.goGym),
+                TaskChange.removed(td.learnJava)));
+        storage.awaitCompaction();
+
+        assertFalse(new File(filePath + JournalToDoListStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertFalse(new File(filePath + JournalToDoListStorage.COMPACTING_FILE_SUFFIX).exists());
+        assertEquals(original, new ToDoList(new XmlToDoListStorage(filePath).readToDoList().get()));
+
+        // the changes folded into the snapshot are not replayed again if the compacted journal is left behind
+        original.removeTask(td.cs2103Demo);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.removed(td.cs2103Demo)));
+        Files.write(new File(filePath + JournalToDoListStorage.COMPACTING_FILE_SUFFIX).toPath(),
+                Arrays.asList(JournalToDoListStorage.encode(1, TaskChange.removed(td.goGym)),
+                        JournalToDoListStorage.encode(2, TaskChange.removed(td.learnJava))));
+        assertEquals(original, new ToDoList(new JournalToDoListStorage(filePath).readToDoList().get()));
+    }
+
+    @Test
+    public void fullSave_discardsJournal() throws Exception {
+        String filePath = getTempFilePath("TempToDoList.xml");
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList original = td.getTypicalTaskList();
+        JournalToDoListStorage storage = new JournalToDoListStorage(filePath);
+
+        original.removeTask(td.goGym);
+        storage.saveToDoListChanges(original, Arrays.asList(TaskChange.removed(td.goGym)));
+        storage.saveToDoList(original);
+
+        assertFalse(new File(filePath + JournalToDoListStorage.JOURNAL_FILE_SUFFIX).exists());
+        assertEquals(original, new ToDoList(storage.readToDoList().get()));
+    }
+
+}
@@ -79,9 +79,61 @@ public class StorageManagerTest {
                 new JsonUserPrefsStorage("dummy"));
         EventsCollector eventCollector = new EventsCollector();
         storage.handleToDoListChangedEvent(new ToDoListChangedEvent(new ToDoList()));
+        storage.flush();
         assertTrue(eventCollector.get(0) instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleToDoListChangedEvent_burstOfChanges_savedOnce() throws Exception {
+        SaveCountingStub stub = new SaveCountingStub(getTempFilePath("burst.xml"));
+        Storage storage = new StorageManager(stub, new JsonUserPrefsStorage("dummy"));
+        ToDoList toDoList = new TypicalTestTasks().getTypicalTaskList();
+        for (int i = 0; i < 50; i++) {
+            storage.handleToDoListChangedEvent(new ToDoListChangedEvent(toDoList));
+        }
+        storage.flush();
+        assertEquals(1, stub.saveCount);
+        assertEquals(toDoList, new ToDoList(stub.readToDoList().get()));
+    }
+
+    @Test
+    public void handleToDoListChangedEvent_laterChange_latestStateSaved() throws Exception {
+        SaveCountingStub stub = new SaveCountingStub(getTempFilePath("latest.xml"));
+        Storage storage = new StorageManager(stub, new JsonUserPrefsStorage("dummy"));
+        TypicalTestTasks td = new TypicalTestTasks();
+        ToDoList toDoList = td.getTypicalTaskList();
+        storage.handleToDoListChangedEvent(new ToDoListChangedEvent(toDoList));
+        toDoList.removeTask(td.goGym);
+        storage.handleToDoListChangedEvent(new ToDoListChangedEvent(toDoList));
+        storage.flush();
+        assertEquals(toDoList, new ToDoList(stub.readToDoList().get()));
+    }
+
+    @Test
+    public void flush_nothingPending_nothingSaved() throws Exception {
+        SaveCountingStub stub = new SaveCountingStub(getTempFilePath("nothing.xml"));
+        new StorageManager(stub, new JsonUserPrefsStorage("dummy")).flush();
+        assertEquals(0, stub.saveCount);
+    }
+
+    /**
+     * A Stub class that counts the number of times the ToDoList is saved
+     */
+    class SaveCountingStub extends XmlToDoListStorage {
+
+        private volatile int saveCount = 0;
+
+        public SaveCountingStub(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveToDoList(ReadOnlyToDoList toDoList, String filePath) throws IOException {
+            saveCount++;
+            super.saveToDoList(toDoList, filePath);
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
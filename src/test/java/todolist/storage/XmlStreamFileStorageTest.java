@@ -0,0 +1,182 @@
+package todolist.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import todolist.commons.exceptions.DataConversionException;
+import todolist.commons.util.FileUtil;
+import todolist.model.ReadOnlyToDoList;
+import todolist.model.ToDoList;
+import todolist.model.tag.UniqueTagList;
+import todolist.model.task.Description;
+import todolist.model.task.ReadOnlyTask;
+import todolist.model.task.Task;
+import todolist.model.task.Title;
+import todolist.model.task.UniqueTaskList.DuplicateTaskException;
+import todolist.model.task.Venue;
+import todolist.testutil.JaxbUtil;
+import todolist.testutil.TaskBuilder;
+import todolist.testutil.TestUtil;
+import todolist.testutil.ToDoListBuilder;
+import todolist.testutil.TypicalTestTasks;
+
+public class XmlStreamFileStorageTest {
+    private static final String TEST_DATA_FOLDER = FileUtil.getPath("src/test/data/");
+    private static final File NOT_XML_FILE = new File(TEST_DATA_FOLDER
+            + "XmlToDoListStorageTest/NotXmlFormatToDoList.xml");
+    private static final File EMPTY_FILE = new File(TEST_DATA_FOLDER + "XmlStreamFileStorageTest/empty.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void saveDataToFile_typicalList_sameBytesAsJaxb() throws Exception {
+        ToDoList toDoList = new TypicalTestTasks().getTypicalTaskList();
+        toDoList.addTask(new Task(new Title("Escape <&> \"quotes\" 'and' \u00e9\u2603"), new Venue("a & b"), null,
+                null, null, new Description("x > y\ttab"), new UniqueTagList("tag1", "tag2")));
+        assertSameBytesAsJaxb(toDoList);
+    }
+
+    @Test
+    public void saveDataToFile_emptyList_sameBytesAsJaxb() throws Exception {
+        assertSameBytesAsJaxb(new ToDoList());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_jaxbFile_sameAsJaxbLoad() throws Exception {
+        File file = testFolder.newFile();
+        JaxbUtil.saveDataToFile(file, new TypicalTestTasks().getTypicalTaskList());
+
+        ToDoList expected = new ToDoList(JaxbUtil.loadDataFromFile(file));
+        ToDoList actual = new ToDoList(XmlStreamFileStorage.loadDataFromSaveFile(file));
+        assertEquals(expected, actual);
+        assertEquals(expected.getTagList(), actual.getTagList());
+        for (int i = 0; i < expected.getTaskList().size(); i++) {
+            ReadOnlyTask expectedTask = expected.getTaskList().get(i);
+            ReadOnlyTask actualTask = actual.getTaskList().get(i);
+            assertEquals(expectedTask.getVenue(), actualTask.getVenue());
+            assertEquals(expectedTask.getUrgencyLevel(), actualTask.getUrgencyLevel());
+            assertEquals(expectedTask.getDescription(), actualTask.getDescription());
+            assertEquals(expectedTask.isTaskCompleted(), actualTask.isTaskCompleted());
+            assertEquals(expectedTask.getTags(), actualTask.getTags());
+        }
+    }
+
+    @Test
+    public void loadDataFromSaveFile_unknownElementsAndAttributes_ignored() throws Exception {
+        File file = testFolder.newFile();
+        FileUtil.writeToFile(file, "<ToDoList><tasks><title isPrivate=\"false\">a</title><unknown><x/></unknown>"
+                + "</tasks><other>text</other><tags>friends</tags></ToDoList>");
+        ReadOnlyToDoList toDoList = XmlStreamFileStorage.loadDataFromSaveFile(file);
+        assertEquals("a", toDoList.getTaskList().get(0).getTitle().toString());
+        assertEquals(1, toDoList.getTagList().size());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_invalidTask_taskLeftOut() throws Exception {
+        File file = testFolder.newFile();
+        FileUtil.writeToFile(file, "<ToDoList><tasks><title>a</title><tagged>not a tag</tagged></tasks>"
+                + "<tasks><title>b</title><urgencyLevel>5</urgencyLevel></tasks>"
+                + "<tasks><title>c</title></tasks></ToDoList>");
+        ReadOnlyToDoList toDoList = XmlStreamFileStorage.loadDataFromSaveFile(file);
+        assertEquals(1, toDoList.getTaskList().size());
+        assertEquals("c", toDoList.getTaskList().get(0).getTitle().toString());
+    }
+
+    @Test
+    public void loadDataFromSaveFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(new File(testFolder.getRoot(), "missing.xml"));
+    }
+
+    @Test
+    public void loadDataFromSaveFile_notXml_dataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(NOT_XML_FILE);
+    }
+
+    @Test
+    public void loadDataFromSaveFile_emptyFile_dataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        XmlStreamFileStorage.loadDataFromSaveFile(EMPTY_FILE);
+    }
+
+    @Test
+    public void saveDataToFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlStreamFileStorage.saveDataToFile(new File(testFolder.getRoot(), "missing.xml"), new ToDoList());
+    }
+
+    @Test
+    public void saveDataToFile_typicalListWithTag_readBackEqual() throws Exception {
+        File file = testFolder.newFile();
+        ToDoList toDoList = new ToDoListBuilder(new TypicalTestTasks().getTypicalTaskList()).withTag("Friends").build();
+        XmlStreamFileStorage.saveDataToFile(file, toDoList);
+        ToDoList read = new ToDoList(XmlStreamFileStorage.loadDataFromSaveFile(file));
+        assertEquals(toDoList, read);
+        assertEquals(toDoList.getTagList(), read.getTagList());
+    }
+
+    @Test
+    public void saveDataToFile_taskWithoutOptionalFields_readBackAbsentAndDuplicate() throws Exception {
+        File file = testFolder.newFile();
+        ToDoList toDoList = new ToDoList();
+        toDoList.addTask(new TaskBuilder().withTitle("buy milk").buildTask());
+        XmlStreamFileStorage.saveDataToFile(file, toDoList);
+
+        ToDoList read = new ToDoList(XmlStreamFileStorage.loadDataFromSaveFile(file));
+        ReadOnlyTask readTask = read.getTaskList().get(0);
+        assertFalse(readTask.getVenue().isPresent());
+        assertFalse(readTask.getUrgencyLevel().isPresent());
+        assertFalse(readTask.getDescription().isPresent());
+        thrown.expect(DuplicateTaskException.class);
+        read.addTask(new TaskBuilder().withTitle("buy milk").buildTask());
+    }
+
+    @Test
+    public void saveDataToFile_concurrentThreads_dataSaved() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<ToDoList>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            File file = testFolder.newFile();
+            results.add(executor.submit(() -> {
+                ToDoList data = new ToDoListBuilder(new ToDoList())
+                        .withTask(TestUtil.generateSampleTaskData().get(0)).withTag("Friends").build();
+                XmlStreamFileStorage.saveDataToFile(file, data);
+                XmlStreamFileStorage.saveDataToFile(file, data);
+                return new ToDoList(XmlStreamFileStorage.loadDataFromSaveFile(file));
+            }));
+        }
+        executor.shutdown();
+        for (Future<ToDoList> result : results) {
+            assertEquals(results.get(0).get(), result.get());
+        }
+    }
+
+    private void assertSameBytesAsJaxb(ToDoList toDoList) throws Exception {
+        File jaxbFile = testFolder.newFile();
+        File streamFile = testFolder.newFile();
+        JaxbUtil.saveDataToFile(jaxbFile, toDoList);
+        XmlStreamFileStorage.saveDataToFile(streamFile, toDoList);
+        assertArrayEquals(Files.readAllBytes(jaxbFile.toPath()), Files.readAllBytes(streamFile.toPath()));
+    }
+
+}
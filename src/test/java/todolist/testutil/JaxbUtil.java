@@ -0,0 +1,31 @@
+package todolist.testutil;
+
+import java.io.File;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import todolist.model.ReadOnlyToDoList;
+import todolist.storage.XmlSerializableToDoList;
+import todolist.storage.XmlStreamFileStorage;
+
+/**
+ * Reads and writes to-do list files through JAXB and {@link XmlSerializableToDoList}, as the app did before
+ * {@link XmlStreamFileStorage}, so that tests and benchmarks can compare the two.
+ * A new {@link JAXBContext} is created for every file, as it was then.
+ */
+public class JaxbUtil {
+
+    public static void saveDataToFile(File file, ReadOnlyToDoList todoList) throws JAXBException {
+        Marshaller marshaller = JAXBContext.newInstance(XmlSerializableToDoList.class).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(new XmlSerializableToDoList(todoList), file);
+    }
+
+    public static ReadOnlyToDoList loadDataFromFile(File file) throws JAXBException {
+        return (XmlSerializableToDoList) JAXBContext.newInstance(XmlSerializableToDoList.class)
+                .createUnmarshaller().unmarshal(file);
+    }
+
+}
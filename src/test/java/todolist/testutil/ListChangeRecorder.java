@@ -0,0 +1,76 @@
+package todolist.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import todolist.commons.core.ListObserver;
+import todolist.commons.core.ObservedList;
+
+/**
+ * A class that records the changes reported by an observed list, and makes them to a copy of it,
+ * so that tests can check both what was reported and that it was enough to follow the list.
+ */
+public class ListChangeRecorder<E> implements ListObserver<E> {
+
+    private final ObservedList<E> list;
+    private final List<E> mirror;
+    private final List<String> changes = new ArrayList<>();
+
+    public ListChangeRecorder(ObservedList<E> list) {
+        this.list = list;
+        this.mirror = new ArrayList<>(list);
+        list.addObserver(this);
+    }
+
+    @Override
+    public void added(int index, E element) {
+        mirror.add(index, element);
+        changes.add("added " + index);
+    }
+
+    @Override
+    public void removed(int index, E element) {
+        mirror.remove(index);
+        changes.add("removed " + index);
+    }
+
+    @Override
+    public void replaced(int index, E oldElement) {
+        mirror.set(index, list.get(index));
+        changes.add("replaced " + index);
+    }
+
+    @Override
+    public void updated(int index) {
+        changes.add("updated " + index);
+    }
+
+    @Override
+    public void reset(List<? extends E> oldElements) {
+        mirror.clear();
+        mirror.addAll(list);
+        changes.add("reset");
+    }
+
+    /**
+     * Returns the changes recorded, one per change reported.
+     */
+    public List<String> getChanges() {
+        return changes;
+    }
+
+    /**
+     * Returns the copy of the list that the changes reported were made to.
+     */
+    public List<E> getMirror() {
+        return mirror;
+    }
+
+    /**
+     * Removes the changes recorded so far.
+     */
+    public void clear() {
+        changes.clear();
+    }
+
+}
@@ -1,11 +1,14 @@
 package todolist.testutil;
 
+import java.time.LocalDateTime;
+
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.model.tag.Tag;
 import todolist.model.tag.UniqueTagList;
 import todolist.model.task.Description;
 import todolist.model.task.EndTime;
 import todolist.model.task.StartTime;
+import todolist.model.task.Task;
 import todolist.model.task.Title;
 import todolist.model.task.UrgencyLevel;
 import todolist.model.task.Venue;
@@ -47,6 +50,11 @@ public class TaskBuilder {
         return this;
     }
 
+    public TaskBuilder withEndTime(LocalDateTime endTime) {
+        this.task.setEndTime(new EndTime(endTime));
+        return this;
+    }
+
     public TaskBuilder withVenue(String venue) throws IllegalValueException {
         this.task.setVenue(new Venue(venue));
         return this;
@@ -57,6 +65,11 @@ public class TaskBuilder {
         return this;
     }
 
+    public TaskBuilder withStartTime(LocalDateTime startTime) {
+        this.task.setStartTime(new StartTime(startTime));
+        return this;
+    }
+
     public TaskBuilder withUrgencyLevel(String urgencyLevel) throws IllegalValueException {
         this.task.setUrgencyLevel(new UrgencyLevel(urgencyLevel));
         return this;
@@ -71,6 +84,15 @@ public class TaskBuilder {
         return this.task;
     }
 
+    /**
+     * Returns a model {@link Task} with the details given, for tests that change task lists directly.
+     */
+    public Task buildTask() {
+        return new Task(task.getTitle(), task.getVenue().orElse(null), task.getStartTime().orElse(null),
+                task.getEndTime().orElse(null), task.getUrgencyLevel().orElse(null),
+                task.getDescription().orElse(null), task.getTags(), Boolean.TRUE.equals(task.isTaskCompleted()));
+    }
+
     //@@author A0122017Y
     public TaskBuilder withCompleteStatus(String status) {
         if (status.equalsIgnoreCase(BOOLEAN_STRING_TRUE)) {
@@ -171,7 +171,7 @@ public class TestTask implements ReadOnlyTask {
         if (this.getDescription().isPresent()) {
             sb.append("/description " + this.getDescription().get() + " ");
         }
-        this.getTags().asObservableList().stream().forEach(s -> sb.append("#" + s.tagName + " "));
+        this.getTags().asList().stream().forEach(s -> sb.append("#" + s.tagName + " "));
         return sb.toString();
     }
 
@@ -26,9 +26,10 @@ import javafx.scene.input.KeyCodeCombination;
 import javafx.scene.input.KeyCombination;
 import junit.framework.AssertionFailedError;
 import todolist.TestApp;
+import todolist.commons.core.ObservedList;
 import todolist.commons.exceptions.IllegalValueException;
 import todolist.commons.util.FileUtil;
-import todolist.commons.util.XmlUtil;
+import todolist.model.ReadOnlyToDoList;
 import todolist.model.ToDoList;
 import todolist.model.tag.Tag;
 import todolist.model.tag.UniqueTagList;
@@ -40,7 +41,7 @@ import todolist.model.task.Task;
 import todolist.model.task.Title;
 import todolist.model.task.UrgencyLevel;
 import todolist.model.task.Venue;
-import todolist.storage.XmlSerializableToDoList;
+import todolist.storage.XmlStreamFileStorage;
 
 /**
  * A utility class for test cases.
@@ -153,11 +154,11 @@ public class TestUtil {
         createDataFileWithData(generateSampleStorageToDoList(), filePath);
     }
 
-    public static <T> void createDataFileWithData(T data, String filePath) {
+    public static void createDataFileWithData(ReadOnlyToDoList data, String filePath) {
         try {
             File saveFileForTesting = new File(filePath);
             FileUtil.createIfMissing(saveFileForTesting);
-            XmlUtil.saveDataToFile(saveFileForTesting, data);
+            XmlStreamFileStorage.saveDataToFile(saveFileForTesting, data);
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -167,8 +168,8 @@ public class TestUtil {
         createDataFileWithSampleData(TestApp.SAVE_LOCATION_FOR_TESTING);
     }
 
-    public static XmlSerializableToDoList generateSampleStorageToDoList() {
-        return new XmlSerializableToDoList(new ToDoList());
+    public static ReadOnlyToDoList generateSampleStorageToDoList() {
+        return new ToDoList();
     }
 
     /**
@@ -247,6 +248,17 @@ public class TestUtil {
         return method;
     }
 
+    /**
+     * Returns the number of observers of {@code list}.
+     *
+     * Caveat: relies on the private field of {@link ObservedList} that holds them
+     */
+    public static int getObserverCount(ObservedList<?> list) throws ReflectiveOperationException {
+        Field observers = ObservedList.class.getDeclaredField("observers");
+        observers.setAccessible(true);
+        return ((List<?>) observers.get(list)).size();
+    }
+
     public static void renameFile(File file, String newFileTitle) {
         try {
             Files.copy(file, new File(newFileTitle));
@@ -0,0 +1,117 @@
+package todolist.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static todolist.testutil.TestUtil.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import todolist.commons.core.UpdatableList;
+
+public class ObservableListAdapterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private UpdatableList<Integer> backing;
+    private ObservableListAdapter<Integer> list;
+
+    @Before
+    public void setUp() {
+        backing = new UpdatableList<>();
+        backing.append(10);
+        list = new ObservableListAdapter<>(backing);
+    }
+
+    @Test
+    public void transformationListGeneratorsCorrectBackingList() {
+        assertSame(list.sorted().getSource(), list);
+        assertSame(list.filtered(i -> true).getSource(), list);
+    }
+
+    @Test
+    public void mutatingMethodsDisabled() {
+
+        final Class<UnsupportedOperationException> ex = UnsupportedOperationException.class;
+        final List<Integer> elements = Arrays.asList(10);
+
+        assertThrows(ex, () -> list.add(0, 2));
+        assertThrows(ex, () -> list.add(3));
+
+        assertThrows(ex, () -> list.addAll(2, 1));
+        assertThrows(ex, () -> list.addAll(elements));
+        assertThrows(ex, () -> list.addAll(0, elements));
+
+        assertThrows(ex, () -> list.set(0, 2));
+
+        assertThrows(ex, () -> list.setAll(new ArrayList<Integer>()));
+        assertThrows(ex, () -> list.setAll(1, 2));
+
+        assertThrows(ex, () -> list.remove(0, 1));
+        assertThrows(ex, () -> list.remove(Integer.valueOf(10)));
+        assertThrows(ex, () -> list.remove(0));
+
+        assertThrows(ex, () -> list.removeAll(elements));
+        assertThrows(ex, () -> list.removeAll(10));
+
+        assertThrows(ex, () -> list.retainAll(Collections.emptyList()));
+        assertThrows(ex, () -> list.retainAll(1, 2));
+
+        assertThrows(ex, () -> list.replaceAll(i -> 1));
+
+        assertThrows(ex, () -> list.sort(Comparator.naturalOrder()));
+
+        assertThrows(ex, () -> list.clear());
+
+        final Iterator<Integer> iter = list.iterator();
+        iter.next();
+        assertThrows(ex, iter::remove);
+
+        final ListIterator<Integer> liter = list.listIterator();
+        liter.next();
+        assertThrows(ex, liter::remove);
+        assertThrows(ex, () -> liter.add(5));
+        assertThrows(ex, () -> liter.set(3));
+        assertThrows(ex, () -> list.removeIf(i -> true));
+    }
+
+    @Test
+    public void backingListChanged_changesForwarded() {
+        List<String> changes = new ArrayList<>();
+        list.addListener((ListChangeListener<Integer>) c -> {
+            while (c.next()) {
+                if (c.wasUpdated()) {
+                    changes.add("updated " + c.getFrom());
+                } else if (c.wasReplaced()) {
+                    changes.add("replaced " + c.getFrom() + " " + c.getRemoved() + " " + c.getAddedSubList());
+                } else if (c.wasRemoved()) {
+                    changes.add("removed " + c.getFrom() + " " + c.getRemoved());
+                } else {
+                    changes.add("added " + c.getFrom() + " " + c.getAddedSubList());
+                }
+            }
+        });
+
+        backing.insert(0, 5);
+        backing.updated(1);
+        backing.replace(1, 20);
+        backing.delete(0);
+        backing.setAll(Arrays.asList(1, 2));
+
+        assertEquals(Arrays.asList("added 0 [5]", "updated 1", "replaced 1 [10] [20]", "removed 0 [5]",
+                "replaced 0 [20] [1, 2]"), changes);
+        assertEquals(Arrays.asList(1, 2), list);
+    }
+}